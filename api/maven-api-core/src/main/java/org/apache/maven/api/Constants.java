@@ -81,6 +81,24 @@ public final class Constants {
     @Config(readOnly = true, source = Config.Source.SYSTEM_PROPERTIES)
     public static final String MAVEN_BUILD_VERSION = "maven.build.version";
 
+    /**
+     * Maven class data sharing archive: set by the launcher script when Maven is started with {@code --cds},
+     * contains the path of the archive this JVM maps (or records, see {@code maven.cds.recording}).
+     *
+     * @since 4.1.0
+     */
+    @Config(readOnly = true, source = Config.Source.SYSTEM_PROPERTIES)
+    public static final String MAVEN_CDS_ARCHIVE = "maven.cds.archive";
+
+    /**
+     * Maven class data sharing training run: contains "true" if this JVM records the class data sharing archive
+     * on exit, as no valid archive existed yet for this Maven installation and JDK.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", readOnly = true, source = Config.Source.SYSTEM_PROPERTIES)
+    public static final String MAVEN_CDS_RECORDING = "maven.cds.recording";
+
     /**
      * Maven installation configuration directory.
      *
@@ -408,6 +426,22 @@ public final class Constants {
     @Config(defaultValue = "false")
     public static final String MAVEN_REPO_LOCAL_RECORD_REVERSE_TREE = "maven.repo.local.recordReverseTree";
 
+    /**
+     * User property for the local repository index. If enabled, Maven keeps a binary index file at the root of
+     * each local repository, recording the size, modification time and checksum of the artifacts and metadata
+     * written to it and the content of their origin tracking files, so artifact lookups do not have to read the
+     * tracking files again.
+     * <br/>
+     * Supported values: <code>false</code> (no index), <code>true</code> (use and update the index),
+     * <code>rebuild</code> (recreate the index from the repository content before the build) and
+     * <code>verify</code> (check the indexed files against the repository before the build, and drop stale
+     * entries).
+     *
+     * @since 4.1.0
+     */
+    @Config(defaultValue = "false")
+    public static final String MAVEN_REPO_LOCAL_INDEX = "maven.repo.local.index";
+
     /**
      * User property for selecting dependency manager behaviour regarding transitive dependencies and dependency
      * management entries in their POMs. Maven 3 targeted full backward compatibility with Maven 2. Hence, it ignored
@@ -652,6 +686,45 @@ public final class Constants {
     @Config(type = "java.lang.Boolean", defaultValue = "false")
     public static final String MAVEN_LOGGER_CACHE_OUTPUT_STREAM = MAVEN_LOGGER_PREFIX + "cacheOutputStream";
 
+    /**
+     * If set to true, log records are formatted on the logging thread and handed to a single writer thread
+     * through a bounded buffer, instead of being written to the output under a lock. This reduces contention
+     * of parallel builds with many threads on slow consoles. The buffer is flushed when the build ends and
+     * when the {@code --fail-on-severity} threshold is met.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_LOGGER_ASYNC = MAVEN_LOGGER_PREFIX + "async";
+
+    /**
+     * The number of log records the asynchronous writer buffers before logging threads have to wait for it,
+     * see {@code maven.logger.async}.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "8192")
+    public static final String MAVEN_LOGGER_ASYNC_BUFFER_SIZE = MAVEN_LOGGER_PREFIX + "asyncBufferSize";
+
+    /**
+     * If set to true, the log output of each project is buffered while the project builds and written as one
+     * contiguous block when it finishes, so the output of parallel builds is not interleaved. On interactive
+     * consoles, a status line per building project shows the progress meanwhile.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_LOGGER_GROUP_BY_PROJECT = MAVEN_LOGGER_PREFIX + "groupByProject";
+
+    /**
+     * The number of characters of a project log buffered in memory before it is spooled to a temporary file,
+     * see {@code maven.logger.groupByProject}.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1048576")
+    public static final String MAVEN_LOGGER_GROUP_SPOOL_THRESHOLD = MAVEN_LOGGER_PREFIX + "groupSpoolThreshold";
+
     /**
      * maven.logger.log.a.b.c - Logging detail level for a SimpleLogger instance named "a.b.c". Right-side value
      * must be one of "trace", "debug", "info", "warn", "error" or "off". When a logger named "a.b.c" is initialized,
@@ -727,5 +800,153 @@ public final class Constants {
      */
     public static final String MAVEN_MODEL_PROCESSOR_REFERENCE_TYPE_PREFIX = "maven.model.processor.referenceType.";
 
+    /**
+     * User property to enable asynchronous dispatch of events to event spies implementing
+     * {@code org.apache.maven.eventspy.AsyncEventSpy}: events are queued and delivered on a dedicated thread
+     * per spy, so slow spies do not stall the build. Other spies are still invoked synchronously.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_EVENTSPY_ASYNC = "maven.eventspy.async";
+
+    /**
+     * User property for the number of events queued per asynchronous event spy, see {@code maven.eventspy.async}.
+     * Must be a positive integer.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1024")
+    public static final String MAVEN_EVENTSPY_ASYNC_QUEUE_SIZE = "maven.eventspy.asyncQueueSize";
+
+    /**
+     * User property for the maximum time in milliseconds the build waits for queue space of a lagging
+     * asynchronous event spy before the event is dropped for that spy, see {@code maven.eventspy.async}.
+     * Must be a non-negative integer, {@code 0} drops the events a lagging spy has no room for right away.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "100")
+    public static final String MAVEN_EVENTSPY_ASYNC_MAX_WAIT = "maven.eventspy.asyncMaxWait";
+
+    /**
+     * User property for recording a trace of the build: the Chrome trace-event JSON file, resolved against the
+     * top directory, receiving the timing of project building, dependency resolution, plugin realm setup, mojo
+     * configuration and mojo execution per thread. The same spans are emitted as {@code org.apache.maven.Span}
+     * JFR events whenever a flight recording is running, regardless of this property.
+     *
+     * @since 4.1.0
+     */
+    @Config
+    public static final String MAVEN_TELEMETRY_TRACE_FILE = "maven.telemetry.traceFile";
+
+    /**
+     * User property selecting how artifact files are placed into the local repository and the project-local
+     * repository: {@code copy} always copies, {@code update} skips files whose installed copy has the same size
+     * and modification time, and {@code link} additionally installs changed files into the project-local repository
+     * as hard links when source and repository are on the same file store, falling back to a copy. POM files are
+     * always copied. The local repository is never linked, {@code link} behaves as {@code update} there: a linked
+     * file is shared with the build output, so a plugin rewriting an artifact file in place would also change the
+     * artifact every other build resolves. In the project-local repository this is accepted.
+     *
+     * @since 4.1.0
+     */
+    @Config(defaultValue = "copy")
+    public static final String MAVEN_INSTALL_MODE = "maven.install.mode";
+
+    /**
+     * User property for the number of artifact files of one installation request written in parallel to the
+     * local repository, in every {@code maven.install.mode}. The files are placed under a sync context before the
+     * installation by the resolver, which then skips them. It must be a positive integer.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "4")
+    public static final String MAVEN_INSTALL_PARALLELISM = "maven.install.parallelism";
+
+    /**
+     * User property for deferring deployments to the end of the build. When enabled, the artifacts handed to the
+     * artifact deployer are checked and queued, and all of them are uploaded once every project of the reactor
+     * has been built successfully. Nothing is uploaded if the build fails.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_DEPLOY_DEFERRED = "maven.deploy.deferred";
+
+    /**
+     * User property for the number of deferred deployments uploaded in parallel, see
+     * {@code maven.deploy.deferred}. It must be a positive integer.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "4")
+    public static final String MAVEN_DEPLOY_PARALLELISM = "maven.deploy.parallelism";
+
+    /**
+     * User property to display transfer statistics at the end of the build: number of downloads and uploads,
+     * transferred bytes, throughput, and the latency distribution of the transfers of each repository.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_TRANSFER_STATS = "maven.transfer.stats";
+
+    /**
+     * User property enabling the concurrent execution of independent mojos of the same project with the concurrent
+     * builder. Adjacent executions of a phase declared independent with {@code maven.builder.independentMojos} run
+     * concurrently on the build threads, the other executions keep running in order.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_CONCURRENT_MOJOS = "maven.builder.concurrentMojos";
+
+    /**
+     * Comma-separated list of the mojos which neither consume nor produce the outputs of the other mojos bound to the
+     * same phase, in the form {@code groupId:artifactId} or {@code groupId:artifactId:goal}. It can be defined as a
+     * user property or as a project property. Only thread-safe, non-aggregating and non-forking mojos are executed
+     * concurrently, see {@code maven.builder.concurrentMojos}.
+     *
+     * @since 4.1.0
+     */
+    @Config
+    public static final String MAVEN_BUILDER_INDEPENDENT_MOJOS = "maven.builder.independentMojos";
+
+    /**
+     * User property enabling the adaptive concurrency of parallel builds. The thread count given with {@code -T} is
+     * then the maximum number of steps executing concurrently, and the actual number is adapted while the build runs,
+     * from the system load, the heap usage and the share of I/O bound steps. It is enabled by {@code -T auto}.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_ADAPTIVE_CONCURRENCY = "maven.builder.adaptiveConcurrency";
+
+    /**
+     * User property setting the memory budget of the concurrent builder, either as a size such as {@code 6g} or
+     * {@code 512m}, or as a percentage of the maximum heap such as {@code 70%}. The heap footprint of each mojo
+     * execution, the growth of the used heap bounded by the bytes the mojo allocated, is recorded in
+     * {@code target/maven-memory.properties} of the top level project, and a build step is only started when the
+     * footprints predicted from the previous builds for the running steps fit in the budget. A step exceeding the
+     * budget on its own runs alone. Unset by default, which disables the budget.
+     *
+     * @since 4.1.0
+     */
+    @Config
+    public static final String MAVEN_BUILDER_MEMORY_BUDGET = "maven.builder.memoryBudget";
+
+    /**
+     * User property enabling the pipelining of the concurrent builder: the {@code compile} phase of a project starts
+     * as soon as its upstream projects are {@code ready}, and compiles against their output directories, while their
+     * tests and packaging continue in parallel. The content of these output directories is checked again once the
+     * upstream projects are packaged, at the latest when the downstream project ends; if it changed, the
+     * {@code compile} phase of the downstream project and every phase executed after it are executed again.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_PIPELINING = "maven.builder.pipelining";
+
     private Constants() {}
 }
@@ -55,4 +55,29 @@ default void deploy(
             @Nonnull Collection<ProducedArtifact> artifacts) {
         deploy(ArtifactDeployerRequest.build(session, repository, artifacts));
     }
+
+    /**
+     * Uploads the deployments deferred in the session, see {@link org.apache.maven.api.Constants#MAVEN_DEPLOY_DEFERRED}.
+     * Called once at the end of a successful build.
+     *
+     * @param session the session
+     * @return the number of uploaded artifacts
+     * @throws ArtifactDeployerException if some deployments failed
+     * @since 4.1.0
+     */
+    default int deployDeferred(@Nonnull Session session) {
+        return 0;
+    }
+
+    /**
+     * Drops the deployments deferred in the session, called at the end of a failed build instead of
+     * {@link #deployDeferred(Session)}.
+     *
+     * @param session the session
+     * @return the number of dropped artifacts
+     * @since 4.1.0
+     */
+    default int discardDeferred(@Nonnull Session session) {
+        return 0;
+    }
 }
@@ -29,12 +29,14 @@
 import org.apache.maven.api.services.model.LifecycleBindingsInjector;
 import org.apache.maven.bridge.MavenRepositorySystem;
 import org.apache.maven.model.root.RootLocator;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.eclipse.aether.RepositorySystem;
 
 @Named("classpath")
 @Singleton
 @Deprecated
 public class TestProjectBuilder extends DefaultProjectBuilder {
+    @SuppressWarnings("checkstyle:ParameterNumber")
     @Inject
     public TestProjectBuilder(
             ModelBuilder modelBuilder,
@@ -43,7 +45,8 @@ public TestProjectBuilder(
             RepositorySystem repoSystem,
             ProjectDependenciesResolver dependencyResolver,
             RootLocator rootLocator,
-            LifecycleBindingsInjector lifecycleBindingsInjector) {
+            LifecycleBindingsInjector lifecycleBindingsInjector,
+            BuildTelemetry telemetry) {
         super(
                 modelBuilder,
                 projectBuildingHelper,
@@ -51,7 +54,8 @@ public TestProjectBuilder(
                 repoSystem,
                 dependencyResolver,
                 rootLocator,
-                lifecycleBindingsInjector);
+                lifecycleBindingsInjector,
+                telemetry);
     }
 
     @Override
@@ -135,6 +135,7 @@ public class CLIManager {
     public static final String DEBUG = "debug";
     public static final String ENC = "enc";
     public static final String YJP = "yjp";
+    public static final String CDS = "cds";
 
     protected Options options;
     protected final Set<Option> usedDeprecatedOptions = new LinkedHashSet<>();
@@ -352,6 +353,10 @@ public CLIManager() {
                 .longOpt(YJP)
                 .desc("Launch the JVM with Yourkit profiler (script option).")
                 .build());
+        options.addOption(Option.builder()
+                .longOpt(CDS)
+                .desc("Launch the JVM with a class data sharing archive recorded on the first run (script option).")
+                .build());
 
         // Adding this back to make Maven fail if used
         options.addOption(Option.builder("llr")
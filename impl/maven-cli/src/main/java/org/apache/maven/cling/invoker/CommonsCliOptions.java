@@ -327,6 +327,7 @@ protected static class CLIManager {
         public static final String UPGRADE = "up";
         public static final String SHELL = "shell";
         public static final String YJP = "yjp";
+        public static final String CDS = "cds";
 
         // deprecated ones
         @Deprecated
@@ -458,6 +459,10 @@ protected void prepareOptions(org.apache.commons.cli.Options options) {
                     .longOpt(YJP)
                     .desc("Launch the JVM with Yourkit profiler (script option).")
                     .get());
+            options.addOption(Option.builder()
+                    .longOpt(CDS)
+                    .desc("Launch the JVM with a class data sharing archive recorded on the first run (script option).")
+                    .get());
 
             // Deprecated
             options.addOption(Option.builder(ALTERNATE_GLOBAL_SETTINGS)
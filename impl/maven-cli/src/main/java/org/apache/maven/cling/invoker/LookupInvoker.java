@@ -81,14 +81,18 @@
 import org.apache.maven.logging.BuildEventListener;
 import org.apache.maven.logging.LoggingOutputStream;
 import org.apache.maven.logging.ProjectBuildLogAppender;
+import org.apache.maven.logging.ProjectGroupingBuildEventListener;
 import org.apache.maven.logging.SimpleBuildEventListener;
 import org.apache.maven.logging.api.LogLevelRecorder;
+import org.apache.maven.slf4j.AsyncLogWriter;
 import org.apache.maven.slf4j.MavenSimpleLogger;
 import org.codehaus.plexus.PlexusContainer;
 import org.jline.terminal.Terminal;
 import org.jline.terminal.TerminalBuilder;
 import org.jline.terminal.impl.AbstractPosixTerminal;
 import org.jline.terminal.spi.TerminalExt;
+import org.jline.utils.AttributedString;
+import org.jline.utils.Status;
 import org.slf4j.LoggerFactory;
 import org.slf4j.spi.LocationAwareLogger;
 
@@ -102,6 +106,11 @@
  * @param <C> The context type.
  */
 public abstract class LookupInvoker<C extends LookupContext> implements Invoker {
+    /**
+     * The thread configuration enabling the adaptive concurrency, with up to twice as many threads as processors.
+     */
+    protected static final String AUTO_THREADS = "auto";
+
     protected final Lookup protoLookup;
 
     @Nullable
@@ -282,6 +291,8 @@ protected void configureLogging(C context) throws Exception {
         }
 
         context.loggerFactory = LoggerFactory.getILoggerFactory();
+        // write the records still buffered by the asynchronous loggers once everything else is closed
+        context.closeables.add(AsyncLogWriter::closeAll);
         context.slf4jConfiguration = Slf4jConfigurationFactory.getConfiguration(context.loggerFactory);
 
         if (context.invokerRequest.effectiveVerbose()) {
@@ -306,7 +317,38 @@ protected BuildEventListener determineBuildEventListener(C context) {
 
     protected BuildEventListener doDetermineBuildEventListener(C context) {
         Consumer<String> writer = determineWriter(context);
-        return new SimpleBuildEventListener(writer);
+        BuildEventListener listener = new SimpleBuildEventListener(writer);
+        Map<String, String> effectiveProperties = context.protoSession.getEffectiveProperties();
+        if (Boolean.parseBoolean(effectiveProperties.get(Constants.MAVEN_LOGGER_GROUP_BY_PROJECT))) {
+            ProjectGroupingBuildEventListener grouping = new ProjectGroupingBuildEventListener(
+                    listener,
+                    Integer.parseInt(effectiveProperties.getOrDefault(
+                            Constants.MAVEN_LOGGER_GROUP_SPOOL_THRESHOLD,
+                            String.valueOf(ProjectGroupingBuildEventListener.DEFAULT_SPOOL_THRESHOLD))),
+                    determineStatusDisplay(context));
+            context.closeables.add(grouping);
+            listener = grouping;
+        }
+        return listener;
+    }
+
+    /**
+     * Returns the display of the one-line-per-project status of grouped output, or {@code null} if the output
+     * does not go to an interactive console.
+     */
+    protected Consumer<List<String>> determineStatusDisplay(C context) {
+        if (context.invokerRequest.embedded()
+                || context.options().logFile().isPresent()
+                || context.options().nonInteractive().orElse(false)) {
+            return null;
+        }
+        return lines -> {
+            Terminal terminal = context.terminal;
+            if (terminal != null && !Terminal.TYPE_DUMB.equals(terminal.getType())) {
+                Status.getStatus(terminal)
+                        .update(lines.stream().map(AttributedString::new).toList());
+            }
+        };
     }
 
     protected final void createTerminal(C context) {
@@ -322,6 +364,14 @@ protected final void createTerminal(C context) {
 
             context.terminal = MessageUtils.getTerminal();
             context.closeables.add(MessageUtils::systemUninstall);
+            if (context.writer instanceof AsyncLogWriter asyncWriter) {
+                // drain buffered records while the terminal is still there
+                context.closeables.add(asyncWriter::flush);
+            }
+            if (context.buildEventListener instanceof ProjectGroupingBuildEventListener grouping) {
+                // emit output of unfinished projects while the terminal is still there
+                context.closeables.add(grouping::emitAll);
+            }
             MessageUtils.registerShutdownHook(); // safety belt
         } else {
             doConfigureWithTerminal(context, context.terminal);
@@ -396,10 +446,34 @@ protected void doConfigureWithTerminalWithRawStreamsDisabled(C context) {
     protected Consumer<String> determineWriter(C context) {
         if (context.writer == null) {
             context.writer = doDetermineWriter(context);
+            Map<String, String> effectiveProperties = context.protoSession.getEffectiveProperties();
+            if (Boolean.parseBoolean(effectiveProperties.get(Constants.MAVEN_LOGGER_ASYNC))) {
+                AsyncLogWriter asyncWriter = new AsyncLogWriter(
+                        context.writer,
+                        calculateAsyncBufferSize(effectiveProperties.getOrDefault(
+                                Constants.MAVEN_LOGGER_ASYNC_BUFFER_SIZE,
+                                String.valueOf(AsyncLogWriter.DEFAULT_CAPACITY))));
+                context.closeables.add(asyncWriter);
+                context.writer = asyncWriter;
+            }
         }
         return context.writer;
     }
 
+    protected int calculateAsyncBufferSize(String bufferSize) {
+        try {
+            int capacity = Integer.parseInt(bufferSize.trim());
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Invalid " + Constants.MAVEN_LOGGER_ASYNC_BUFFER_SIZE + " value: '"
+                        + bufferSize + "'. Value must be positive.");
+            }
+            return capacity;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + Constants.MAVEN_LOGGER_ASYNC_BUFFER_SIZE + " value: '"
+                    + bufferSize + "'. Supported are positive int values.");
+        }
+    }
+
     protected Consumer<String> doDetermineWriter(C context) {
         if (context.options().logFile().isPresent()) {
             Path logFile = context.cwd.resolve(context.options().logFile().get());
@@ -557,6 +631,12 @@ protected void postCommands(C context) throws Exception {
             logger.info("Error stacktraces are turned on.");
         }
         if (context.options().verbose().orElse(false)) {
+            String cdsArchive = context.protoSession.getSystemProperties().get(Constants.MAVEN_CDS_ARCHIVE);
+            if (cdsArchive != null) {
+                boolean recording = Boolean.parseBoolean(
+                        context.protoSession.getSystemProperties().get(Constants.MAVEN_CDS_RECORDING));
+                logger.debug((recording ? "Recording" : "Using") + " class data sharing archive " + cdsArchive);
+            }
             logger.debug("Message scheme: " + (MessageUtils.isColorEnabled() ? "color" : "plain"));
             if (MessageUtils.isColorEnabled()) {
                 MessageBuilder buff = MessageUtils.builder();
@@ -907,7 +987,9 @@ protected void populateRequestFromSettings(MavenExecutionRequest request, Settin
 
     protected int calculateDegreeOfConcurrency(String threadConfiguration) {
         try {
-            if (threadConfiguration.endsWith("C")) {
+            if (AUTO_THREADS.equals(threadConfiguration)) {
+                return Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+            } else if (threadConfiguration.endsWith("C")) {
                 String str = threadConfiguration.substring(0, threadConfiguration.length() - 1);
                 float coreMultiplier = Float.parseFloat(str);
 
@@ -929,7 +1011,7 @@ protected int calculateDegreeOfConcurrency(String threadConfiguration) {
             }
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid threads value: '" + threadConfiguration
-                    + "'. Supported are int and float values ending with C.");
+                    + "'. Supported are int and float values ending with C, and auto.");
         }
     }
 
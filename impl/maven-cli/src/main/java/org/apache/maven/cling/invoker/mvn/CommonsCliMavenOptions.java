@@ -327,7 +327,8 @@ protected void prepareOptions(org.apache.commons.cli.Options options) {
             options.addOption(Option.builder(THREADS)
                     .longOpt("threads")
                     .hasArg()
-                    .desc("Thread count, for instance 4 (int) or 2C/2.5C (int/float) where C is core multiplied")
+                    .desc("Thread count, for instance 4 (int) or 2C/2.5C (int/float) where C is core multiplied,"
+                            + " or auto to adapt the concurrency to the load of the host")
                     .get());
             options.addOption(Option.builder(BUILDER)
                     .longOpt("builder")
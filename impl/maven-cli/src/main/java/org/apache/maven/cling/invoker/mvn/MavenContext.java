@@ -22,7 +22,8 @@
 import org.apache.maven.api.cli.InvokerRequest;
 import org.apache.maven.api.cli.mvn.MavenOptions;
 import org.apache.maven.cling.invoker.LookupContext;
-import org.apache.maven.cling.transfer.SimplexTransferListener;
+import org.apache.maven.cling.transfer.AggregatedConsoleTransferListener;
+import org.apache.maven.cling.transfer.TransferStatistics;
 
 @SuppressWarnings("VisibilityModifier")
 public class MavenContext extends LookupContext {
@@ -30,7 +31,8 @@ public MavenContext(InvokerRequest invokerRequest, boolean containerCapsuleManag
         super(invokerRequest, containerCapsuleManaged, mavenOptions);
     }
 
-    public SimplexTransferListener simplexTransferListener;
+    public AggregatedConsoleTransferListener consoleTransferListener;
+    public TransferStatistics transferStatistics;
     public Maven maven;
 
     @Override
@@ -51,10 +51,11 @@
 import org.apache.maven.cling.invoker.CliUtils;
 import org.apache.maven.cling.invoker.LookupContext;
 import org.apache.maven.cling.invoker.LookupInvoker;
-import org.apache.maven.cling.transfer.ConsoleMavenTransferListener;
+import org.apache.maven.cling.transfer.AggregatedConsoleTransferListener;
 import org.apache.maven.cling.transfer.QuietMavenTransferListener;
-import org.apache.maven.cling.transfer.SimplexTransferListener;
 import org.apache.maven.cling.transfer.Slf4jMavenTransferListener;
+import org.apache.maven.cling.transfer.TransferStatistics;
+import org.apache.maven.cling.transfer.TransferStatisticsListener;
 import org.apache.maven.exception.DefaultExceptionHandler;
 import org.apache.maven.exception.ExceptionHandler;
 import org.apache.maven.exception.ExceptionSummary;
@@ -72,6 +73,7 @@
 import org.apache.maven.toolchain.model.ToolchainModel;
 import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
 
 import static java.util.Comparator.comparing;
 
@@ -290,12 +292,15 @@ protected void populateRequest(MavenContext context, Lookup lookup, MavenExecuti
         // extend the command line to accept its own configuration parameters.
         //
         if (context.options().threads().isPresent()) {
-            int degreeOfConcurrency =
-                    calculateDegreeOfConcurrency(context.options().threads().get());
+            String threads = context.options().threads().get();
+            int degreeOfConcurrency = calculateDegreeOfConcurrency(threads);
             if (degreeOfConcurrency > 1) {
                 request.setBuilderId("multithreaded");
                 request.setDegreeOfConcurrency(degreeOfConcurrency);
             }
+            if (AUTO_THREADS.equals(threads)) {
+                request.getUserProperties().putIfAbsent(Constants.MAVEN_BUILDER_ADAPTIVE_CONCURRENCY, "true");
+            }
         }
 
         //
@@ -360,18 +365,25 @@ protected TransferListener determineTransferListener(MavenContext context, boole
         if (quiet || noTransferProgress || quietCI) {
             delegate = new QuietMavenTransferListener();
         } else if (context.interactive && !logFile) {
-            if (context.simplexTransferListener == null) {
-                SimplexTransferListener simplex = new SimplexTransferListener(new ConsoleMavenTransferListener(
+            if (context.consoleTransferListener == null) {
+                AggregatedConsoleTransferListener console = new AggregatedConsoleTransferListener(
                         context.invokerRequest.messageBuilderFactory(),
                         context.terminal.writer(),
-                        context.invokerRequest.effectiveVerbose()));
-                context.closeables.add(simplex);
-                context.simplexTransferListener = simplex;
+                        context.invokerRequest.effectiveVerbose());
+                context.closeables.add(console);
+                context.consoleTransferListener = console;
             }
-            delegate = context.simplexTransferListener;
+            delegate = context.consoleTransferListener;
         } else {
             delegate = new Slf4jMavenTransferListener();
         }
+        if (Boolean.parseBoolean(context.protoSession.getEffectiveProperties().get(Constants.MAVEN_TRANSFER_STATS))) {
+            if (context.transferStatistics == null) {
+                context.transferStatistics = new TransferStatistics();
+            }
+            delegate = ChainedTransferListener.newInstance(
+                    new TransferStatisticsListener(context.transferStatistics), delegate);
+        }
         return new MavenTransferListener(delegate, determineBuildEventListener(context));
     }
 
@@ -455,6 +467,10 @@ protected int doExecute(MavenContext context, MavenExecutionRequest request) thr
             context.eventSpyDispatcher.close();
         }
 
+        if (context.transferStatistics != null && context.transferStatistics.getTotalTransfers() > 0) {
+            context.transferStatistics.format().lines().forEach(context.logger::info);
+        }
+
         if (result.hasExceptions()) {
             ExceptionHandler handler = new DefaultExceptionHandler();
             Map<String, String> references = new LinkedHashMap<>();
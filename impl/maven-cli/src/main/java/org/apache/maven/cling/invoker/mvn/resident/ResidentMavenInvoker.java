@@ -86,7 +86,7 @@ protected MavenContext copyIfDifferent(MavenContext mavenContext, InvokerRequest
         shadow.containerCapsule = mavenContext.containerCapsule;
         shadow.lookup = mavenContext.lookup;
         shadow.eventSpyDispatcher = mavenContext.eventSpyDispatcher;
-        shadow.simplexTransferListener = mavenContext.simplexTransferListener;
+        shadow.consoleTransferListener = mavenContext.consoleTransferListener;
         shadow.maven = mavenContext.maven;
 
         return shadow;
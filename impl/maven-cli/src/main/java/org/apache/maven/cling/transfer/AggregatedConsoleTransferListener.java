@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.transfer;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.api.services.MessageBuilderFactory;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+
+/**
+ * Console download progress meter rendering one aggregated line for all in-flight transfers: their count, the
+ * transferred and total size, the throughput and the estimated remaining time.
+ * <p>
+ * Unlike {@link ConsoleMavenTransferListener}, this listener is thread-safe: progress events only update the
+ * state of their transfer, and the line is rendered by a daemon thread at a fixed refresh rate, so the cost of
+ * a progress event does not depend on the number of concurrent transfers. It must be closed to stop rendering.
+ *
+ * @since 4.1.0
+ */
+public class AggregatedConsoleTransferListener extends AbstractMavenTransferListener implements AutoCloseable {
+
+    /**
+     * The default interval between two renderings of the progress line.
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMillis(200);
+
+    private static final int MAX_RESOURCE_NAMES = 3;
+
+    private final Map<TransferResourceIdentifier, InFlight> transfers = new ConcurrentHashMap<>();
+    private final AtomicLong completedBytes = new AtomicLong();
+    private final boolean printResourceNames;
+    private final ScheduledExecutorService renderer;
+
+    // guarded by this
+    private final FileSizeFormat format = new FileSizeFormat();
+    private final StringBuilder buffer = new StringBuilder(128);
+    private int lastLength;
+    private long lastSampleNanos;
+    private long lastSampleBytes;
+    private double rate = -1;
+
+    public AggregatedConsoleTransferListener(
+            MessageBuilderFactory messageBuilderFactory, PrintWriter out, boolean printResourceNames) {
+        this(messageBuilderFactory, out, printResourceNames, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    public AggregatedConsoleTransferListener(
+            MessageBuilderFactory messageBuilderFactory,
+            PrintWriter out,
+            boolean printResourceNames,
+            Duration refreshInterval) {
+        super(messageBuilderFactory, out);
+        this.printResourceNames = printResourceNames;
+        this.renderer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "console-transfer-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, refreshInterval.toMillis());
+        renderer.scheduleAtFixedRate(this::render, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void transferInitiated(TransferEvent event) {
+        transfers.putIfAbsent(new TransferResourceIdentifier(event.getResource()), new InFlight(event.getResource()));
+        synchronized (this) {
+            clearProgress();
+            super.transferInitiated(event);
+        }
+    }
+
+    @Override
+    public void transferProgressed(TransferEvent event) {
+        TransferResource resource = event.getResource();
+        InFlight transfer =
+                transfers.computeIfAbsent(new TransferResourceIdentifier(resource), k -> new InFlight(resource));
+        transfer.transferredBytes = event.getTransferredBytes();
+    }
+
+    @Override
+    public void transferCorrupted(TransferEvent event) throws TransferCancelledException {
+        synchronized (this) {
+            clearProgress();
+            super.transferCorrupted(event);
+        }
+    }
+
+    @Override
+    public void transferSucceeded(TransferEvent event) {
+        transfers.remove(new TransferResourceIdentifier(event.getResource()));
+        completedBytes.addAndGet(Math.max(0, event.getTransferredBytes()));
+        synchronized (this) {
+            clearProgress();
+            super.transferSucceeded(event);
+        }
+    }
+
+    @Override
+    public void transferFailed(TransferEvent event) {
+        InFlight transfer = transfers.remove(new TransferResourceIdentifier(event.getResource()));
+        if (transfer != null) {
+            completedBytes.addAndGet(Math.max(0, transfer.transferredBytes));
+        }
+        synchronized (this) {
+            clearProgress();
+            super.transferFailed(event);
+        }
+    }
+
+    /**
+     * Stops rendering and clears the progress line.
+     */
+    @Override
+    public void close() {
+        renderer.shutdownNow();
+        synchronized (this) {
+            clearProgress();
+        }
+    }
+
+    /**
+     * Renders the progress line from the current state of the in-flight transfers.
+     */
+    synchronized void render() {
+        if (transfers.isEmpty()) {
+            // do not let idle periods lower the throughput
+            lastSampleNanos = 0;
+            rate = -1;
+            return;
+        }
+        int count = 0;
+        long complete = 0;
+        long total = 0;
+        boolean totalKnown = true;
+        StringBuilder names = printResourceNames ? new StringBuilder() : null;
+        for (InFlight transfer : transfers.values()) {
+            long transferred = Math.max(0, transfer.transferredBytes);
+            long contentLength = transfer.resource.getContentLength();
+            complete += transferred;
+            if (contentLength >= 0) {
+                total += Math.max(transferred, contentLength);
+            } else {
+                totalKnown = false;
+            }
+            if (names != null && count < MAX_RESOURCE_NAMES) {
+                String resourceName = transfer.resource.getResourceName();
+                names.append(count > 0 ? ", " : "").append(resourceName.substring(resourceName.lastIndexOf('/') + 1));
+            }
+            count++;
+        }
+
+        long now = System.nanoTime();
+        long transferred = completedBytes.get() + complete;
+        if (lastSampleNanos != 0 && now > lastSampleNanos) {
+            double sample = Math.max(0, transferred - lastSampleBytes) * 1e9 / (now - lastSampleNanos);
+            // exponential moving average to smooth the line
+            rate = rate < 0 ? sample : 0.7 * rate + 0.3 * sample;
+        }
+        lastSampleNanos = now;
+        lastSampleBytes = transferred;
+
+        buffer.append("Progress (").append(count).append("): ");
+        format.formatProgress(buffer, complete, totalKnown ? total : -1);
+        if (rate >= 0) {
+            buffer.append(" | ");
+            format.formatRate(buffer, rate);
+            if (totalKnown && rate > 0) {
+                long seconds = (long) Math.ceil((total - complete) / rate);
+                buffer.append(" | ETA ").append(seconds).append(" s");
+            }
+        }
+        if (names != null) {
+            buffer.append(" | ").append(names);
+            if (count > MAX_RESOURCE_NAMES) {
+                buffer.append(", +").append(count - MAX_RESOURCE_NAMES);
+            }
+        }
+
+        int pad = lastLength - buffer.length();
+        lastLength = buffer.length();
+        pad(pad);
+        buffer.append('\r');
+        out.print(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+
+    private void clearProgress() {
+        if (lastLength > 0) {
+            pad(lastLength);
+            buffer.append('\r');
+            out.print(buffer);
+            out.flush();
+            lastLength = 0;
+            buffer.setLength(0);
+        }
+    }
+
+    private void pad(int spaces) {
+        String block = "                                        ";
+        while (spaces > 0) {
+            int n = Math.min(spaces, block.length());
+            buffer.append(block, 0, n);
+            spaces -= n;
+        }
+    }
+
+    private static final class InFlight {
+        private final TransferResource resource;
+        private volatile long transferredBytes;
+
+        InFlight(TransferResource resource) {
+            this.resource = resource;
+        }
+    }
+}
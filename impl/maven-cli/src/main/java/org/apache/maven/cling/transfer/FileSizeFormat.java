@@ -152,6 +152,12 @@ public void format(MessageBuilder builder, long size, ScaleUnit unit) {
     }
 
     public void formatRate(MessageBuilder builder, double rate) {
+        StringBuilder sb = new StringBuilder();
+        formatRate(sb, rate);
+        builder.append(sb.toString());
+    }
+
+    public void formatRate(StringBuilder builder, double rate) {
         // Handle invalid rates gracefully (including negative values)
         if (Double.isNaN(rate) || Double.isInfinite(rate) || rate < 0) {
             builder.append("? B/s");
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.transfer;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Transfer statistics of a build: number of transfers and bytes in each direction, failures, and the latency
+ * distribution of the transfers of each repository.
+ * <p>
+ * Thread-safe, all counters are updated without locking.
+ *
+ * @since 4.1.0
+ */
+public class TransferStatistics {
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets; the last bucket is unbounded.
+     */
+    static final long[] LATENCY_BOUNDS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final AtomicLong downloads = new AtomicLong();
+    private final AtomicLong uploads = new AtomicLong();
+    private final AtomicLong downloadedBytes = new AtomicLong();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong corruptions = new AtomicLong();
+    private final AtomicLong transferNanos = new AtomicLong();
+
+    private final Map<String, RepositoryStatistics> repositoryStats = new ConcurrentHashMap<>();
+
+    /**
+     * Records a successful transfer.
+     *
+     * @param repositoryId the id of the repository
+     * @param upload whether the transfer was an upload
+     * @param bytes the transferred bytes
+     * @param nanos the duration of the transfer
+     */
+    public void recordSuccess(String repositoryId, boolean upload, long bytes, long nanos) {
+        bytes = Math.max(0, bytes);
+        nanos = Math.max(0, nanos);
+        if (upload) {
+            uploads.incrementAndGet();
+            uploadedBytes.addAndGet(bytes);
+        } else {
+            downloads.incrementAndGet();
+            downloadedBytes.addAndGet(bytes);
+        }
+        transferNanos.addAndGet(nanos);
+        repository(repositoryId).recordSuccess(bytes, nanos);
+    }
+
+    /**
+     * Records a failed transfer, including resources that were not found.
+     */
+    public void recordFailure(String repositoryId) {
+        failures.incrementAndGet();
+        repository(repositoryId).failures.incrementAndGet();
+    }
+
+    /**
+     * Records a checksum failure.
+     */
+    public void recordCorruption() {
+        corruptions.incrementAndGet();
+    }
+
+    private RepositoryStatistics repository(String repositoryId) {
+        return repositoryStats.computeIfAbsent(
+                repositoryId != null ? repositoryId : "unknown", k -> new RepositoryStatistics());
+    }
+
+    public long getDownloads() {
+        return downloads.get();
+    }
+
+    public long getUploads() {
+        return uploads.get();
+    }
+
+    public long getDownloadedBytes() {
+        return downloadedBytes.get();
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getCorruptions() {
+        return corruptions.get();
+    }
+
+    public long getTotalTransfers() {
+        return getDownloads() + getUploads() + getFailures();
+    }
+
+    /**
+     * Returns the average throughput of a single transfer, in bytes per second.
+     */
+    public double getAverageThroughput() {
+        long nanos = transferNanos.get();
+        return nanos == 0 ? 0.0 : (getDownloadedBytes() + getUploadedBytes()) * 1e9 / nanos;
+    }
+
+    public Map<String, RepositoryStatistics> getRepositoryStatistics() {
+        return Map.copyOf(repositoryStats);
+    }
+
+    /**
+     * Formats the statistics for display.
+     *
+     * @return a multi-line description of the statistics
+     */
+    public String format() {
+        FileSizeFormat format = new FileSizeFormat();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Transfer Statistics:\n");
+        sb.append("  Downloads: ")
+                .append(getDownloads())
+                .append(" (")
+                .append(format.format(getDownloadedBytes()))
+                .append(")\n");
+        sb.append("  Uploads: ")
+                .append(getUploads())
+                .append(" (")
+                .append(format.format(getUploadedBytes()))
+                .append(")\n");
+        sb.append("  Failures: ").append(getFailures()).append("\n");
+        if (getCorruptions() > 0) {
+            sb.append("  Checksum failures: ").append(getCorruptions()).append("\n");
+        }
+        sb.append("  Average throughput per transfer: ");
+        format.formatRate(sb, getAverageThroughput());
+        sb.append("\n");
+
+        Map<String, RepositoryStatistics> repositories = new TreeMap<>(repositoryStats);
+        if (!repositories.isEmpty()) {
+            sb.append("  By repository:\n");
+            repositories.forEach((id, stats) -> {
+                sb.append("    ")
+                        .append(id)
+                        .append(": ")
+                        .append(stats.getTransfers())
+                        .append(" transfers, ")
+                        .append(format.format(stats.getBytes()));
+                if (stats.getFailures() > 0) {
+                    sb.append(", ").append(stats.getFailures()).append(" failures");
+                }
+                if (stats.getTransfers() > 0) {
+                    sb.append(", latency avg ")
+                            .append(stats.getAverageLatencyMillis())
+                            .append(" ms, p50 ")
+                            .append(formatBound(stats.getLatencyPercentileMillis(0.5)))
+                            .append(", p95 ")
+                            .append(formatBound(stats.getLatencyPercentileMillis(0.95)))
+                            .append(", max ")
+                            .append(stats.getMaxLatencyMillis())
+                            .append(" ms");
+                }
+                sb.append("\n");
+            });
+        }
+        return sb.toString();
+    }
+
+    private static String formatBound(long millis) {
+        return millis == Long.MAX_VALUE
+                ? "> " + LATENCY_BOUNDS_MILLIS[LATENCY_BOUNDS_MILLIS.length - 1] + " ms"
+                : "<= " + millis + " ms";
+    }
+
+    /**
+     * Statistics of the transfers of one repository.
+     */
+    public static class RepositoryStatistics {
+        private final AtomicLong transfers = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong latencyNanos = new AtomicLong();
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+        private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BOUNDS_MILLIS.length + 1);
+
+        void recordSuccess(long bytes, long nanos) {
+            transfers.incrementAndGet();
+            this.bytes.addAndGet(bytes);
+            latencyNanos.addAndGet(nanos);
+            maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < LATENCY_BOUNDS_MILLIS.length && millis > LATENCY_BOUNDS_MILLIS[bucket]) {
+                bucket++;
+            }
+            latencyHistogram.incrementAndGet(bucket);
+        }
+
+        public long getTransfers() {
+            return transfers.get();
+        }
+
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        public long getAverageLatencyMillis() {
+            long count = getTransfers();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(latencyNanos.get() / count);
+        }
+
+        public long getMaxLatencyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+        }
+
+        /**
+         * Returns the upper bound of the histogram bucket holding the given percentile of the latencies.
+         *
+         * @param percentile the percentile, between 0 and 1
+         * @return the bound in milliseconds, or {@link Long#MAX_VALUE} for the unbounded last bucket
+         */
+        public long getLatencyPercentileMillis(double percentile) {
+            long count = getTransfers();
+            long threshold = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < LATENCY_BOUNDS_MILLIS.length; i++) {
+                seen += latencyHistogram.get(i);
+                if (seen >= threshold) {
+                    return LATENCY_BOUNDS_MILLIS[i];
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+}
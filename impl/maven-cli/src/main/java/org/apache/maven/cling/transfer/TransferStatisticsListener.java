@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.transfer;
+
+import java.time.Duration;
+
+import org.apache.maven.api.MonotonicClock;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Thread-safe {@link org.eclipse.aether.transfer.TransferListener} recording completed transfers into
+ * {@link TransferStatistics}.
+ *
+ * @since 4.1.0
+ */
+public class TransferStatisticsListener extends AbstractTransferListener {
+
+    private final TransferStatistics statistics;
+
+    public TransferStatisticsListener(TransferStatistics statistics) {
+        this.statistics = requireNonNull(statistics, "statistics");
+    }
+
+    public TransferStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public void transferSucceeded(TransferEvent event) {
+        TransferResource resource = event.getResource();
+        long nanos =
+                Duration.between(resource.getStartTime(), MonotonicClock.now()).toNanos();
+        statistics.recordSuccess(
+                resource.getRepositoryId(),
+                event.getRequestType() == TransferEvent.RequestType.PUT,
+                event.getTransferredBytes(),
+                nanos);
+    }
+
+    @Override
+    public void transferFailed(TransferEvent event) {
+        statistics.recordFailure(event.getResource().getRepositoryId());
+    }
+
+    @Override
+    public void transferCorrupted(TransferEvent event) {
+        statistics.recordCorruption();
+    }
+}
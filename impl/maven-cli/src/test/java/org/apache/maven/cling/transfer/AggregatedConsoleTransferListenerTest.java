@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.transfer;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.apache.maven.jline.JLineMessageBuilderFactory;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AggregatedConsoleTransferListenerTest {
+
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+
+    @Test
+    void testAggregatedProgressLine() throws Exception {
+        StringWriter output = new StringWriter();
+        try (AggregatedConsoleTransferListener listener = new AggregatedConsoleTransferListener(
+                new JLineMessageBuilderFactory(), new PrintWriter(output), true, Duration.ofHours(1))) {
+            TransferResource a = resource("a.jar", 1000);
+            TransferResource b = resource("b.jar", 3000);
+            listener.transferInitiated(event(a, TransferEvent.EventType.INITIATED, 0));
+            listener.transferInitiated(event(b, TransferEvent.EventType.INITIATED, 0));
+            listener.transferProgressed(event(a, TransferEvent.EventType.PROGRESSED, 500));
+            listener.transferProgressed(event(b, TransferEvent.EventType.PROGRESSED, 1500));
+            output.getBuffer().setLength(0);
+
+            listener.render();
+            assertEquals("Progress (2): 2.0/4.0 kB | a.jar, b.jar\r", output.toString());
+
+            Thread.sleep(10);
+            listener.transferProgressed(event(b, TransferEvent.EventType.PROGRESSED, 2500));
+            output.getBuffer().setLength(0);
+            listener.render();
+            String line = output.toString();
+            assertTrue(line.startsWith("Progress (2): 3.0/4.0 kB | "), line);
+            assertTrue(line.contains("B/s | ETA "), line);
+
+            listener.transferSucceeded(event(a, TransferEvent.EventType.SUCCEEDED, 1000));
+            output.getBuffer().setLength(0);
+            listener.render();
+            assertTrue(output.toString().startsWith("Progress (1): 2.5/3.0 kB | "), output.toString());
+        }
+    }
+
+    @Test
+    void testNothingRenderedWithoutTransfers() {
+        StringWriter output = new StringWriter();
+        try (AggregatedConsoleTransferListener listener = new AggregatedConsoleTransferListener(
+                new JLineMessageBuilderFactory(), new PrintWriter(output), false, Duration.ofHours(1))) {
+            listener.render();
+            assertEquals("", output.toString());
+        }
+    }
+
+    private static TransferResource resource(String name, long size) {
+        TransferResource resource = new TransferResource(
+                "central", "https://repo.maven.apache.org/maven2/", name, Path.of(name), null, null);
+        resource.setContentLength(size);
+        return resource;
+    }
+
+    private TransferEvent event(TransferResource resource, TransferEvent.EventType type, long bytes) {
+        return new TransferEvent.Builder(session, resource)
+                .setType(type)
+                .setTransferredBytes(bytes)
+                .build();
+    }
+}
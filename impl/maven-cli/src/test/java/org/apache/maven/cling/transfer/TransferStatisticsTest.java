@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.transfer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransferStatisticsTest {
+
+    @Test
+    void testStatistics() {
+        TransferStatistics statistics = new TransferStatistics();
+        for (int i = 0; i < 19; i++) {
+            statistics.recordSuccess("central", false, 1000, TimeUnit.MILLISECONDS.toNanos(40));
+        }
+        statistics.recordSuccess("central", false, 1000, TimeUnit.MILLISECONDS.toNanos(3000));
+        statistics.recordSuccess("releases", true, 5000, TimeUnit.MILLISECONDS.toNanos(20_000));
+        statistics.recordFailure("central");
+
+        assertEquals(20, statistics.getDownloads());
+        assertEquals(1, statistics.getUploads());
+        assertEquals(20_000, statistics.getDownloadedBytes());
+        assertEquals(5000, statistics.getUploadedBytes());
+        assertEquals(22, statistics.getTotalTransfers());
+
+        TransferStatistics.RepositoryStatistics central =
+                statistics.getRepositoryStatistics().get("central");
+        assertEquals(20, central.getTransfers());
+        assertEquals(1, central.getFailures());
+        assertEquals(50, central.getLatencyPercentileMillis(0.5));
+        assertEquals(50, central.getLatencyPercentileMillis(0.95));
+        assertEquals(5000, central.getLatencyPercentileMillis(1.0));
+        assertEquals(3000, central.getMaxLatencyMillis());
+        assertEquals(
+                Long.MAX_VALUE,
+                statistics.getRepositoryStatistics().get("releases").getLatencyPercentileMillis(0.5));
+
+        String formatted = statistics.format();
+        assertTrue(formatted.contains("Downloads: 20 (20 kB)"), formatted);
+        assertTrue(formatted.contains("central: 20 transfers, 20 kB, 1 failures, latency avg 188 ms"), formatted);
+        assertTrue(formatted.contains("p50 <= 50 ms, p95 <= 50 ms, max 3000 ms"), formatted);
+        assertTrue(
+                formatted.contains("releases: 1 transfers, 5.0 kB, latency avg 20000 ms, p50 > 10000 ms"), formatted);
+    }
+}
@@ -24,6 +24,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -38,11 +39,14 @@
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.MonotonicClock;
 import org.apache.maven.api.Session;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.model.Prerequisites;
 import org.apache.maven.api.model.Profile;
+import org.apache.maven.api.services.ArtifactDeployer;
+import org.apache.maven.api.services.ArtifactDeployerException;
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.api.services.LookupException;
 import org.apache.maven.artifact.ArtifactUtils;
@@ -59,6 +63,7 @@
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.graph.GraphBuilder;
 import org.apache.maven.graph.ProjectSelector;
+import org.apache.maven.impl.util.RepositoryTracer;
 import org.apache.maven.internal.impl.DefaultSessionFactory;
 import org.apache.maven.internal.impl.InternalMavenSession;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
@@ -72,6 +77,7 @@
 import org.apache.maven.resolver.MavenChainedWorkspaceReader;
 import org.apache.maven.resolver.RepositorySystemSessionFactory;
 import org.apache.maven.session.scope.internal.SessionScope;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.RepositorySystemSession.CloseableSession;
 import org.eclipse.aether.repository.WorkspaceReader;
@@ -113,6 +119,8 @@ public class DefaultMaven implements Maven {
 
     private final ProjectSelector projectSelector;
 
+    private final BuildTelemetry telemetry;
+
     @Inject
     @SuppressWarnings("checkstyle:ParameterNumber")
     public DefaultMaven(
@@ -126,7 +134,8 @@ public DefaultMaven(
             BuildResumptionDataRepository buildResumptionDataRepository,
             SuperPomProvider superPomProvider,
             DefaultSessionFactory defaultSessionFactory,
-            @Nullable @Named("ide") WorkspaceReader ideWorkspaceReader) {
+            @Nullable @Named("ide") WorkspaceReader ideWorkspaceReader,
+            BuildTelemetry telemetry) {
         this.lookup = lookup;
         this.eventCatapult = eventCatapult;
         this.legacySupport = legacySupport;
@@ -138,6 +147,7 @@ public DefaultMaven(
         this.superPomProvider = superPomProvider;
         this.ideWorkspaceReader = ideWorkspaceReader;
         this.defaultSessionFactory = defaultSessionFactory;
+        this.telemetry = telemetry;
         this.projectSelector = new ProjectSelector(); // if necessary switch to DI
     }
 
@@ -145,6 +155,7 @@ public DefaultMaven(
     public MavenExecutionResult execute(MavenExecutionRequest request) {
         MavenExecutionResult result;
 
+        boolean tracing = startTrace(request);
         try {
             result = doExecute(request);
         } catch (OutOfMemoryError e) {
@@ -159,11 +170,57 @@ public MavenExecutionResult execute(MavenExecutionRequest request) {
             }
         } finally {
             legacySupport.setSession(null);
+            if (tracing) {
+                stopTrace();
+            }
         }
 
         return result;
     }
 
+    private boolean startTrace(MavenExecutionRequest request) {
+        String traceFile = request.getUserProperties().getProperty(Constants.MAVEN_TELEMETRY_TRACE_FILE);
+        if (traceFile == null) {
+            traceFile = request.getSystemProperties().getProperty(Constants.MAVEN_TELEMETRY_TRACE_FILE);
+        }
+        if (traceFile == null || traceFile.isBlank()) {
+            return false;
+        }
+        Path path = Path.of(traceFile);
+        if (request.getTopDirectory() != null) {
+            path = request.getTopDirectory().resolve(path);
+        }
+        telemetry.start(path);
+        return true;
+    }
+
+    private void stopTrace() {
+        try {
+            Path traceFile = telemetry.stop();
+            if (traceFile != null) {
+                logger.info("Build trace written to {}", traceFile);
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to write build trace: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deployDeferred(MavenSession session) {
+        ArtifactDeployer deployer = session.getSession().getService(ArtifactDeployer.class);
+        if (session.getResult().hasExceptions()) {
+            int discarded = deployer.discardDeferred(session.getSession());
+            if (discarded > 0) {
+                logger.warn("Skipping deployment of {} deferred artifacts because the build failed", discarded);
+            }
+            return;
+        }
+        try {
+            deployer.deployDeferred(session.getSession());
+        } catch (ArtifactDeployerException e) {
+            session.getResult().addException(e);
+        }
+    }
+
     //
     // 1) Setup initial properties.
     //
@@ -309,6 +366,8 @@ private MavenExecutionResult doExecute(
 
             lifecycleStarter.execute(session);
 
+            deployDeferred(session);
+
             validateOptionalProjects(request, session);
             validateOptionalProfiles(session, request.getProfileActivation());
 
@@ -427,10 +486,13 @@ public RepositorySystemSession newRepositorySession(MavenExecutionRequest reques
     }
 
     private CloseableSession newCloseableSession(MavenExecutionRequest request, WorkspaceReader workspaceReader) {
-        return repositorySessionFactory
+        CloseableSession session = repositorySessionFactory
                 .newRepositorySessionBuilder(request)
                 .setWorkspaceReader(workspaceReader)
                 .build();
+        session.getData().set(RepositoryTracer.class, (RepositoryTracer)
+                name -> telemetry.span(BuildTelemetry.CATEGORY_REPOSITORY, name, null)::close);
+        return session;
     }
 
     private void validateLocalRepository(MavenExecutionRequest request) throws IOException {
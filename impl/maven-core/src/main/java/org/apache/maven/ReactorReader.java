@@ -28,8 +28,6 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -39,20 +37,25 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.eventspy.EventSpy;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.impl.resolver.MavenWorkspaceReader;
+import org.apache.maven.impl.util.InstallMode;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.artifact.ProjectArtifact;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,8 +83,16 @@ class ReactorReader implements MavenWorkspaceReader {
     private Map<String, Map<String, Map<String, MavenProject>>> projects;
     private Map<String, Map<String, Map<String, MavenProject>>> allProjects;
     private Path projectLocalRepository;
+    private InstallMode installMode;
+    private Boolean pipelining;
     // projectId -> Deque<lifecycle>
     private final Map<String, Deque<String>> lifecycles = new ConcurrentHashMap<>();
+    // ids of the projects built during this session
+    private final Set<String> builtProjects = ConcurrentHashMap.newKeySet();
+    // projectId -> (packaged artifact -> up-to-date check), dropped whenever a mojo of the project starts or ends
+    private final Map<String, Map<Path, UpToDateCheck>> upToDateChecks = new ConcurrentHashMap<>();
+
+    private record UpToDateCheck(long artifactLastModified, boolean upToDate) {}
 
     @Inject
     ReactorReader(MavenSession session) {
@@ -184,9 +195,12 @@ private File findArtifact(MavenProject project, Artifact artifact, boolean check
             return packagedArtifactFile;
         }
 
-        if (!hasBeenPackagedDuringThisSession(project)) {
+        if (isPipelining()
+                ? !hasCompletedPackagingDuringThisSession(project)
+                : !hasBeenPackagedDuringThisSession(project)) {
             // fallback to loose class files only if artifacts haven't been packaged yet
             // and only for plain old jars. Not war files, not ear files, not anything else.
+            // When pipelining, downstream projects compile against loose class files until the packaging is done.
             return determineBuildOutputDirectoryForArtifact(project, artifact);
         }
 
@@ -224,17 +238,39 @@ private File determineBuildOutputDirectoryForArtifact(final MavenProject project
         return null;
     }
 
+    /**
+     * Checks that no file of the output directory is more recent than the packaged artifact. The result is
+     * remembered until a mojo of the project starts or ends, or the packaged artifact changes, so the output directory
+     * of a project many others depend on is walked once instead of once per lookup.
+     */
     private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedArtifactFile) {
         Path outputDirectory = Paths.get(project.getBuild().getOutputDirectory());
         if (!outputDirectory.toFile().exists()) {
             return true;
         }
 
-        try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+        Path packagedArtifact = packagedArtifactFile.toPath();
+        long artifactLastModified;
+        try {
             // Not using File#lastModified() to avoid a Linux JDK8 milliseconds precision bug: JDK-8177809.
-            long artifactLastModified =
-                    Files.getLastModifiedTime(packagedArtifactFile.toPath()).toMillis();
+            artifactLastModified = Files.getLastModifiedTime(packagedArtifact).toMillis();
+        } catch (IOException e) {
+            return assumeUpToDate(e);
+        }
+
+        Map<Path, UpToDateCheck> checks =
+                upToDateChecks.computeIfAbsent(project.getId(), k -> new ConcurrentHashMap<>());
+        UpToDateCheck check = checks.get(packagedArtifact);
+        if (check == null || check.artifactLastModified() != artifactLastModified) {
+            check = new UpToDateCheck(
+                    artifactLastModified, isPackagedArtifactUpToDate(project, outputDirectory, artifactLastModified));
+            checks.put(packagedArtifact, check);
+        }
+        return check.upToDate();
+    }
 
+    private boolean isPackagedArtifactUpToDate(MavenProject project, Path outputDirectory, long artifactLastModified) {
+        try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
             if (session.getProjectBuildingRequest().getBuildStartTime() != null) {
                 long buildStartTime =
                         session.getProjectBuildingRequest().getBuildStartTime().getTime();
@@ -269,15 +305,19 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
 
             return true;
         } catch (IOException e) {
-            LOGGER.warn(
-                    "An I/O error occurred while checking if the packaged artifact is up-to-date "
-                            + "against the build output directory. "
-                            + "Continuing with the assumption that it is up-to-date.",
-                    e);
-            return true;
+            return assumeUpToDate(e);
         }
     }
 
+    private static boolean assumeUpToDate(IOException e) {
+        LOGGER.warn(
+                "An I/O error occurred while checking if the packaged artifact is up-to-date "
+                        + "against the build output directory. "
+                        + "Continuing with the assumption that it is up-to-date.",
+                e);
+        return true;
+    }
+
     private boolean hasBeenPackagedDuringThisSession(MavenProject project) {
         boolean packaged = false;
         for (String phase : getLifecycles(project)) {
@@ -297,6 +337,37 @@ private boolean hasBeenPackagedDuringThisSession(MavenProject project) {
         return packaged;
     }
 
+    /**
+     * Tells whether the package phase of the project is over, that is whether a later phase started or the project
+     * is built.
+     */
+    private boolean hasCompletedPackagingDuringThisSession(MavenProject project) {
+        if (builtProjects.contains(project.getId())) {
+            return true;
+        }
+        boolean packaging = false;
+        boolean completed = false;
+        for (String phase : getLifecycles(project)) {
+            switch (phase) {
+                case "clean":
+                    packaging = false;
+                    completed = false;
+                    break;
+                case "package":
+                    packaging = true;
+                    break;
+                case "install":
+                case "deploy":
+                    completed = true;
+                    break;
+                default:
+                    completed |= packaging;
+                    break;
+            }
+        }
+        return completed;
+    }
+
     private Path relativizeOutputFile(final Path outputFile) {
         Path rootDirectory = session.getRequest().getRootDirectory();
         return rootDirectory.relativize(outputFile);
@@ -358,20 +429,37 @@ private void processEvent(ExecutionEvent event) {
         MavenProject project = event.getProject();
         switch (event.getType()) {
             case MojoStarted:
+                // the mojo may change the output directory or the packaged artifact
+                upToDateChecks.remove(project.getId());
                 String phase = event.getMojoExecution().getLifecyclePhase();
                 if (phase != null) {
                     Deque<String> phases = getLifecycles(project);
-                    if (!Objects.equals(phase, phases.peekLast())) {
-                        phases.addLast(phase);
-                        if ("clean".equals(phase)) {
-                            synchronized (project) {
-                                cleanProjectLocalRepository(project);
-                            }
+                    boolean started;
+                    // independent mojos of the project start concurrently
+                    synchronized (phases) {
+                        started = !Objects.equals(phase, phases.peekLast());
+                        if (started) {
+                            phases.addLast(phase);
+                        }
+                    }
+                    if (started && "clean".equals(phase)) {
+                        synchronized (project) {
+                            cleanProjectLocalRepository(project);
                         }
                     }
                 }
                 break;
+            case MojoSucceeded:
+            case MojoFailed:
+                // drop the checks made while the mojo was changing the output directory or the packaged artifact
+                upToDateChecks.remove(project.getId());
+                break;
             case ProjectSucceeded:
+                builtProjects.add(project.getId());
+                synchronized (project) {
+                    installIntoProjectLocalRepository(project);
+                }
+                break;
             case ForkedProjectSucceeded:
                 synchronized (project) {
                     installIntoProjectLocalRepository(project);
@@ -383,7 +471,7 @@ private void processEvent(ExecutionEvent event) {
     }
 
     private Deque<String> getLifecycles(MavenProject project) {
-        return lifecycles.computeIfAbsent(project.getId(), k -> new ArrayDeque<>());
+        return lifecycles.computeIfAbsent(project.getId(), k -> new ConcurrentLinkedDeque<>());
     }
 
     /**
@@ -453,18 +541,32 @@ private void installIntoProjectLocalRepository(Artifact artifact) {
         Path target = getArtifactPath(
                 artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), classifier, extension);
         try {
-            LOGGER.info("Copying {} to project local repository", artifact);
-            Files.createDirectories(target.getParent());
-            Files.copy(
-                    artifact.getPath(),
-                    target,
-                    StandardCopyOption.REPLACE_EXISTING,
-                    StandardCopyOption.COPY_ATTRIBUTES);
+            switch (getInstallMode().install(artifact.getPath(), target)) {
+                case COPIED -> LOGGER.info("Copied {} to project local repository", artifact);
+                case LINKED -> LOGGER.info("Linked {} into project local repository", artifact);
+                default -> LOGGER.debug("Project local repository copy of {} is up to date", artifact);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while copying artifact to project local repository", e);
         }
     }
 
+    private InstallMode getInstallMode() {
+        if (installMode == null) {
+            installMode = InstallMode.of(
+                    session.getRepositorySession().getConfigProperties().get(Constants.MAVEN_INSTALL_MODE));
+        }
+        return installMode;
+    }
+
+    private boolean isPipelining() {
+        if (pipelining == null) {
+            pipelining =
+                    ConfigUtils.getBoolean(session.getRepositorySession(), false, Constants.MAVEN_BUILDER_PIPELINING);
+        }
+        return pipelining;
+    }
+
     private Path getArtifactPath(Artifact artifact) {
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy;
+
+/**
+ * An event spy that can receive its events asynchronously. When asynchronous dispatch is enabled with the
+ * {@code maven.eventspy.async} property, events for such a spy are queued and delivered on a dedicated thread,
+ * so a slow spy does not stall the build. Events are delivered in the order they were fired, but the state of
+ * mutable event payloads like the session or the project may have changed in the meantime, and events may be
+ * dropped if the spy lags behind by more than the queue capacity for longer than the configured maximum wait.
+ * Without asynchronous dispatch, such a spy is invoked synchronously like any other spy.
+ *
+ * @since 4.1.0
+ */
+public interface AsyncEventSpy extends EventSpy {}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.eventspy.EventSpy;
+
+/**
+ * Delivers events to one {@link org.apache.maven.eventspy.AsyncEventSpy} through a bounded queue drained by a
+ * dedicated thread, keeping the order in which the events were fired. When the queue is full, the firing thread
+ * waits up to the maximum wait, then drops the event. Closing waits a bounded time for the pending events to be
+ * delivered, then drops them, so that a hanging spy cannot block the end of the build.
+ */
+class AsyncEventSpyDelivery {
+
+    private static final Envelope END = new Envelope(null, 0);
+
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private record Envelope(Object event, long enqueued) {}
+
+    interface ErrorHandler {
+        void onError(String action, Throwable e, EventSpy spy);
+    }
+
+    private final EventSpy spy;
+    private final BlockingQueue<Envelope> queue;
+    private final long maxWaitNanos;
+    private final long closeTimeoutNanos;
+    private final ErrorHandler errorHandler;
+    private final Thread thread;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    AsyncEventSpyDelivery(EventSpy spy, int capacity, long maxWaitMillis, ErrorHandler errorHandler) {
+        this(spy, capacity, maxWaitMillis, CLOSE_TIMEOUT_MILLIS, errorHandler);
+    }
+
+    AsyncEventSpyDelivery(
+            EventSpy spy, int capacity, long maxWaitMillis, long closeTimeoutMillis, ErrorHandler errorHandler) {
+        this.spy = spy;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.closeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(closeTimeoutMillis);
+        this.errorHandler = errorHandler;
+        this.thread =
+                new Thread(this::deliver, "maven-eventspy-" + spy.getClass().getSimpleName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    EventSpy getSpy() {
+        return spy;
+    }
+
+    void offer(Object event) {
+        Envelope envelope = new Envelope(event, System.nanoTime());
+        if (queue.offer(envelope)) {
+            return;
+        }
+        waited.increment();
+        try {
+            if (maxWaitNanos > 0 && queue.offer(envelope, maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.increment();
+    }
+
+    /**
+     * Delivers the queued events and stops the delivery thread, dropping the events not delivered within the
+     * close timeout.
+     */
+    void close() {
+        long deadline = System.nanoTime() + closeTimeoutNanos;
+        try {
+            if (queue.offer(END, closeTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+            List<Envelope> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            dropped.add(pending.stream().filter(envelope -> envelope != END).count());
+            // let the thread end once the spy returns
+            queue.offer(END);
+        }
+    }
+
+    String statistics() {
+        long count = delivered.sum();
+        return String.format(
+                "%s: %d delivered, %d dropped, %d waited for queue space, latency avg %d ms, max %d ms",
+                spy.getClass().getName(),
+                count,
+                dropped.sum(),
+                waited.sum(),
+                count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / count) : 0,
+                TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    private void deliver() {
+        while (true) {
+            Envelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (envelope == END) {
+                return;
+            }
+            long latency = System.nanoTime() - envelope.enqueued();
+            totalLatencyNanos.addAndGet(latency);
+            maxLatencyNanos.accumulate(latency);
+            try {
+                spy.onEvent(envelope.event());
+            } catch (Exception | LinkageError e) {
+                errorHandler.onError("notify", e, spy);
+            }
+            delivered.increment();
+        }
+    }
+}
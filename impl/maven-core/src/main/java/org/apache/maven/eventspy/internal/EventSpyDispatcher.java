@@ -24,7 +24,10 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
+import org.apache.maven.api.Constants;
+import org.apache.maven.eventspy.AsyncEventSpy;
 import org.apache.maven.eventspy.EventSpy;
 import org.apache.maven.execution.ExecutionListener;
 import org.eclipse.aether.RepositoryListener;
@@ -38,14 +41,36 @@
 @Named
 @Singleton
 public class EventSpyDispatcher {
+    /**
+     * The default of {@link Constants#MAVEN_EVENTSPY_ASYNC_QUEUE_SIZE}.
+     */
+    static final int DEFAULT_ASYNC_QUEUE_SIZE = 1024;
+
+    /**
+     * The default of {@link Constants#MAVEN_EVENTSPY_ASYNC_MAX_WAIT}.
+     */
+    static final int DEFAULT_ASYNC_MAX_WAIT = 100;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final List<EventSpy> eventSpies;
 
+    /**
+     * The current dispatch, replaced as a whole so that the firing threads see both lists of the same configuration.
+     */
+    private volatile Dispatch dispatch;
+
+    /**
+     * The spies invoked on the firing thread, all of them unless asynchronous dispatch is enabled, and the
+     * deliveries of the asynchronous spies.
+     */
+    private record Dispatch(List<EventSpy> syncEventSpies, List<AsyncEventSpyDelivery> asyncDeliveries) {}
+
     @Inject
     public EventSpyDispatcher(List<EventSpy> eventSpies) {
         // make copy to get rid of needless overhead for dynamic lookups
-        this.eventSpies = new ArrayList<>(eventSpies);
+        this.eventSpies = List.copyOf(eventSpies);
+        this.dispatch = new Dispatch(this.eventSpies, List.of());
     }
 
     public ExecutionListener chainListener(ExecutionListener listener) {
@@ -73,25 +98,86 @@ public void init(EventSpy.Context context) {
                 logError("initialize", e, eventSpy);
             }
         }
+        if (Boolean.parseBoolean(getProperty(context, Constants.MAVEN_EVENTSPY_ASYNC, "false"))) {
+            int capacity =
+                    getIntProperty(context, Constants.MAVEN_EVENTSPY_ASYNC_QUEUE_SIZE, 1, DEFAULT_ASYNC_QUEUE_SIZE);
+            int maxWait = getIntProperty(context, Constants.MAVEN_EVENTSPY_ASYNC_MAX_WAIT, 0, DEFAULT_ASYNC_MAX_WAIT);
+            List<EventSpy> sync = new ArrayList<>();
+            List<AsyncEventSpyDelivery> async = new ArrayList<>();
+            for (EventSpy eventSpy : eventSpies) {
+                if (eventSpy instanceof AsyncEventSpy) {
+                    async.add(new AsyncEventSpyDelivery(eventSpy, capacity, maxWait, this::logError));
+                } else {
+                    sync.add(eventSpy);
+                }
+            }
+            dispatch = new Dispatch(List.copyOf(sync), List.copyOf(async));
+        }
+    }
+
+    private int getIntProperty(EventSpy.Context context, String key, int minValue, int defaultValue) {
+        String value = getProperty(context, key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result >= minValue) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warn(
+                "Invalid value for {}: '{}', must be an integer of at least {}; using {}",
+                key,
+                value,
+                minValue,
+                defaultValue);
+        return defaultValue;
+    }
+
+    private static String getProperty(EventSpy.Context context, String key, String defaultValue) {
+        for (String source : List.of("userProperties", "systemProperties")) {
+            if (context.getData().get(source) instanceof Properties properties && properties.getProperty(key) != null) {
+                return properties.getProperty(key);
+            }
+        }
+        return defaultValue;
     }
 
     public void onEvent(Object event) {
         if (eventSpies.isEmpty()) {
             return;
         }
-        for (EventSpy eventSpy : eventSpies) {
+        Dispatch dispatch = this.dispatch;
+        for (EventSpy eventSpy : dispatch.syncEventSpies()) {
             try {
                 eventSpy.onEvent(event);
             } catch (Exception | LinkageError e) {
                 logError("notify", e, eventSpy);
             }
         }
+        for (AsyncEventSpyDelivery delivery : dispatch.asyncDeliveries()) {
+            delivery.offer(event);
+        }
     }
 
     public void close() {
         if (eventSpies.isEmpty()) {
             return;
         }
+        List<AsyncEventSpyDelivery> asyncDeliveries = dispatch.asyncDeliveries();
+        dispatch = new Dispatch(eventSpies, List.of());
+        // deliver the pending events before closing any spy
+        for (AsyncEventSpyDelivery delivery : asyncDeliveries) {
+            delivery.close();
+            if (delivery.getDropped() > 0) {
+                logger.warn("Asynchronous event spy {}", delivery.statistics());
+            } else {
+                logger.debug("Asynchronous event spy {}", delivery.statistics());
+            }
+        }
         for (EventSpy eventSpy : eventSpies) {
             try {
                 eventSpy.close();
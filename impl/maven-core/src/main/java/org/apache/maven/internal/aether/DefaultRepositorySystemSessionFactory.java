@@ -47,6 +47,8 @@
 import org.apache.maven.settings.Mirror;
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Server;
+import org.apache.maven.telemetry.BuildTelemetry;
+import org.apache.maven.telemetry.TelemetryRepositoryListener;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.RepositoryListener;
@@ -130,6 +132,8 @@ public class DefaultRepositorySystemSessionFactory implements RepositorySystemSe
 
     private final Map<String, RepositorySystemSessionExtender> sessionExtenders;
 
+    private final BuildTelemetry telemetry;
+
     @SuppressWarnings("checkstyle:ParameterNumber")
     @Inject
     DefaultRepositorySystemSessionFactory(
@@ -138,13 +142,15 @@ public class DefaultRepositorySystemSessionFactory implements RepositorySystemSe
             RuntimeInformation runtimeInformation,
             TypeRegistry typeRegistry,
             VersionScheme versionScheme,
-            Map<String, RepositorySystemSessionExtender> sessionExtenders) {
+            Map<String, RepositorySystemSessionExtender> sessionExtenders,
+            BuildTelemetry telemetry) {
         this.repoSystem = repoSystem;
         this.eventSpyDispatcher = eventSpyDispatcher;
         this.runtimeInformation = runtimeInformation;
         this.typeRegistry = typeRegistry;
         this.versionScheme = versionScheme;
         this.sessionExtenders = sessionExtenders;
+        this.telemetry = telemetry;
     }
 
     @Deprecated
@@ -355,6 +361,8 @@ public SessionBuilder newRepositorySessionBuilder(MavenExecutionRequest request)
         if (recordReverseTree) {
             repositoryListener = new ChainedRepositoryListener(repositoryListener, new ReverseTreeRepositoryListener());
         }
+        repositoryListener =
+                new ChainedRepositoryListener(repositoryListener, new TelemetryRepositoryListener(telemetry));
         sessionBuilder.setRepositoryListener(repositoryListener);
 
         // may be overridden
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.impl.util.InstallMode;
+import org.eclipse.aether.spi.io.PathProcessorSupport;
+import org.eclipse.sisu.Priority;
+
+/**
+ * Maven specific path processor: applies the {@link InstallMode} of the installation in progress in the current
+ * thread, see {@link Constants#MAVEN_INSTALL_MODE}, when the resolver copies an artifact file into the local
+ * repository. Files placed ahead of the resolver by the artifact installer are skipped, POM files are always copied.
+ */
+@Singleton
+@Named
+@Priority(10)
+final class MavenPathProcessor extends PathProcessorSupport {
+
+    @Override
+    public void copyWithTimestamp(Path source, Path target) throws IOException {
+        if (InstallMode.isPlaced(source, target)) {
+            return;
+        }
+        InstallMode mode = InstallMode.current();
+        if (mode == InstallMode.COPY || target.getFileName().toString().endsWith(".pom")) {
+            super.copyWithTimestamp(source, target);
+        } else {
+            mode.install(source, target);
+        }
+    }
+}
@@ -23,12 +23,14 @@
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.maven.api.Packaging;
@@ -64,6 +66,13 @@
 
     private final TypeRegistry typeRegistry;
 
+    /**
+     * The plugins of the lifecycle mappings, parsed once per mapping so that a packaging always exposes the same
+     * plugins, which lets the lifecycle bindings injector reuse the default bindings.
+     */
+    private final Map<LifecycleMapping, Map<String, PluginContainer>> plugins =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     @Inject
     public DefaultPackagingRegistry(Lookup lookup, TypeRegistry typeRegistry, List<PackagingProvider> providers) {
         super(providers);
@@ -88,7 +97,7 @@ public Optional<Packaging> lookup(String id) {
         if (type == null) {
             return Optional.empty();
         }
-        return Optional.of(new DefaultPackaging(id, type, getPlugins(lifecycleMapping)));
+        return Optional.of(new DefaultPackaging(id, type, plugins.computeIfAbsent(lifecycleMapping, this::getPlugins)));
     }
 
     private Map<String, PluginContainer> getPlugins(LifecycleMapping lifecycleMapping) {
@@ -100,7 +109,7 @@ private Map<String, PluginContainer> getPlugins(LifecycleMapping lifecycleMappin
                     .forEach((phase, lifecyclePhase) -> parseLifecyclePhaseDefinitions(plugins, phase, lifecyclePhase));
             lfs.put(id, PluginContainer.newBuilder().plugins(plugins.values()).build());
         });
-        return lfs;
+        return Collections.unmodifiableMap(lfs);
     }
 
     static void parseLifecyclePhaseDefinitions(Map<String, Plugin> plugins, String phase, LifecyclePhase goals) {
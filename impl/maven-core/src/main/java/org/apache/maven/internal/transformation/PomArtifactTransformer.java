@@ -43,4 +43,15 @@ public interface PomArtifactTransformer {
 
     void transform(MavenProject project, RepositorySystemSession session, Path src, Path tgt)
             throws ModelBuilderException, XMLStreamException, IOException;
+
+    /**
+     * Same as {@link #transform(MavenProject, RepositorySystemSession, Path, Path)}, for a caller which already
+     * computed the SHA-1 checksum of the source, so the transformer does not read the source again to compute it.
+     *
+     * @since 4.1.0
+     */
+    default void transform(MavenProject project, RepositorySystemSession session, Path src, String srcSha1, Path tgt)
+            throws ModelBuilderException, XMLStreamException, IOException {
+        transform(project, session, src, tgt);
+    }
 }
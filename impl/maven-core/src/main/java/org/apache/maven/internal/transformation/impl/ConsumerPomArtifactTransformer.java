@@ -30,11 +30,12 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.apache.maven.api.feature.Features;
-import org.apache.maven.api.model.Model;
 import org.apache.maven.api.services.ModelBuilderException;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.artifact.ProjectArtifact;
@@ -57,6 +58,8 @@ class ConsumerPomArtifactTransformer extends TransformerSupport {
 
     private static final String BUILD_POM_CLASSIFIER = "build";
 
+    private static final Object CACHE_KEY = ConsumerPomKey.class;
+
     private final Set<Path> toDelete = new CopyOnWriteArraySet<>();
 
     private final PomBuilder builder;
@@ -107,10 +110,38 @@ TransformedArtifact createConsumerPomArtifact(
     @Override
     public void transform(MavenProject project, RepositorySystemSession session, Path src, Path tgt)
             throws ModelBuilderException, XMLStreamException, IOException {
-        Model model = builder.build(session, project, src);
-        write(model, tgt);
+        transform(project, session, src, getCache(session) != null ? TransformedArtifact.sha1(src) : null, tgt);
+    }
+
+    /**
+     * Writes the consumer POM of the project. The serialized consumer POM is kept in the session, keyed by the
+     * project and the checksum of its build POM, so it is built only once per session, even when the target file
+     * is removed in between, e.g. by a {@code clean} running after the project setup.
+     */
+    @Override
+    public void transform(MavenProject project, RepositorySystemSession session, Path src, String srcSha1, Path tgt)
+            throws ModelBuilderException, XMLStreamException, IOException {
+        Map<ConsumerPomKey, byte[]> cache = getCache(session);
+        ConsumerPomKey key =
+                cache != null && srcSha1 != null ? new ConsumerPomKey(project.getId(), src, srcSha1) : null;
+        byte[] content = key != null ? cache.get(key) : null;
+        if (content == null) {
+            content = serialize(builder.build(session, project, src));
+            if (key != null) {
+                cache.put(key, content);
+            }
+        }
+        write(content, tgt);
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<ConsumerPomKey, byte[]> getCache(RepositorySystemSession session) {
+        Object cache = session.getData().computeIfAbsent(CACHE_KEY, ConcurrentHashMap::new);
+        return cache instanceof Map<?, ?> map ? (Map<ConsumerPomKey, byte[]>) map : null;
+    }
+
+    private record ConsumerPomKey(String projectId, Path src, String sha1) {}
+
     private void deferDeleteFile(Path generatedFile) {
         toDelete.add(generatedFile.toAbsolutePath());
     }
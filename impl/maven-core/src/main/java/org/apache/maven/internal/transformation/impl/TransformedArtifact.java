@@ -24,6 +24,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
@@ -52,6 +54,9 @@ class TransformedArtifact extends DefaultArtifact {
     private final Path target;
     private final RepositorySystemSession session;
     private final AtomicReference<String> sourceState;
+    // size and time of the source when its checksum was last computed, guarded by this
+    private long sourceSize = -1;
+    private FileTime sourceTime;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     TransformedArtifact(
@@ -113,16 +118,32 @@ private String mayUpdate() throws IOException, XMLStreamException, ModelBuilderE
             Files.deleteIfExists(target);
             result = "";
         } else {
-            String current = ChecksumAlgorithmHelper.calculate(src, List.of(new Sha1ChecksumAlgorithmFactory()))
-                    .get(Sha1ChecksumAlgorithmFactory.NAME);
+            BasicFileAttributes attributes = Files.readAttributes(src, BasicFileAttributes.class);
             String existing = sourceState.get();
-            if (!Files.exists(target) || !Objects.equals(current, existing)) {
-                pomArtifactTransformer.transform(project, session, src, target);
-                Files.setLastModifiedTime(target, Files.getLastModifiedTime(src));
+            boolean targetExists = Files.exists(target);
+            if (existing != null
+                    && targetExists
+                    && attributes.size() == sourceSize
+                    && attributes.lastModifiedTime().equals(sourceTime)) {
+                // source untouched since the last transformation: skip the checksum
+                result = existing;
+            } else {
+                String current = sha1(src);
+                if (!targetExists || !Objects.equals(current, existing)) {
+                    pomArtifactTransformer.transform(project, session, src, current, target);
+                    Files.setLastModifiedTime(target, attributes.lastModifiedTime());
+                }
+                sourceSize = attributes.size();
+                sourceTime = attributes.lastModifiedTime();
+                result = current;
             }
-            result = current;
         }
         sourceState.set(result);
         return result;
     }
+
+    static String sha1(Path src) throws IOException {
+        return ChecksumAlgorithmHelper.calculate(src, List.of(new Sha1ChecksumAlgorithmFactory()))
+                .get(Sha1ChecksumAlgorithmFactory.NAME);
+    }
 }
@@ -20,9 +20,12 @@
 
 import javax.xml.stream.XMLStreamException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -74,14 +77,24 @@ protected Model read(Path src) throws IOException, XMLStreamException {
     }
 
     protected void write(Model model, Path dest) throws IOException, XMLStreamException {
-        String version = model.getModelVersion();
+        write(serialize(model), dest);
+    }
+
+    protected void write(byte[] content, Path dest) throws IOException {
         Files.createDirectories(dest.getParent());
-        try (Writer w = Files.newBufferedWriter(dest)) {
+        Files.write(dest, content);
+    }
+
+    protected byte[] serialize(Model model) throws IOException, XMLStreamException {
+        String version = model.getModelVersion();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try (Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
             MavenStaxWriter writer = new MavenStaxWriter();
             writer.setNamespace(String.format(NAMESPACE_FORMAT, version));
             writer.setSchemaLocation(String.format(SCHEMA_LOCATION_FORMAT, version));
             writer.setAddLocationInformation(false);
             writer.write(w, model);
         }
+        return out.toByteArray();
     }
 }
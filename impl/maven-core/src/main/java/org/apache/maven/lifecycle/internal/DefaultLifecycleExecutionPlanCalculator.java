@@ -27,7 +27,6 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +53,6 @@
 import org.apache.maven.plugin.PluginNotFoundException;
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
-import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugin.prefix.NoPluginFoundForPrefixException;
 import org.apache.maven.plugin.version.PluginVersionResolutionException;
@@ -200,7 +198,7 @@ public void setupMojoExecution(
         mojoExecutionConfigurator(mojoExecution)
                 .configure(project, mojoExecution, MojoExecution.Source.CLI.equals(mojoExecution.getSource()));
 
-        finalizeMojoConfiguration(mojoExecution);
+        MojoConfigurationFinalizer.finalizeMojoConfiguration(session, mojoExecution);
 
         calculateForkedExecutions(mojoExecution, session, project, alreadyPlannedExecutions);
     }
@@ -272,76 +270,6 @@ private Map<String, List<MojoExecution>> calculateLifecycleMappings(
         return delegate.calculateLifecycleMappings(session, project, lifecycle, lifecyclePhase);
     }
 
-    /**
-     * Post-processes the effective configuration for the specified mojo execution. This step discards all parameters
-     * from the configuration that are not applicable to the mojo and injects the default values for any missing
-     * parameters.
-     *
-     * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
-     */
-    private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
-        MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
-
-        XmlNode executionConfiguration = mojoExecution.getConfiguration() != null
-                ? mojoExecution.getConfiguration().getDom()
-                : null;
-        if (executionConfiguration == null) {
-            executionConfiguration = XmlNode.newInstance("configuration");
-        }
-
-        XmlNode defaultConfiguration = getMojoConfiguration(mojoDescriptor);
-
-        List<XmlNode> children = new ArrayList<>();
-        if (mojoDescriptor.getParameters() != null) {
-            for (Parameter parameter : mojoDescriptor.getParameters()) {
-                XmlNode parameterConfiguration = executionConfiguration.child(parameter.getName());
-
-                if (parameterConfiguration == null) {
-                    parameterConfiguration = executionConfiguration.child(parameter.getAlias());
-                }
-
-                XmlNode parameterDefaults = defaultConfiguration.child(parameter.getName());
-
-                if (parameterConfiguration != null) {
-                    parameterConfiguration = XmlService.merge(parameterConfiguration, parameterDefaults, Boolean.TRUE);
-                } else {
-                    parameterConfiguration = parameterDefaults;
-                }
-
-                if (parameterConfiguration != null) {
-                    Map<String, String> attributes = new HashMap<>(parameterConfiguration.attributes());
-
-                    String attributeForImplementation = parameterConfiguration.attribute("implementation");
-                    String parameterForImplementation = parameter.getImplementation();
-                    if ((attributeForImplementation == null || attributeForImplementation.isEmpty())
-                            && ((parameterForImplementation != null) && !parameterForImplementation.isEmpty())) {
-                        attributes.put("implementation", parameter.getImplementation());
-                    }
-
-                    parameterConfiguration = XmlNode.newInstance(
-                            parameter.getName(),
-                            parameterConfiguration.value(),
-                            attributes,
-                            parameterConfiguration.children(),
-                            parameterConfiguration.inputLocation());
-
-                    children.add(parameterConfiguration);
-                }
-            }
-        }
-        XmlNode finalConfiguration = XmlNode.newInstance("configuration", children);
-
-        mojoExecution.setConfiguration(finalConfiguration);
-    }
-
-    private XmlNode getMojoConfiguration(MojoDescriptor mojoDescriptor) {
-        if (mojoDescriptor.isV4Api()) {
-            return MojoDescriptorCreator.convert(mojoDescriptor.getMojoDescriptorV4());
-        } else {
-            return MojoDescriptorCreator.convert(mojoDescriptor).getDom();
-        }
-    }
-
     @Override
     public void calculateForkedExecutions(MojoExecution mojoExecution, MavenSession session)
             throws MojoNotFoundException, PluginNotFoundException, PluginResolutionException,
@@ -428,7 +356,7 @@ private List<MojoExecution> calculateForkedLifecycle(
         for (List<MojoExecution> forkedExecutions : lifecycleMappings.values()) {
             for (MojoExecution forkedExecution : forkedExecutions) {
                 if (!alreadyPlannedExecutions.contains(forkedExecution.getMojoDescriptor())) {
-                    finalizeMojoConfiguration(forkedExecution);
+                    MojoConfigurationFinalizer.finalizeMojoConfiguration(session, forkedExecution);
 
                     calculateForkedExecutions(forkedExecution, session, project, alreadyPlannedExecutions);
 
@@ -558,7 +486,7 @@ private List<MojoExecution> calculateForkedGoal(
 
         mojoExecutionConfigurator(forkedExecution).configure(project, forkedExecution, true);
 
-        finalizeMojoConfiguration(forkedExecution);
+        MojoConfigurationFinalizer.finalizeMojoConfiguration(session, forkedExecution);
 
         calculateForkedExecutions(forkedExecution, session, project, alreadyPlannedExecutions);
 
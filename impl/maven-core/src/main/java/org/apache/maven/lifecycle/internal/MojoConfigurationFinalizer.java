@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.api.xml.XmlService;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * Post-processes the effective configuration of mojo executions, for both the legacy and the concurrent builders.
+ * <p>
+ * The default configuration of a mojo and the finalized configurations are kept in the session: executions of the
+ * same mojo sharing the same configuration, such as the executions of a homogeneous reactor inheriting their plugins
+ * from the same parent, get the same finalized configuration. Configurations are compared by identity, so the input
+ * locations of a finalized configuration are always the ones of its own project.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.1.0
+ */
+public final class MojoConfigurationFinalizer {
+
+    private static final String CACHE_KEY = MojoConfigurationFinalizer.class.getName();
+
+    private final Map<Key, XmlNode> defaultConfigurations = new ConcurrentHashMap<>();
+
+    private final Map<Key, XmlNode> finalConfigurations = new ConcurrentHashMap<>();
+
+    private MojoConfigurationFinalizer() {}
+
+    /**
+     * Post-processes the effective configuration for the specified mojo execution. This step discards all parameters
+     * from the configuration that are not applicable to the mojo and injects the default values for any missing
+     * parameters.
+     *
+     * @param session The session caching the configurations, may be {@code null}.
+     * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
+     */
+    public static void finalizeMojoConfiguration(MavenSession session, MojoExecution mojoExecution) {
+        MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
+
+        XmlNode executionConfiguration = mojoExecution.getConfiguration() != null
+                ? mojoExecution.getConfiguration().getDom()
+                : null;
+
+        MojoConfigurationFinalizer cache = get(session);
+        XmlNode finalConfiguration;
+        if (cache != null) {
+            finalConfiguration = cache.finalConfigurations.computeIfAbsent(
+                    new Key(mojoDescriptor, executionConfiguration),
+                    k -> finalizeConfiguration(
+                            mojoDescriptor,
+                            executionConfiguration,
+                            cache.defaultConfigurations.computeIfAbsent(
+                                    new Key(mojoDescriptor, null), d -> getMojoConfiguration(mojoDescriptor))));
+        } else {
+            finalConfiguration =
+                    finalizeConfiguration(mojoDescriptor, executionConfiguration, getMojoConfiguration(mojoDescriptor));
+        }
+
+        mojoExecution.setConfiguration(finalConfiguration);
+    }
+
+    private static MojoConfigurationFinalizer get(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null || repositorySession.getData() == null) {
+            return null;
+        }
+        return (MojoConfigurationFinalizer)
+                repositorySession.getData().computeIfAbsent(CACHE_KEY, MojoConfigurationFinalizer::new);
+    }
+
+    private static XmlNode finalizeConfiguration(
+            MojoDescriptor mojoDescriptor, XmlNode executionConfiguration, XmlNode defaultConfiguration) {
+        if (executionConfiguration == null) {
+            executionConfiguration = XmlNode.newInstance("configuration");
+        }
+
+        List<XmlNode> children = new ArrayList<>();
+        if (mojoDescriptor.getParameters() != null) {
+            for (Parameter parameter : mojoDescriptor.getParameters()) {
+                XmlNode parameterConfiguration = executionConfiguration.child(parameter.getName());
+
+                if (parameterConfiguration == null) {
+                    parameterConfiguration = executionConfiguration.child(parameter.getAlias());
+                }
+
+                XmlNode parameterDefaults = defaultConfiguration.child(parameter.getName());
+
+                if (parameterConfiguration != null) {
+                    parameterConfiguration = XmlService.merge(parameterConfiguration, parameterDefaults, Boolean.TRUE);
+                } else {
+                    parameterConfiguration = parameterDefaults;
+                }
+
+                if (parameterConfiguration != null) {
+                    Map<String, String> attributes = new HashMap<>(parameterConfiguration.attributes());
+
+                    String attributeForImplementation = parameterConfiguration.attribute("implementation");
+                    String parameterForImplementation = parameter.getImplementation();
+                    if ((attributeForImplementation == null || attributeForImplementation.isEmpty())
+                            && ((parameterForImplementation != null) && !parameterForImplementation.isEmpty())) {
+                        attributes.put("implementation", parameter.getImplementation());
+                    }
+
+                    parameterConfiguration = XmlNode.newInstance(
+                            parameter.getName(),
+                            parameterConfiguration.value(),
+                            attributes,
+                            parameterConfiguration.children(),
+                            parameterConfiguration.inputLocation());
+
+                    children.add(parameterConfiguration);
+                }
+            }
+        }
+        return XmlNode.newInstance("configuration", children);
+    }
+
+    private static XmlNode getMojoConfiguration(MojoDescriptor mojoDescriptor) {
+        if (mojoDescriptor.isV4Api()) {
+            return MojoDescriptorCreator.convert(mojoDescriptor.getMojoDescriptorV4());
+        } else {
+            return MojoDescriptorCreator.convert(mojoDescriptor).getDom();
+        }
+    }
+
+    /**
+     * A mojo descriptor and a configuration, compared by identity.
+     */
+    private record Key(MojoDescriptor mojoDescriptor, XmlNode configuration) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key that
+                    && mojoDescriptor == that.mojoDescriptor
+                    && configuration == that.configuration;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(mojoDescriptor) + System.identityHashCode(configuration);
+        }
+    }
+}
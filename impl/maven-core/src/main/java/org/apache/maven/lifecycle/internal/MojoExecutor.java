@@ -27,11 +27,15 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -47,6 +51,7 @@
 import org.apache.maven.internal.MultilineMessageHelper;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.MissingProjectException;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
 import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MavenPluginManager;
 import org.apache.maven.plugin.MojoExecution;
@@ -59,6 +64,7 @@
 import org.apache.maven.plugin.PluginManagerException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,17 +87,27 @@ public class MojoExecutor {
     private static final SessionData.Key<Map<MavenProject, OwnerReentrantLock>> PROJECT_LOCKS =
             (SessionData.Key) SessionData.key(Map.class, ProjectLock.class);
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<MavenProject, OwnerReentrantReadWriteLock>> AGGREGATOR_LOCKS =
+            (SessionData.Key) SessionData.key(Map.class, OwnerReentrantReadWriteLock.class);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<String, Long>> LOCK_WAITS =
+            (SessionData.Key) SessionData.key(ConcurrentHashMap.class, "mojo-lock-waits");
+
+    private static final int MAX_LOGGED_LOCK_WAITS = 10;
+
     private final BuildPluginManager pluginManager;
     private final MavenPluginManager mavenPluginManager;
     private final LifecycleDependencyResolver lifeCycleDependencyResolver;
     private final ExecutionEventCatapult eventCatapult;
 
-    private final OwnerReentrantReadWriteLock aggregatorLock = new OwnerReentrantReadWriteLock();
-
     private final Provider<MojosExecutionStrategy> mojosExecutionStrategy;
 
     private final MessageBuilderFactory messageBuilderFactory;
 
+    private final BuildTelemetry telemetry;
+
     private final Map<Thread, MojoDescriptor> mojos = new ConcurrentHashMap<>();
 
     @Inject
@@ -101,13 +117,15 @@ public MojoExecutor(
             LifecycleDependencyResolver lifeCycleDependencyResolver,
             ExecutionEventCatapult eventCatapult,
             Provider<MojosExecutionStrategy> mojosExecutionStrategy,
-            MessageBuilderFactory messageBuilderFactory) {
+            MessageBuilderFactory messageBuilderFactory,
+            BuildTelemetry telemetry) {
         this.pluginManager = pluginManager;
         this.mavenPluginManager = mavenPluginManager;
         this.lifeCycleDependencyResolver = lifeCycleDependencyResolver;
         this.eventCatapult = eventCatapult;
         this.mojosExecutionStrategy = mojosExecutionStrategy;
         this.messageBuilderFactory = messageBuilderFactory;
+        this.telemetry = telemetry;
     }
 
     public DependencyContext newDependencyContext(MavenSession session, List<MojoExecution> mojoExecutions) {
@@ -170,6 +188,133 @@ public void run(MojoExecution mojoExecution) throws LifecycleExecutionException
         });
     }
 
+    /**
+     * Executes mojo executions of the current project which do not depend on each other concurrently. The dependencies
+     * required by the executions are resolved first, then the executions are handed to the given executor, the calling
+     * thread running the ones no other thread has started yet. Another thread only starts an execution if the guard
+     * grants it the resources to do so, otherwise the execution is left to the calling thread. The first failure is
+     * rethrown once all the executions are done.
+     *
+     * @since 4.1.0
+     */
+    public void executeConcurrently(
+            final MavenSession session,
+            final List<MojoExecution> mojoExecutions,
+            final Executor executor,
+            final ConcurrencyGuard guard)
+            throws LifecycleExecutionException {
+        final MavenProject project = session.getCurrentProject();
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        final DependencyContext dependencyContext = newDependencyContext(session, mojoExecutions);
+        for (MojoExecution mojoExecution : mojoExecutions) {
+            ensureDependenciesAreResolved(mojoExecution.getMojoDescriptor(), session, dependencyContext);
+        }
+
+        runConcurrently(mojoExecutions, executor, guard, mojoExecution -> {
+            Thread thread = Thread.currentThread();
+            MavenProject previousProject = session.getCurrentProject();
+            ClassLoader previousClassLoader = thread.getContextClassLoader();
+            session.setCurrentProject(project);
+            thread.setContextClassLoader(contextClassLoader);
+            try {
+                mojosExecutionStrategy
+                        .get()
+                        .execute(
+                                List.of(mojoExecution),
+                                session,
+                                execution -> execute(session, execution, dependencyContext));
+            } finally {
+                session.setCurrentProject(previousProject);
+                thread.setContextClassLoader(previousClassLoader);
+            }
+        });
+
+        PhaseRecorder phaseRecorder = new PhaseRecorder(project);
+        mojoExecutions.forEach(phaseRecorder::observeExecution);
+    }
+
+    /**
+     * Runs the executions with the given runner, handing all but the first to the executor and running on the calling
+     * thread, in order, those no other thread has started, so that the executions complete whatever the executor.
+     */
+    static void runConcurrently(
+            List<MojoExecution> mojoExecutions, Executor executor, ConcurrencyGuard guard, MojoExecutionRunner runner)
+            throws LifecycleExecutionException {
+        List<FutureTask<Void>> tasks = new ArrayList<>(mojoExecutions.size());
+        for (MojoExecution mojoExecution : mojoExecutions) {
+            tasks.add(new FutureTask<>(() -> {
+                runner.run(mojoExecution);
+                return null;
+            }));
+        }
+        for (int i = 1; i < tasks.size(); i++) {
+            FutureTask<Void> task = tasks.get(i);
+            MojoExecution mojoExecution = mojoExecutions.get(i);
+            executor.execute(() -> {
+                try (ConcurrencyGuard.Resources resources = guard.tryAcquire(mojoExecution)) {
+                    if (resources != null) {
+                        task.run();
+                    }
+                }
+            });
+        }
+        // a task already started by another thread is left alone
+        tasks.forEach(FutureTask::run);
+
+        LifecycleExecutionException failure = null;
+        for (FutureTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                LifecycleExecutionException exception = e.getCause() instanceof LifecycleExecutionException lee
+                        ? lee
+                        : new LifecycleExecutionException(e.getCause());
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LifecycleExecutionException("Interrupted while executing mojos", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Grants the resources another thread needs to execute a mojo concurrently, see
+     * {@link #executeConcurrently(MavenSession, List, Executor, ConcurrencyGuard)}.
+     *
+     * @since 4.1.0
+     */
+    @FunctionalInterface
+    public interface ConcurrencyGuard {
+
+        /**
+         * Grants everything, for executors without limits.
+         */
+        ConcurrencyGuard NONE = execution -> () -> {};
+
+        /**
+         * The resources held while a mojo executes.
+         */
+        interface Resources extends AutoCloseable {
+            @Override
+            void close();
+        }
+
+        /**
+         * Acquires the resources to execute a mojo, without waiting.
+         *
+         * @return the resources to close once the mojo is executed, {@code null} if they are not available now
+         */
+        Resources tryAcquire(MojoExecution execution);
+    }
+
     private void execute(
             MavenSession session,
             MojoExecution mojoExecution,
@@ -222,44 +367,72 @@ public void close() {}
     }
 
     /**
-     * Aggregating mojo executions (possibly) modify all MavenProjects, including those that are currently in use
-     * by concurrently running mojo executions. To prevent race conditions, an aggregating execution will block
-     * all other executions until finished.
+     * Aggregating mojo executions (possibly) modify the MavenProjects of the modules they aggregate, including those
+     * that are currently in use by concurrently running mojo executions. To prevent race conditions, an aggregating
+     * execution will block the other executions on these modules until finished. The aggregator locks are striped
+     * per project: an execution holds the read lock of its project, an aggregating execution holds the write locks
+     * of its project and of the projects it aggregates, acquired in the reactor order.
      * We also lock on a given project to forbid a forked lifecycle to be executed concurrently with the project.
+     * The time spent waiting for the locks is recorded per mojo, see {@link #logLockWaits(MavenSession)}.
      * TODO: ideally, the builder should take care of the ordering in a smarter way
      * TODO: and concurrency issues fixed with MNG-7157
      */
     protected class ProjectLock implements NoExceptionCloseable {
-        final Lock acquiredAggregatorLock;
+        final List<Lock> acquiredAggregatorLocks = new ArrayList<>();
         final OwnerReentrantLock acquiredProjectLock;
 
         ProjectLock(MavenSession session, MojoDescriptor mojoDescriptor) {
             mojos.put(Thread.currentThread(), mojoDescriptor);
             boolean aggregator = mojoDescriptor.isAggregator();
-            acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
-            acquiredProjectLock = getProjectLock(session);
-            if (!acquiredAggregatorLock.tryLock()) {
-                Thread owner = aggregatorLock.getOwner();
-                MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
-                String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
-                String msg = str + " aggregator mojo is already being executed "
-                        + "in this parallel build, those kind of mojos require exclusive access to "
-                        + "reactor to prevent race conditions. This mojo execution will be blocked "
-                        + "until the aggregator mojo is done.";
-                warn(msg);
-                acquiredAggregatorLock.lock();
+            MavenProject project = session.getCurrentProject();
+            long waitTime = 0;
+            for (MavenProject aggregated : getLockedProjects(session, project, aggregator)) {
+                OwnerReentrantReadWriteLock aggregatorLock = getAggregatorLock(session, aggregated);
+                Lock lock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
+                if (!lock.tryLock()) {
+                    Thread owner = aggregatorLock.getOwner();
+                    MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
+                    String msg;
+                    if (owner != null) {
+                        String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
+                        msg = str + " aggregator mojo is already being executed "
+                                + "on the project " + aggregated.getGroupId() + ":" + aggregated.getArtifactId()
+                                + " in this parallel build, those kind of mojos require exclusive access to "
+                                + "the projects they aggregate to prevent race conditions. This mojo execution "
+                                + "will be blocked until the aggregator mojo is done.";
+                    } else {
+                        msg = "The aggregator mojo " + mojoDescriptor.getId() + " requires exclusive access to "
+                                + "the project " + aggregated.getGroupId() + ":" + aggregated.getArtifactId()
+                                + " to prevent race conditions. This mojo execution will be blocked "
+                                + "until the mojos executing on this project are done.";
+                    }
+                    warn(msg);
+                    long start = System.nanoTime();
+                    lock.lock();
+                    waitTime += System.nanoTime() - start;
+                }
+                acquiredAggregatorLocks.add(lock);
             }
+            acquiredProjectLock = getProjectLock(session);
             if (!acquiredProjectLock.tryLock()) {
                 Thread owner = acquiredProjectLock.getOwner();
                 MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
                 String str = ownerMojo != null ? " The " + ownerMojo.getId() : "A";
                 String msg = str + " mojo is already being executed "
-                        + "on the project " + session.getCurrentProject().getGroupId()
-                        + ":" + session.getCurrentProject().getArtifactId() + ". "
+                        + "on the project " + project.getGroupId()
+                        + ":" + project.getArtifactId() + ". "
                         + "This mojo execution will be blocked "
                         + "until the mojo is done.";
                 warn(msg);
+                long start = System.nanoTime();
                 acquiredProjectLock.lock();
+                waitTime += System.nanoTime() - start;
+            }
+            if (waitTime > 0) {
+                session.getSession()
+                        .getData()
+                        .computeIfAbsent(LOCK_WAITS, ConcurrentHashMap::new)
+                        .merge(getLockWaitKey(mojoDescriptor), waitTime, Long::sum);
             }
         }
 
@@ -267,7 +440,9 @@ protected class ProjectLock implements NoExceptionCloseable {
         public void close() {
             // release the lock in the reverse order of the acquisition
             acquiredProjectLock.unlock();
-            acquiredAggregatorLock.unlock();
+            for (int i = acquiredAggregatorLocks.size() - 1; i >= 0; i--) {
+                acquiredAggregatorLocks.get(i).unlock();
+            }
             mojos.remove(Thread.currentThread());
         }
 
@@ -276,6 +451,58 @@ private OwnerReentrantLock getProjectLock(MavenSession session) {
             Map<MavenProject, OwnerReentrantLock> locks = data.computeIfAbsent(PROJECT_LOCKS, ConcurrentHashMap::new);
             return locks.computeIfAbsent(session.getCurrentProject(), p -> new OwnerReentrantLock());
         }
+
+        private OwnerReentrantReadWriteLock getAggregatorLock(MavenSession session, MavenProject project) {
+            SessionData data = session.getSession().getData();
+            Map<MavenProject, OwnerReentrantReadWriteLock> locks =
+                    data.computeIfAbsent(AGGREGATOR_LOCKS, ConcurrentHashMap::new);
+            return locks.computeIfAbsent(project, p -> new OwnerReentrantReadWriteLock());
+        }
+    }
+
+    /**
+     * Returns the projects whose aggregator lock an execution acquires: its project, and for an aggregating execution
+     * the projects it aggregates, in the reactor order.
+     */
+    static List<MavenProject> getLockedProjects(MavenSession session, MavenProject project, boolean aggregator) {
+        List<MavenProject> collectedProjects = project.getCollectedProjects();
+        if (!aggregator || collectedProjects == null || collectedProjects.isEmpty()) {
+            return List.of(project);
+        }
+        Map<String, Integer> indices = session.getSession()
+                .getData()
+                .computeIfAbsent(PROJECT_INDEX, () -> new ProjectIndex(session.getProjects()))
+                .getIndices();
+        List<MavenProject> projects = new ArrayList<>(collectedProjects.size() + 1);
+        projects.add(project);
+        collectedProjects.stream().filter(p -> p != project).forEach(projects::add);
+        projects.sort(Comparator.comparingInt(p -> indices.getOrDefault(BuilderCommon.getKey(p), Integer.MAX_VALUE)));
+        return projects;
+    }
+
+    /**
+     * Logs the time the mojo executions of the session waited for the project locks, if any.
+     *
+     * @param session the session
+     */
+    public static void logLockWaits(MavenSession session) {
+        Map<String, Long> waits = session.getSession().getData().get(LOCK_WAITS);
+        if (waits == null || waits.isEmpty()) {
+            return;
+        }
+        LOGGER.info(
+                "Mojo executions waited {} ms for the project locks:",
+                waits.values().stream().mapToLong(Long::longValue).sum() / 1_000_000);
+        waits.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(MAX_LOGGED_LOCK_WAITS)
+                .forEach(e -> LOGGER.info("  {}: {} ms", e.getKey(), e.getValue() / 1_000_000));
+    }
+
+    private static String getLockWaitKey(MojoDescriptor mojoDescriptor) {
+        return mojoDescriptor.getPluginDescriptor() != null
+                ? mojoDescriptor.getPluginDescriptor().getArtifactId() + ":" + mojoDescriptor.getGoal()
+                : mojoDescriptor.getId();
     }
 
     static class OwnerReentrantLock extends ReentrantLock {
@@ -334,7 +561,12 @@ protected boolean useProjectLock(MavenSession session) {
 
     private void doExecute2(MavenSession session, MojoExecution mojoExecution) throws LifecycleExecutionException {
         eventCatapult.fire(ExecutionEvent.Type.MojoStarted, session, mojoExecution);
-        try {
+        MavenProject project = session.getCurrentProject();
+        try (BuildTelemetry.Span span = telemetry.span(
+                BuildTelemetry.CATEGORY_MOJO,
+                () -> mojoExecution.getArtifactId() + ":" + mojoExecution.getGoal() + " ("
+                        + mojoExecution.getExecutionId() + ")",
+                project != null ? project.getArtifactId() : null)) {
             try {
                 pluginManager.executeMojo(session, mojoExecution);
             } catch (MojoFailureException
@@ -365,8 +597,11 @@ public void ensureDependenciesAreResolved(
             Collection<String> scopesToCollect = dependencyContext.getScopesToCollectForCurrentProject();
             Collection<String> scopesToResolve = dependencyContext.getScopesToResolveForCurrentProject();
 
-            lifeCycleDependencyResolver.resolveProjectDependencies(
-                    project, scopesToCollect, scopesToResolve, session, aggregating, Collections.emptySet());
+            try (BuildTelemetry.Span span = telemetry.span(
+                    BuildTelemetry.CATEGORY_DEPENDENCIES, "resolve dependencies", project.getArtifactId())) {
+                lifeCycleDependencyResolver.resolveProjectDependencies(
+                        project, scopesToCollect, scopesToResolve, session, aggregating, Collections.emptySet());
+            }
 
             dependencyContext.synchronizeWithProjectState();
         }
@@ -378,13 +613,18 @@ public void ensureDependenciesAreResolved(
             if (dependencyContext.isResolutionRequiredForAggregatedProjects(scopesToCollect, scopesToResolve)) {
                 for (MavenProject aggregatedProject : session.getProjects()) {
                     if (aggregatedProject != project) {
-                        lifeCycleDependencyResolver.resolveProjectDependencies(
-                                aggregatedProject,
-                                scopesToCollect,
-                                scopesToResolve,
-                                session,
-                                aggregating,
-                                Collections.emptySet());
+                        try (BuildTelemetry.Span span = telemetry.span(
+                                BuildTelemetry.CATEGORY_DEPENDENCIES,
+                                "resolve dependencies",
+                                aggregatedProject.getArtifactId())) {
+                            lifeCycleDependencyResolver.resolveProjectDependencies(
+                                    aggregatedProject,
+                                    scopesToCollect,
+                                    scopesToResolve,
+                                    session,
+                                    aggregating,
+                                    Collections.emptySet());
+                        }
                     }
                 }
             }
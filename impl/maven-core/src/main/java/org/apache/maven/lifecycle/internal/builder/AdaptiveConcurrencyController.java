@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of build steps executing concurrently, and adapts this limit while the build runs.
+ * <p>
+ * The builders size their thread pool for the maximum concurrency, and each step holds a {@link Permit} while it
+ * executes. Every second, the controller samples the system load average and the heap usage:
+ * <ul>
+ *     <li>when the heap is nearly full, or the system is overloaded, for instance by other builds running on a shared
+ *     host, the limit is lowered;</li>
+ *     <li>when steps are waiting for a permit and the system is not fully loaded, the limit is raised, faster when most
+ *     of the steps are I/O bound, that is, when their threads spent less than half of their time on CPU.</li>
+ * </ul>
+ * The decisions are logged at the end of the build.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.1.0
+ */
+public class AdaptiveConcurrencyController implements AutoCloseable {
+
+    static final double HEAP_USAGE_HIGH = 0.9;
+
+    static final double SYSTEM_LOAD_HIGH = 1.5;
+
+    private static final long SAMPLING_INTERVAL_MILLIS = 1000;
+
+    private static final int MAX_LOGGED_DECISIONS = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private final int maxConcurrency;
+
+    private final int processors;
+
+    private final Supplier<Load> sampler;
+
+    private final long start = System.nanoTime();
+
+    private final List<String> decisions = new ArrayList<>();
+
+    private ScheduledExecutorService scheduler;
+
+    private int limit;
+
+    private int running;
+
+    private int waiting;
+
+    private int lowest;
+
+    private int highest;
+
+    private int cpuBoundSteps;
+
+    private int ioBoundSteps;
+
+    /**
+     * A sample of the load of the host.
+     *
+     * @param systemLoadAverage the system load average, negative if not available
+     * @param heapUsage the ratio of the maximum heap in use
+     */
+    record Load(double systemLoadAverage, double heapUsage) {}
+
+    /**
+     * Creates the controller of a build, if adaptive concurrency is enabled with
+     * {@link Constants#MAVEN_BUILDER_ADAPTIVE_CONCURRENCY}.
+     *
+     * @param session the session
+     * @param maxConcurrency the size of the thread pool of the builder
+     * @return the started controller, or {@code null} if the concurrency of the build is fixed
+     */
+    public static AdaptiveConcurrencyController create(MavenSession session, int maxConcurrency) {
+        if (maxConcurrency <= 1
+                || session.getRepositorySession() == null
+                || !ConfigUtils.getBoolean(
+                        session.getRepositorySession(), false, Constants.MAVEN_BUILDER_ADAPTIVE_CONCURRENCY)) {
+            return null;
+        }
+        AdaptiveConcurrencyController controller = new AdaptiveConcurrencyController(
+                maxConcurrency, Runtime.getRuntime().availableProcessors(), AdaptiveConcurrencyController::sample);
+        controller.start();
+        return controller;
+    }
+
+    AdaptiveConcurrencyController(int maxConcurrency, int processors, Supplier<Load> sampler) {
+        this.maxConcurrency = maxConcurrency;
+        this.processors = processors;
+        this.sampler = sampler;
+        this.limit = Math.max(1, Math.min(maxConcurrency, processors));
+        this.lowest = limit;
+        this.highest = limit;
+    }
+
+    private void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mvn-adaptive-concurrency");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(
+                this::adjust, SAMPLING_INTERVAL_MILLIS, SAMPLING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits until the step may execute.
+     *
+     * @return the permit to close once the step is executed
+     */
+    public Permit acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (running >= limit) {
+                    available.await();
+                }
+            } finally {
+                waiting--;
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        return new Permit();
+    }
+
+    /**
+     * Takes a permit if the limit allows it now, without waiting.
+     *
+     * @return the permit to close once the step is executed, {@code null} if the limit is reached
+     */
+    public Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (running >= limit) {
+                return null;
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        return new Permit();
+    }
+
+    int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Samples the load of the host and adapts the limit.
+     */
+    void adjust() {
+        Load load;
+        try {
+            load = sampler.get();
+        } catch (RuntimeException e) {
+            logger.debug("Unable to sample the system load", e);
+            return;
+        }
+        lock.lock();
+        try {
+            int previous = limit;
+            String reason = null;
+            if (load.heapUsage() > HEAP_USAGE_HIGH) {
+                if (limit > 1) {
+                    limit--;
+                    reason = String.format("heap usage at %d%%", Math.round(load.heapUsage() * 100));
+                }
+            } else if (load.systemLoadAverage() > processors * SYSTEM_LOAD_HIGH) {
+                if (limit > 1) {
+                    limit--;
+                    reason = String.format(
+                            "system load average %.1f for %d processors", load.systemLoadAverage(), processors);
+                }
+            } else if (waiting > 0 && limit < maxConcurrency && load.systemLoadAverage() < processors) {
+                int steps = cpuBoundSteps + ioBoundSteps;
+                boolean ioBound = steps > 0 && ioBoundSteps * 2 > steps;
+                limit = Math.min(maxConcurrency, limit + (ioBound ? 2 : 1));
+                reason = String.format(
+                        "%d steps waiting, %d%% of the executed steps I/O bound",
+                        waiting, steps > 0 ? ioBoundSteps * 100 / steps : 0);
+                available.signalAll();
+            }
+            if (reason != null) {
+                lowest = Math.min(lowest, limit);
+                highest = Math.max(highest, limit);
+                String decision = String.format(
+                        "%.1fs: %d -> %d (%s)", (System.nanoTime() - start) / 1_000_000_000.0, previous, limit, reason);
+                decisions.add(decision);
+                logger.debug("Adaptive concurrency {}", decision);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Logs the decisions taken during the build.
+     */
+    public void logSummary() {
+        lock.lock();
+        try {
+            logger.info(
+                    "Adaptive concurrency: {} adjustments, between {} and {} concurrent steps (maximum {}),"
+                            + " {} CPU bound and {} I/O bound steps",
+                    decisions.size(),
+                    lowest,
+                    highest,
+                    maxConcurrency,
+                    cpuBoundSteps,
+                    ioBoundSteps);
+            int first = Math.max(0, decisions.size() - MAX_LOGGED_DECISIONS);
+            if (first > 0) {
+                logger.info("  ... {} earlier adjustments", first);
+            }
+            decisions.subList(first, decisions.size()).forEach(d -> logger.info("  {}", d));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Load sample() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+        return new Load(
+                ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage(), (double) heap.getUsed() / max);
+    }
+
+    private static long cpuTime() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * The permission of a step to execute, measuring whether the step is CPU or I/O bound.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long startTime = System.nanoTime();
+
+        private final long startCpuTime = cpuTime();
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long elapsed = System.nanoTime() - startTime;
+            long cpu = cpuTime() - startCpuTime;
+            lock.lock();
+            try {
+                running--;
+                if (startCpuTime >= 0 && elapsed > 0) {
+                    if (cpu * 2 >= elapsed) {
+                        cpuBoundSteps++;
+                    } else {
+                        ioBoundSteps++;
+                    }
+                }
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -38,11 +38,13 @@
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.MojoExecutor;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
 import org.apache.maven.lifecycle.internal.ProjectSegment;
 import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
 import org.apache.maven.lifecycle.internal.ReactorContext;
 import org.apache.maven.lifecycle.internal.TaskSegment;
+import org.apache.maven.lifecycle.internal.builder.AdaptiveConcurrencyController;
 import org.apache.maven.lifecycle.internal.builder.Builder;
 import org.apache.maven.project.MavenProject;
 import org.slf4j.Logger;
@@ -92,27 +94,36 @@ public void build(
         }
         ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
         CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
-
-        for (TaskSegment taskSegment : taskSegments) {
-            ProjectBuildList segmentProjectBuilds = projectBuilds.getByTaskSegment(taskSegment);
-            Map<MavenProject, ProjectSegment> projectBuildMap = projectBuilds.selectSegment(taskSegment);
-            try {
-                ConcurrencyDependencyGraph analyzer =
-                        new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
-
-                multiThreadedProjectTaskSegmentBuild(
-                        analyzer, reactorContext, session, service, taskSegment, projectBuildMap);
-                if (reactorContext.getReactorBuildStatus().isHalted()) {
+        AdaptiveConcurrencyController controller = AdaptiveConcurrencyController.create(session, nThreads);
+
+        try {
+            for (TaskSegment taskSegment : taskSegments) {
+                ProjectBuildList segmentProjectBuilds = projectBuilds.getByTaskSegment(taskSegment);
+                Map<MavenProject, ProjectSegment> projectBuildMap = projectBuilds.selectSegment(taskSegment);
+                try {
+                    ConcurrencyDependencyGraph analyzer =
+                            new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
+
+                    multiThreadedProjectTaskSegmentBuild(
+                            analyzer, reactorContext, session, service, taskSegment, projectBuildMap, controller);
+                    if (reactorContext.getReactorBuildStatus().isHalted()) {
+                        break;
+                    }
+                } catch (Exception e) {
+                    session.getResult().addException(e);
                     break;
                 }
-            } catch (Exception e) {
-                session.getResult().addException(e);
-                break;
             }
-        }
 
-        executor.shutdown();
-        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } finally {
+            if (controller != null) {
+                controller.close();
+                controller.logSummary();
+            }
+        }
+        MojoExecutor.logLockWaits(session);
     }
 
     private void multiThreadedProjectTaskSegmentBuild(
@@ -121,7 +132,8 @@ private void multiThreadedProjectTaskSegmentBuild(
             MavenSession rootSession,
             CompletionService<ProjectSegment> service,
             TaskSegment taskSegment,
-            Map<MavenProject, ProjectSegment> projectBuildList) {
+            Map<MavenProject, ProjectSegment> projectBuildList,
+            AdaptiveConcurrencyController controller) {
         // gather artifactIds which are not unique so that the respective thread names can be extended with the groupId
         Set<String> duplicateArtifactIds = projectBuildList.keySet().stream()
                 .map(MavenProject::getArtifactId)
@@ -136,8 +148,8 @@ private void multiThreadedProjectTaskSegmentBuild(
         for (MavenProject mavenProject : analyzer.getRootSchedulableBuilds()) {
             ProjectSegment projectSegment = projectBuildList.get(mavenProject);
             logger.debug("Scheduling: {}", projectSegment.getProject());
-            Callable<ProjectSegment> cb =
-                    createBuildCallable(rootSession, projectSegment, reactorContext, taskSegment, duplicateArtifactIds);
+            Callable<ProjectSegment> cb = createBuildCallable(
+                    rootSession, projectSegment, reactorContext, taskSegment, duplicateArtifactIds, controller);
             service.submit(cb);
         }
 
@@ -157,7 +169,12 @@ private void multiThreadedProjectTaskSegmentBuild(
                         ProjectSegment scheduledDependent = projectBuildList.get(mavenProject);
                         logger.debug("Scheduling: {}", scheduledDependent);
                         Callable<ProjectSegment> cb = createBuildCallable(
-                                rootSession, scheduledDependent, reactorContext, taskSegment, duplicateArtifactIds);
+                                rootSession,
+                                scheduledDependent,
+                                reactorContext,
+                                taskSegment,
+                                duplicateArtifactIds,
+                                controller);
                         service.submit(cb);
                     }
                 }
@@ -177,7 +194,8 @@ private Callable<ProjectSegment> createBuildCallable(
             final ProjectSegment projectBuild,
             final ReactorContext reactorContext,
             final TaskSegment taskSegment,
-            final Set<String> duplicateArtifactIds) {
+            final Set<String> duplicateArtifactIds,
+            final AdaptiveConcurrencyController controller) {
         return () -> {
             final Thread currentThread = Thread.currentThread();
             final String originalThreadName = currentThread.getName();
@@ -188,7 +206,7 @@ private Callable<ProjectSegment> createBuildCallable(
                     : project.getArtifactId();
             currentThread.setName("mvn-builder-" + threadNameSuffix);
 
-            try {
+            try (AdaptiveConcurrencyController.Permit permit = controller != null ? controller.acquire() : null) {
                 lifecycleModuleBuilder.buildProject(
                         projectBuild.getSession(), rootSession, reactorContext, project, taskSegment);
 
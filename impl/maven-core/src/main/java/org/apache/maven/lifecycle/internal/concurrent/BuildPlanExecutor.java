@@ -23,12 +23,14 @@
 import javax.xml.stream.XMLStreamException;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,12 +43,11 @@
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Lifecycle;
 import org.apache.maven.api.MonotonicClock;
 import org.apache.maven.api.services.LifecycleRegistry;
 import org.apache.maven.api.services.MavenException;
-import org.apache.maven.api.xml.XmlNode;
-import org.apache.maven.api.xml.XmlService;
 import org.apache.maven.execution.BuildFailure;
 import org.apache.maven.execution.BuildSuccess;
 import org.apache.maven.execution.ExecutionEvent;
@@ -68,12 +69,14 @@
 import org.apache.maven.lifecycle.internal.ExecutionEventCatapult;
 import org.apache.maven.lifecycle.internal.GoalTask;
 import org.apache.maven.lifecycle.internal.LifecycleTask;
+import org.apache.maven.lifecycle.internal.MojoConfigurationFinalizer;
 import org.apache.maven.lifecycle.internal.MojoDescriptorCreator;
 import org.apache.maven.lifecycle.internal.MojoExecutor;
 import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
 import org.apache.maven.lifecycle.internal.ReactorContext;
 import org.apache.maven.lifecycle.internal.Task;
 import org.apache.maven.lifecycle.internal.TaskSegment;
+import org.apache.maven.lifecycle.internal.builder.AdaptiveConcurrencyController;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
 import org.apache.maven.plugin.MavenPluginManager;
@@ -81,17 +84,19 @@
 import org.apache.maven.plugin.MojoNotFoundException;
 import org.apache.maven.plugin.PluginDescriptorParsingException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
-import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.apache.maven.api.Lifecycle.AFTER;
 import static org.apache.maven.api.Lifecycle.AT;
 import static org.apache.maven.api.Lifecycle.BEFORE;
+import static org.apache.maven.api.Lifecycle.Phase.COMPILE;
 import static org.apache.maven.api.Lifecycle.Phase.PACKAGE;
 import static org.apache.maven.api.Lifecycle.Phase.READY;
 import static org.apache.maven.lifecycle.internal.concurrent.BuildStep.CREATED;
@@ -131,7 +136,8 @@
  * <pre>
  * min(degreeOfConcurrency, numberOfProjects)
  * </pre>
- * where degreeOfConcurrency is set via the -T command-line option.
+ * where degreeOfConcurrency is set via the -T command-line option. With a memory budget, the steps are
+ * additionally admitted according to the heap footprint of their mojos in the previous build, see {@link MemoryBudget}.
  *
  * <h2>Build Step States:</h2>
  * <ul>
@@ -162,6 +168,7 @@ public class BuildPlanExecutor {
     private final MavenPluginManager mavenPluginManager;
     private final MojoDescriptorCreator mojoDescriptorCreator;
     private final LifecycleRegistry lifecycles;
+    private final BuildTelemetry telemetry;
 
     @Inject
     @SuppressWarnings("checkstyle:ParameterNumber")
@@ -174,7 +181,8 @@ public BuildPlanExecutor(
             Map<String, MojoExecutionConfigurator> mojoExecutionConfigurators,
             MavenPluginManager mavenPluginManager,
             MojoDescriptorCreator mojoDescriptorCreator,
-            LifecycleRegistry lifecycles) {
+            LifecycleRegistry lifecycles,
+            BuildTelemetry telemetry) {
         this.mojoExecutor = mojoExecutor;
         this.eventCatapult = eventCatapult;
         this.projectExecutionListener = new CompoundProjectExecutionListener(listeners);
@@ -184,6 +192,7 @@ public BuildPlanExecutor(
         this.mavenPluginManager = mavenPluginManager;
         this.mojoDescriptorCreator = mojoDescriptorCreator;
         this.lifecycles = lifecycles;
+        this.telemetry = telemetry;
     }
 
     public void execute(MavenSession session, ReactorContext reactorContext, List<TaskSegment> taskSegments)
@@ -200,17 +209,35 @@ class BuildContext implements AutoCloseable {
         final Map<Object, Clock> clocks = new ConcurrentHashMap<>();
         final ReadWriteLock lock = new ReentrantReadWriteLock();
         final int threads;
+        final boolean concurrentMojos;
+        final AdaptiveConcurrencyController controller;
+        final MemoryBudget memoryBudget;
+        final boolean pipelining;
+        // pipelined steps -> fingerprints of the upstream output directories they executed against
+        final Map<BuildStep, Map<MavenProject, OutputFingerprint>> pipelinedSteps = new ConcurrentHashMap<>();
         BuildPlan plan;
 
         BuildContext(MavenSession session, ReactorContext reactorContext, List<TaskSegment> taskSegments) {
             this.session = session;
             this.reactorContext = reactorContext;
-            this.threads = Math.min(
-                    session.getRequest().getDegreeOfConcurrency(),
-                    session.getProjects().size());
+            this.concurrentMojos = ConfigUtils.getBoolean(
+                    session.getRepositorySession(), false, Constants.MAVEN_BUILDER_CONCURRENT_MOJOS);
+            this.pipelining =
+                    ConfigUtils.getBoolean(session.getRepositorySession(), false, Constants.MAVEN_BUILDER_PIPELINING);
+            // independent mojos of a project may use the build threads, even with fewer projects than threads
+            this.threads = concurrentMojos
+                    ? session.getRequest().getDegreeOfConcurrency()
+                    : Math.min(
+                            session.getRequest().getDegreeOfConcurrency(),
+                            session.getProjects().size());
             // Propagate the parallel flag to the root session
             session.setParallel(threads > 1);
             this.executor = new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
+            this.controller = AdaptiveConcurrencyController.create(session, threads);
+            this.memoryBudget = threads > 1 ? MemoryBudget.create(session) : null;
+            if (memoryBudget != null) {
+                session.getRepositorySession().getData().set(MemoryBudget.class, memoryBudget);
+            }
 
             // build initial plan
             this.plan = buildInitialPlan(taskSegments);
@@ -220,15 +247,16 @@ class BuildContext implements AutoCloseable {
             this.session = null;
             this.reactorContext = null;
             this.threads = 1;
+            this.concurrentMojos = false;
+            this.pipelining = false;
             this.executor = null;
+            this.controller = null;
+            this.memoryBudget = null;
             this.plan = null;
         }
 
         public BuildPlan buildInitialPlan(List<TaskSegment> taskSegments) {
-            int nThreads = Math.min(
-                    session.getRequest().getDegreeOfConcurrency(),
-                    session.getProjects().size());
-            boolean parallel = nThreads > 1;
+            boolean parallel = threads > 1;
             // Propagate the parallel flag to the root session
             session.setParallel(parallel);
 
@@ -338,11 +366,24 @@ void execute() {
             } catch (Exception e) {
                 session.getResult().addException(e);
             }
+            if (controller != null) {
+                controller.logSummary();
+            }
+            if (memoryBudget != null) {
+                memoryBudget.save();
+                memoryBudget.logSummary();
+            }
         }
 
         @Override
         public void close() {
             this.executor.close();
+            if (controller != null) {
+                controller.close();
+            }
+            if (memoryBudget != null) {
+                session.getRepositorySession().getData().set(MemoryBudget.class, null);
+            }
         }
 
         /**
@@ -491,6 +532,19 @@ private void executePlan() {
          * @throws LifecycleExecutionException If there's a lifecycle execution error
          */
         private void executeStep(BuildStep step) throws IOException, LifecycleExecutionException {
+            if (SETUP.equals(step.name)
+                    || TEARDOWN.equals(step.name)
+                    || step.executions().findAny().isPresent()) {
+                try (BuildTelemetry.Span span =
+                        telemetry.span(BuildTelemetry.CATEGORY_PROJECT, step.name, step.project.getArtifactId())) {
+                    doExecuteStep(step);
+                }
+            } else {
+                doExecuteStep(step);
+            }
+        }
+
+        private void doExecuteStep(BuildStep step) throws IOException, LifecycleExecutionException {
             Clock clock = getClock(step.project);
             switch (step.name) {
                 case PLAN:
@@ -505,6 +559,15 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
                 case TEARDOWN:
                     attachToThread(step);
 
+                    // the upstream projects are packaged by now, so the pipelined steps are always verified
+                    if (plan.steps(step.project).allMatch(s -> s.exception == null)) {
+                        try {
+                            verifyPipelinedSteps(step);
+                        } catch (LifecycleExecutionException e) {
+                            step.exception = e;
+                        }
+                    }
+
                     // Check if there are any stored exceptions for this project
                     List<Throwable> failures = null;
                     boolean allStepsExecuted = true;
@@ -546,15 +609,23 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
                     List<MojoExecution> executions = step.executions().toList();
                     if (!executions.isEmpty()) {
                         attachToThread(step);
-                        clock.start();
-                        try {
-                            executions.forEach(mojoExecution -> {
-                                mojoExecutionConfigurator(mojoExecution).configure(step.project, mojoExecution, true);
-                                finalizeMojoConfiguration(mojoExecution);
-                            });
-                            mojoExecutor.execute(session, executions);
-                        } finally {
-                            clock.stop();
+                        try (MemoryBudget.Reservation reservation = reserveMemory(step, executions);
+                                AdaptiveConcurrencyController.Permit permit = acquirePermit(step)) {
+                            clock.start();
+                            try {
+                                verifyPipelinedSteps(step);
+                                if (pipelinedSteps.containsKey(step)) {
+                                    recordUpstreamOutputs(step);
+                                }
+                                executions.forEach(mojoExecution -> {
+                                    mojoExecutionConfigurator(mojoExecution)
+                                            .configure(step.project, mojoExecution, true);
+                                    MojoConfigurationFinalizer.finalizeMojoConfiguration(session, mojoExecution);
+                                });
+                                executeMojos(step, executions);
+                            } finally {
+                                clock.stop();
+                            }
                         }
                     }
                     break;
@@ -562,6 +633,187 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
             step.status.compareAndSet(SCHEDULED, EXECUTED);
         }
 
+        private AdaptiveConcurrencyController.Permit acquirePermit(BuildStep step) throws LifecycleExecutionException {
+            if (controller == null) {
+                return null;
+            }
+            try {
+                return controller.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LifecycleExecutionException("Interrupted while waiting to execute " + step, e);
+            }
+        }
+
+        /**
+         * Records the output directories of the upstream projects a pipelined step executes against, if they are
+         * not packaged yet.
+         */
+        private void recordUpstreamOutputs(BuildStep step) {
+            Map<MavenProject, OutputFingerprint> fingerprints = pipelinedSteps.get(step);
+            for (MavenProject upstream : session.getProjectDependencyGraph().getUpstreamProjects(step.project, true)) {
+                if (plan.step(upstream, AFTER + PACKAGE)
+                        .filter(s -> !s.isDone())
+                        .isPresent()) {
+                    try {
+                        fingerprints.put(
+                                upstream,
+                                OutputFingerprint.of(
+                                        Paths.get(upstream.getBuild().getOutputDirectory())));
+                    } catch (IOException e) {
+                        logger.debug("Unable to record the output directory of {}", upstream.getId(), e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks that the upstream projects packaged since the pipelined steps of the project executed did not change
+         * their output directories. If they did, the first stale pipelined step and every step of the project executed
+         * after it are executed again, in order, before the given step.
+         */
+        private void verifyPipelinedSteps(BuildStep step) throws LifecycleExecutionException {
+            BuildStep stale = null;
+            Set<String> changed = new LinkedHashSet<>();
+            for (Map.Entry<BuildStep, Map<MavenProject, OutputFingerprint>> entry : pipelinedSteps.entrySet()) {
+                BuildStep pipelined = entry.getKey();
+                if (pipelined == step || pipelined.project != step.project || pipelined.status.get() != EXECUTED) {
+                    continue;
+                }
+                for (MavenProject upstream : List.copyOf(entry.getValue().keySet())) {
+                    if (plan.step(upstream, AFTER + PACKAGE)
+                            .filter(s -> s.status.get() == EXECUTED)
+                            .isEmpty()) {
+                        continue;
+                    }
+                    OutputFingerprint fingerprint = entry.getValue().remove(upstream);
+                    if (fingerprint != null && !fingerprint.matches(upstream)) {
+                        changed.add(upstream.getArtifactId());
+                        if (stale == null || stale.isSuccessorOf(pipelined)) {
+                            stale = pipelined;
+                        }
+                    }
+                }
+            }
+            if (stale == null) {
+                return;
+            }
+            BuildStep first = stale;
+            List<BuildStep> invalidated = inExecutionOrder(plan.steps(step.project)
+                    .filter(s -> s != step
+                            && s.status.get() == EXECUTED
+                            && s.isSuccessorOf(first)
+                            && step.isSuccessorOf(s)
+                            && s.executions().findAny().isPresent())
+                    .toList());
+            logger.warn(
+                    "The output of {} changed after {} was pipelined, executing {} again",
+                    changed,
+                    step.project.getArtifactId(),
+                    invalidated.stream().map(s -> s.name).toList());
+            for (BuildStep s : invalidated) {
+                if (pipelinedSteps.containsKey(s)) {
+                    recordUpstreamOutputs(s);
+                }
+                executeMojos(s, s.executions().toList());
+            }
+        }
+
+        /**
+         * Orders steps of a project so that each one comes after the steps it executes after.
+         */
+        private static List<BuildStep> inExecutionOrder(List<BuildStep> steps) {
+            List<BuildStep> remaining = new ArrayList<>(steps);
+            List<BuildStep> ordered = new ArrayList<>(steps.size());
+            while (!remaining.isEmpty()) {
+                BuildStep next = remaining.stream()
+                        .filter(s -> remaining.stream().noneMatch(o -> o != s && s.isSuccessorOf(o)))
+                        .findFirst()
+                        .orElse(remaining.get(0));
+                remaining.remove(next);
+                ordered.add(next);
+            }
+            return ordered;
+        }
+
+        /**
+         * Acquires a permit and reserves the predicted footprint of a mojo executed by another thread concurrently
+         * with the other mojos of its step, which hold their own.
+         */
+        private MojoExecutor.ConcurrencyGuard.Resources tryAcquireResources(BuildStep step, MojoExecution execution) {
+            AdaptiveConcurrencyController.Permit permit = controller != null ? controller.tryAcquire() : null;
+            if (controller != null && permit == null) {
+                return null;
+            }
+            MemoryBudget.Reservation reservation = memoryBudget != null
+                    ? memoryBudget.tryReserve(memoryBudget.predict(step.project, List.of(execution)))
+                    : null;
+            if (memoryBudget != null && reservation == null) {
+                if (permit != null) {
+                    permit.close();
+                }
+                return null;
+            }
+            return () -> {
+                if (reservation != null) {
+                    reservation.close();
+                }
+                if (permit != null) {
+                    permit.close();
+                }
+            };
+        }
+
+        private MemoryBudget.Reservation reserveMemory(BuildStep step, List<MojoExecution> executions)
+                throws LifecycleExecutionException {
+            if (memoryBudget == null) {
+                return null;
+            }
+            try {
+                return memoryBudget.reserve(memoryBudget.predict(step.project, executions));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new LifecycleExecutionException("Interrupted while waiting for memory to execute " + step, e);
+            }
+        }
+
+        /**
+         * Executes the mojos of a step in order. With {@link Constants#MAVEN_BUILDER_CONCURRENT_MOJOS}, adjacent
+         * executions declared independent run concurrently.
+         */
+        private void executeMojos(BuildStep step, List<MojoExecution> executions) throws LifecycleExecutionException {
+            List<List<MojoExecution>> groups =
+                    concurrentMojos ? groupIndependentMojos(executions, getIndependentMojos(step.project)) : List.of();
+            if (groups.size() == executions.size() || groups.isEmpty()) {
+                // nothing to run concurrently
+                mojoExecutor.execute(session, executions);
+                return;
+            }
+            for (List<MojoExecution> group : groups) {
+                if (group.size() > 1) {
+                    mojoExecutor.executeConcurrently(
+                            session, group, executor, execution -> tryAcquireResources(step, execution));
+                } else {
+                    mojoExecutor.execute(session, group);
+                }
+            }
+        }
+
+        private Set<String> getIndependentMojos(MavenProject project) {
+            String mojos = project.getProperties().getProperty(Constants.MAVEN_BUILDER_INDEPENDENT_MOJOS);
+            if (mojos == null) {
+                mojos = ConfigUtils.getString(
+                        session.getRepositorySession(), null, Constants.MAVEN_BUILDER_INDEPENDENT_MOJOS);
+            }
+            if (mojos == null || mojos.isBlank()) {
+                return Set.of();
+            }
+            return Stream.of(mojos.split(","))
+                    .map(String::trim)
+                    .filter(m -> !m.isEmpty())
+                    .collect(Collectors.toSet());
+        }
+
         private void attachToThread(BuildStep step) {
             BuildPlanExecutor.attachToThread(step.project);
             session.setCurrentProject(step.project);
@@ -600,11 +852,26 @@ private void plan() {
                                     n.addMojo(mojoExecution, execution.getPriority());
                                     if (mojoDescriptor.getDependencyCollectionRequired() != null
                                             || mojoDescriptor.getDependencyResolutionRequired() != null) {
+                                        // when pipelining, compile against the output directories of the upstream
+                                        // projects as soon as they are ready
+                                        boolean pipelined = pipelining
+                                                && COMPILE.equals(resolvedPhase)
+                                                && !"test".equals(mojoDescriptor.getDependencyCollectionRequired())
+                                                && !"test".equals(mojoDescriptor.getDependencyResolutionRequired());
+                                        if (pipelined) {
+                                            pipelinedSteps.putIfAbsent(n, new ConcurrentHashMap<>());
+                                        }
                                         for (MavenProject p :
                                                 plan.getAllProjects().get(project)) {
-                                            plan.step(p, AFTER + PACKAGE)
+                                            plan.step(p, AFTER + (pipelined ? READY : PACKAGE))
                                                     .ifPresent(a -> plan.requiredStep(project, resolvedPhase)
                                                             .executeAfter(a));
+                                            if (pipelined) {
+                                                // the pipelined steps are verified once the upstream is packaged
+                                                plan.step(p, AFTER + PACKAGE)
+                                                        .ifPresent(a -> plan.requiredStep(project, TEARDOWN)
+                                                                .executeAfter(a));
+                                            }
                                         }
                                     }
                                 });
@@ -1000,82 +1267,52 @@ private void resolvePlugin(MavenSession session, List<RemoteRepository> reposito
         }
     }
 
-    private static String gav(MavenProject p) {
-        return p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion();
-    }
-
-    private static String gav(Plugin p) {
-        return p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion();
-    }
-
     /**
-     * Post-processes the effective configuration for the specified mojo execution. This step discards all parameters
-     * from the configuration that are not applicable to the mojo and injects the default values for any missing
-     * parameters.
+     * Splits the executions of a step into groups to be executed in order: each group holds either a single execution,
+     * or adjacent executions declared independent, which may run concurrently. Only thread-safe, non-aggregating and
+     * non-forking mojos are executed concurrently.
      *
-     * @param mojoExecution The mojo execution whose configuration should be finalized, must not be {@code null}.
+     * @param executions the executions of the step
+     * @param independentMojos the independent mojos, as {@code groupId:artifactId} or {@code groupId:artifactId:goal}
      */
-    private void finalizeMojoConfiguration(MojoExecution mojoExecution) {
-        MojoDescriptor mojoDescriptor = mojoExecution.getMojoDescriptor();
-
-        XmlNode executionConfiguration = mojoExecution.getConfiguration() != null
-                ? mojoExecution.getConfiguration().getDom()
-                : null;
-        if (executionConfiguration == null) {
-            executionConfiguration = XmlNode.newInstance("configuration");
-        }
-
-        XmlNode defaultConfiguration = getMojoConfiguration(mojoDescriptor);
-
-        List<XmlNode> children = new ArrayList<>();
-        if (mojoDescriptor.getParameters() != null) {
-            for (Parameter parameter : mojoDescriptor.getParameters()) {
-                XmlNode parameterConfiguration = executionConfiguration.child(parameter.getName());
-
-                if (parameterConfiguration == null) {
-                    parameterConfiguration = executionConfiguration.child(parameter.getAlias());
-                }
-
-                XmlNode parameterDefaults = defaultConfiguration.child(parameter.getName());
-
-                if (parameterConfiguration != null) {
-                    parameterConfiguration = XmlService.merge(parameterConfiguration, parameterDefaults, Boolean.TRUE);
-                } else {
-                    parameterConfiguration = parameterDefaults;
-                }
-
-                if (parameterConfiguration != null) {
-                    Map<String, String> attributes = new HashMap<>(parameterConfiguration.attributes());
-
-                    String attributeForImplementation = parameterConfiguration.attribute("implementation");
-                    String parameterForImplementation = parameter.getImplementation();
-                    if ((attributeForImplementation == null || attributeForImplementation.isEmpty())
-                            && ((parameterForImplementation != null) && !parameterForImplementation.isEmpty())) {
-                        attributes.put("implementation", parameter.getImplementation());
-                    }
-
-                    parameterConfiguration = XmlNode.newInstance(
-                            parameter.getName(),
-                            parameterConfiguration.value(),
-                            attributes,
-                            parameterConfiguration.children(),
-                            parameterConfiguration.inputLocation());
-
-                    children.add(parameterConfiguration);
+    static List<List<MojoExecution>> groupIndependentMojos(
+            List<MojoExecution> executions, Set<String> independentMojos) {
+        List<List<MojoExecution>> groups = new ArrayList<>();
+        List<MojoExecution> group = null;
+        for (MojoExecution execution : executions) {
+            if (isIndependent(execution, independentMojos)) {
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groups.add(group);
                 }
+                group.add(execution);
+            } else {
+                group = null;
+                groups.add(List.of(execution));
             }
         }
-        XmlNode finalConfiguration = XmlNode.newInstance("configuration", children);
-
-        mojoExecution.setConfiguration(finalConfiguration);
+        return groups;
     }
 
-    private XmlNode getMojoConfiguration(MojoDescriptor mojoDescriptor) {
-        if (mojoDescriptor.isV4Api()) {
-            return MojoDescriptorCreator.convert(mojoDescriptor.getMojoDescriptorV4());
-        } else {
-            return MojoDescriptorCreator.convert(mojoDescriptor).getDom();
+    private static boolean isIndependent(MojoExecution execution, Set<String> independentMojos) {
+        MojoDescriptor mojoDescriptor = execution.getMojoDescriptor();
+        if (independentMojos.isEmpty()
+                || mojoDescriptor == null
+                || !mojoDescriptor.isThreadSafe()
+                || mojoDescriptor.isAggregator()
+                || mojoDescriptor.isForking()) {
+            return false;
         }
+        String plugin = execution.getGroupId() + ":" + execution.getArtifactId();
+        return independentMojos.contains(plugin) || independentMojos.contains(plugin + ":" + execution.getGoal());
+    }
+
+    private static String gav(MavenProject p) {
+        return p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion();
+    }
+
+    private static String gav(Plugin p) {
+        return p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion();
     }
 
     private MojoExecutionConfigurator mojoExecutionConfigurator(MojoExecution mojoExecution) {
@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admits the build steps of the concurrent builder within a memory budget.
+ * <p>
+ * The heap footprint of each mojo execution is recorded and stored at the end of the build. As the bytes a mojo
+ * allocates are mostly short lived garbage, and summing them would exceed any heap share, the footprint is the growth
+ * of the used heap over the execution, bounded by the bytes allocated by the executing thread as reported by the
+ * allocation counters of the JVM. A step is predicted to need as much as the largest recorded footprint of its mojos
+ * in the previous build, and it is started only when the predictions of the running steps fit in the budget, see
+ * {@link Constants#MAVEN_BUILDER_MEMORY_BUDGET}. A step predicted to exceed the budget on its
+ * own waits for the other heavy steps to complete, and then runs alone. Steps without history are not limited.
+ */
+class MemoryBudget {
+
+    static final String FILE_NAME = "maven-memory.properties";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryBudget.class);
+
+    private final long budget;
+
+    private final Path file;
+
+    private final Map<String, Long> history = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> observed = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition released = lock.newCondition();
+
+    private long reserved;
+
+    private int delayedSteps;
+
+    private int serializedSteps;
+
+    MemoryBudget(long budget, Path file) {
+        this.budget = budget;
+        this.file = file;
+    }
+
+    /**
+     * Creates the memory budget of the build, loading the footprints recorded by the previous build.
+     *
+     * @return the budget, or {@code null} if no budget is configured or the JVM does not count thread allocations
+     */
+    static MemoryBudget create(MavenSession session) {
+        String value =
+                ConfigUtils.getString(session.getRepositorySession(), null, Constants.MAVEN_BUILDER_MEMORY_BUDGET);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        if (currentThreadAllocatedBytes() < 0) {
+            LOGGER.warn(
+                    "Ignoring {}: the JVM does not report thread allocations", Constants.MAVEN_BUILDER_MEMORY_BUDGET);
+            return null;
+        }
+        MavenProject topLevelProject = session.getTopLevelProject();
+        Path file = topLevelProject != null && topLevelProject.getBuild().getDirectory() != null
+                ? Paths.get(topLevelProject.getBuild().getDirectory()).resolve(FILE_NAME)
+                : null;
+        MemoryBudget memoryBudget =
+                new MemoryBudget(parseBudget(value, Runtime.getRuntime().maxMemory()), file);
+        memoryBudget.load();
+        return memoryBudget;
+    }
+
+    /**
+     * Parses a budget given as a size with an optional {@code k}, {@code m} or {@code g} unit, or as a percentage of
+     * the maximum heap.
+     */
+    static long parseBudget(String value, long maxHeap) {
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (v.endsWith("%")) {
+                double percent = Double.parseDouble(v.substring(0, v.length() - 1));
+                if (percent > 0) {
+                    return (long) (maxHeap * percent / 100);
+                }
+            } else {
+                long unit =
+                        switch (v.isEmpty() ? ' ' : v.charAt(v.length() - 1)) {
+                            case 'k' -> 1L << 10;
+                            case 'm' -> 1L << 20;
+                            case 'g' -> 1L << 30;
+                            default -> 1L;
+                        };
+                long size = Long.parseLong(unit > 1 ? v.substring(0, v.length() - 1) : v);
+                if (size > 0) {
+                    return size * unit;
+                }
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value for " + Constants.MAVEN_BUILDER_MEMORY_BUDGET + ": '" + value
+                + "', expected a size such as 4g or a percentage of the heap such as 70%");
+    }
+
+    /**
+     * Returns the footprint predicted for a step, from the footprints recorded for its mojos.
+     */
+    long predict(MavenProject project, Iterable<MojoExecution> executions) {
+        long prediction = 0;
+        for (MojoExecution execution : executions) {
+            prediction = Math.max(prediction, history.getOrDefault(key(project, execution), 0L));
+        }
+        return prediction;
+    }
+
+    /**
+     * Waits until a step with the given predicted footprint fits in the budget.
+     *
+     * @return the reservation to close once the step is executed
+     */
+    Reservation reserve(long prediction) throws InterruptedException {
+        if (prediction <= 0) {
+            return new Reservation(0);
+        }
+        lock.lock();
+        try {
+            if (reserved > 0 && reserved + prediction > budget) {
+                delayedSteps++;
+                while (reserved > 0 && reserved + prediction > budget) {
+                    released.await();
+                }
+            }
+            if (prediction > budget) {
+                serializedSteps++;
+            }
+            reserved += prediction;
+        } finally {
+            lock.unlock();
+        }
+        return new Reservation(prediction);
+    }
+
+    /**
+     * Reserves the predicted footprint of a mojo executed concurrently with the other mojos of its step, if it fits in
+     * the budget now.
+     *
+     * @return the reservation to close once the mojo is executed, {@code null} if it does not fit
+     */
+    Reservation tryReserve(long prediction) {
+        if (prediction <= 0) {
+            return new Reservation(0);
+        }
+        lock.lock();
+        try {
+            if (reserved + prediction > budget) {
+                return null;
+            }
+            reserved += prediction;
+        } finally {
+            lock.unlock();
+        }
+        return new Reservation(prediction);
+    }
+
+    /**
+     * Records the heap footprint of a mojo execution.
+     */
+    void record(MavenProject project, MojoExecution execution, long footprint) {
+        observed.merge(key(project, execution), footprint, Math::max);
+    }
+
+    /**
+     * Returns the heap footprint of a mojo execution: the growth of the used heap during the execution, which can
+     * include the allocations of concurrent steps, bounded by the bytes allocated by the executing thread.
+     */
+    static long footprint(long allocatedBytes, long heapGrowth) {
+        return Math.max(0, Math.min(allocatedBytes, heapGrowth));
+    }
+
+    /**
+     * Returns the bytes currently used in the heap, live objects and garbage not collected yet.
+     */
+    static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, or {@code -1} if the JVM does not count them.
+     */
+    static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocations
+                && allocations.isThreadAllocatedMemorySupported()
+                && allocations.isThreadAllocatedMemoryEnabled()) {
+            return allocations.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    void load() {
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Unable to read the recorded mojo footprints from {}: {}", file, e.getMessage());
+            return;
+        }
+        properties.forEach((k, v) -> {
+            try {
+                history.put(k.toString(), Long.parseLong(v.toString()));
+            } catch (NumberFormatException e) {
+                // ignore the entry
+            }
+        });
+    }
+
+    /**
+     * Stores the footprints of the mojos executed during this build, with the footprints recorded previously for the
+     * mojos which did not execute.
+     */
+    void save() {
+        if (file == null || observed.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        history.forEach((k, v) -> properties.setProperty(k, Long.toString(v)));
+        observed.forEach((k, v) -> properties.setProperty(k, Long.toString(v)));
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                properties.store(out, "Heap footprint of the mojo executions");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to store the recorded mojo footprints to {}: {}", file, e.getMessage());
+        }
+    }
+
+    void logSummary() {
+        lock.lock();
+        try {
+            if (delayedSteps > 0 || serializedSteps > 0) {
+                LOGGER.info(
+                        "Memory budget of {} MB: {} steps delayed, {} steps exceeding the budget executed alone",
+                        budget >> 20,
+                        delayedSteps,
+                        serializedSteps);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String key(MavenProject project, MojoExecution execution) {
+        return project.getGroupId() + ":" + project.getArtifactId() + "/" + execution.getGroupId() + ":"
+                + execution.getArtifactId() + ":" + execution.getGoal() + "@" + execution.getExecutionId();
+    }
+
+    /**
+     * The memory reserved by an executing step.
+     */
+    final class Reservation implements AutoCloseable {
+
+        private final long bytes;
+
+        private Reservation(long bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void close() {
+            if (bytes > 0) {
+                lock.lock();
+                try {
+                    reserved -= bytes;
+                    released.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
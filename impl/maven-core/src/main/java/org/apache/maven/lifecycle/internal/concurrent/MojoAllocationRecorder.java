@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.MojoExecutionEvent;
+import org.apache.maven.execution.MojoExecutionListener;
+import org.apache.maven.plugin.MojoExecution;
+
+/**
+ * Records the heap footprint of the mojo executions into the {@link MemoryBudget} of the build, if any.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.1.0
+ */
+@Named
+@Singleton
+public class MojoAllocationRecorder implements MojoExecutionListener {
+
+    /**
+     * The allocated bytes and used heap when the executions in progress in the thread started, by execution, so that
+     * a mojo executing another one, like a forked execution, does not lose the values of the outer execution.
+     */
+    private final ThreadLocal<Map<MojoExecution, long[]>> starts = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    @Override
+    public void beforeMojoExecution(MojoExecutionEvent event) {
+        if (getBudget(event.getSession()) != null) {
+            starts.get().put(event.getExecution(), new long[] {
+                MemoryBudget.currentThreadAllocatedBytes(), MemoryBudget.usedHeap()
+            });
+        }
+    }
+
+    @Override
+    public void afterMojoExecutionSuccess(MojoExecutionEvent event) {
+        record(event);
+    }
+
+    @Override
+    public void afterExecutionFailure(MojoExecutionEvent event) {
+        record(event);
+    }
+
+    private void record(MojoExecutionEvent event) {
+        MemoryBudget budget = getBudget(event.getSession());
+        if (budget == null) {
+            return;
+        }
+        Map<MojoExecution, long[]> inProgress = starts.get();
+        long[] before = inProgress.remove(event.getExecution());
+        if (inProgress.isEmpty()) {
+            starts.remove();
+        }
+        if (before != null && event.getProject() != null) {
+            budget.record(
+                    event.getProject(),
+                    event.getExecution(),
+                    MemoryBudget.footprint(
+                            MemoryBudget.currentThreadAllocatedBytes() - before[0],
+                            MemoryBudget.usedHeap() - before[1]));
+        }
+    }
+
+    private static MemoryBudget getBudget(MavenSession session) {
+        return session != null && session.getRepositorySession() != null
+                ? (MemoryBudget) session.getRepositorySession().getData().get(MemoryBudget.class)
+                : null;
+    }
+}
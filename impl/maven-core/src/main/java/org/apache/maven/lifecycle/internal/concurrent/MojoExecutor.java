@@ -30,6 +30,7 @@
 import org.apache.maven.plugin.BuildPluginManager;
 import org.apache.maven.plugin.MavenPluginManager;
 import org.apache.maven.plugin.MojosExecutionStrategy;
+import org.apache.maven.telemetry.BuildTelemetry;
 
 @Named("concurrent")
 @Singleton
@@ -42,14 +43,16 @@ public MojoExecutor(
             LifecycleDependencyResolver lifeCycleDependencyResolver,
             ExecutionEventCatapult eventCatapult,
             Provider<MojosExecutionStrategy> mojosExecutionStrategy,
-            MessageBuilderFactory messageBuilderFactory) {
+            MessageBuilderFactory messageBuilderFactory,
+            BuildTelemetry telemetry) {
         super(
                 pluginManager,
                 mavenPluginManager,
                 lifeCycleDependencyResolver,
                 eventCatapult,
                 mojosExecutionStrategy,
-                messageBuilderFactory);
+                messageBuilderFactory,
+                telemetry);
     }
 
     @Override
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.maven.project.MavenProject;
+
+/**
+ * A summary of the files of an output directory, used to detect the changes of the output of an upstream project
+ * after a downstream project was pipelined against it.
+ *
+ * @param files the number of files
+ * @param size the total size of the files
+ * @param digest the SHA-256 digest of the relative paths of the files, in sorted order, each followed by the SHA-256
+ *        digest of its content
+ */
+record OutputFingerprint(long files, long size, String digest) {
+
+    static OutputFingerprint of(Path directory) throws IOException {
+        MessageDigest digest = sha256();
+        if (!Files.isDirectory(directory)) {
+            return new OutputFingerprint(0, 0, HexFormat.of().formatHex(digest.digest()));
+        }
+        List<String> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile)
+                    .map(path -> directory.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+        long size = 0;
+        MessageDigest content = sha256();
+        byte[] buffer = new byte[8192];
+        for (String file : files) {
+            digest.update(file.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream in = Files.newInputStream(directory.resolve(file))) {
+                for (int n; (n = in.read(buffer)) >= 0; ) {
+                    content.update(buffer, 0, n);
+                    size += n;
+                }
+            }
+            digest.update(content.digest());
+        }
+        return new OutputFingerprint(files.size(), size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Checks whether the output directory of the project still has this fingerprint.
+     */
+    boolean matches(MavenProject project) {
+        try {
+            return equals(of(Paths.get(project.getBuild().getOutputDirectory())));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
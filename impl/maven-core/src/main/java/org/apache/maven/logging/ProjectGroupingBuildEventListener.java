@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.logging;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.plugin.MojoExecution;
+import org.eclipse.aether.transfer.TransferEvent;
+
+/**
+ * Build event listener that groups the log output per project: messages of a running project are buffered,
+ * and written as one contiguous block to the delegate when the project finishes, so the output of parallel
+ * builds is not interleaved and the console receives one write per project instead of one per line.
+ * Buffers growing over the spool threshold are moved to a temporary file.
+ * <p>
+ * While projects are running, an optional status display receives one line per active project.
+ *
+ * @since 4.1.0
+ */
+public class ProjectGroupingBuildEventListener implements BuildEventListener, AutoCloseable {
+
+    /**
+     * The default number of buffered characters of a project after which its buffer is spooled to disk.
+     */
+    public static final int DEFAULT_SPOOL_THRESHOLD = 1024 * 1024;
+
+    private static final int EMIT_CHUNK_SIZE = 64 * 1024;
+
+    private final BuildEventListener delegate;
+    private final int spoolThreshold;
+    private final Consumer<List<String>> statusDisplay;
+    private final Map<String, ProjectBuffer> buffers = new LinkedHashMap<>();
+
+    /**
+     * @param delegate the listener receiving the grouped output
+     * @param spoolThreshold the number of buffered characters of a project after which its buffer is spooled to disk
+     * @param statusDisplay receives the status lines of the active projects, may be {@code null}
+     */
+    public ProjectGroupingBuildEventListener(
+            BuildEventListener delegate, int spoolThreshold, Consumer<List<String>> statusDisplay) {
+        this.delegate = delegate;
+        this.spoolThreshold = spoolThreshold;
+        this.statusDisplay = statusDisplay;
+    }
+
+    @Override
+    public void sessionStarted(ExecutionEvent event) {
+        delegate.sessionStarted(event);
+    }
+
+    @Override
+    public void projectStarted(String projectId) {
+        synchronized (buffers) {
+            buffers.computeIfAbsent(projectId, ProjectBuffer::new);
+            updateStatus();
+        }
+        delegate.projectStarted(projectId);
+    }
+
+    @Override
+    public void projectLogMessage(String projectId, String event) {
+        ProjectBuffer buffer = projectId != null ? buffer(projectId) : null;
+        if (buffer == null || !buffer.append(event)) {
+            delegate.projectLogMessage(projectId, event);
+        }
+    }
+
+    @Override
+    public void projectFinished(String projectId) {
+        ProjectBuffer buffer;
+        synchronized (buffers) {
+            buffer = buffers.remove(projectId);
+            updateStatus();
+        }
+        if (buffer != null) {
+            buffer.emit();
+        }
+        delegate.projectFinished(projectId);
+    }
+
+    @Override
+    public void executionFailure(String projectId, boolean halted, String exception) {
+        delegate.executionFailure(projectId, halted, exception);
+    }
+
+    @Override
+    public void mojoStarted(ExecutionEvent event) {
+        if (event.getProject() != null && event.getMojoExecution() != null) {
+            ProjectBuffer buffer = buffer(event.getProject().getArtifactId());
+            if (buffer != null) {
+                buffer.mojoExecution = event.getMojoExecution();
+                synchronized (buffers) {
+                    updateStatus();
+                }
+            }
+        }
+        delegate.mojoStarted(event);
+    }
+
+    @Override
+    public void finish(int exitCode) throws Exception {
+        emitAll();
+        delegate.finish(exitCode);
+    }
+
+    @Override
+    public void fail(Throwable t) throws Exception {
+        emitAll();
+        delegate.fail(t);
+    }
+
+    @Override
+    public void log(String msg) {
+        delegate.log(msg);
+    }
+
+    @Override
+    public void transfer(String projectId, TransferEvent e) {
+        delegate.transfer(projectId, e);
+    }
+
+    @Override
+    public void close() {
+        emitAll();
+    }
+
+    /**
+     * Writes the buffered output of projects that never finished, for instance when the build was halted.
+     */
+    public void emitAll() {
+        List<ProjectBuffer> pending;
+        synchronized (buffers) {
+            pending = new ArrayList<>(buffers.values());
+            buffers.clear();
+            updateStatus();
+        }
+        pending.forEach(ProjectBuffer::emit);
+    }
+
+    private ProjectBuffer buffer(String projectId) {
+        synchronized (buffers) {
+            ProjectBuffer buffer = buffers.get(projectId);
+            int fork = projectId.indexOf('/');
+            if (buffer == null && fork > 0) {
+                // output of a forked execution goes to the forking project
+                buffer = buffers.get(projectId.substring(0, fork));
+            }
+            return buffer;
+        }
+    }
+
+    private void updateStatus() {
+        if (statusDisplay != null) {
+            List<String> lines = new ArrayList<>(buffers.size());
+            for (ProjectBuffer buffer : buffers.values()) {
+                lines.add(buffer.status());
+            }
+            statusDisplay.accept(lines);
+        }
+    }
+
+    private class ProjectBuffer {
+        private final String projectId;
+        private final long start = System.nanoTime();
+        private StringBuilder lines = new StringBuilder();
+        private Path spool;
+        private BufferedWriter spoolWriter;
+        private boolean spoolFailed;
+        private boolean emitted;
+        volatile MojoExecution mojoExecution;
+
+        ProjectBuffer(String projectId) {
+            this.projectId = projectId;
+        }
+
+        synchronized boolean append(String line) {
+            if (emitted) {
+                return false;
+            }
+            if (spoolWriter != null) {
+                try {
+                    spoolWriter.write(line);
+                    spoolWriter.newLine();
+                    return true;
+                } catch (IOException e) {
+                    // keep the remaining output in memory
+                    closeSpoolWriter();
+                    spoolFailed = true;
+                    lines = new StringBuilder();
+                }
+            }
+            lines.append(line).append(System.lineSeparator());
+            if (lines.length() > spoolThreshold && spool == null && !spoolFailed) {
+                Path file = null;
+                try {
+                    file = Files.createTempFile("maven-" + projectId.replace('/', '-') + "-", ".log");
+                    BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                    try {
+                        writer.append(lines);
+                    } catch (IOException e) {
+                        writer.close();
+                        throw e;
+                    }
+                    spool = file;
+                    spoolWriter = writer;
+                    lines = null;
+                } catch (IOException e) {
+                    // keep the output in memory
+                    spoolFailed = true;
+                    deleteQuietly(file);
+                }
+            }
+            return true;
+        }
+
+        synchronized void emit() {
+            if (emitted) {
+                return;
+            }
+            emitted = true;
+            if (spool != null) {
+                closeSpoolWriter();
+                try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                    StringBuilder chunk = new StringBuilder(EMIT_CHUNK_SIZE + 1024);
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        chunk.append(line).append(System.lineSeparator());
+                        if (chunk.length() >= EMIT_CHUNK_SIZE) {
+                            emit(chunk);
+                            chunk.setLength(0);
+                        }
+                    }
+                    emit(chunk);
+                } catch (IOException e) {
+                    delegate.log("[" + projectId + "] Unable to read spooled output from " + spool + ": " + e);
+                }
+                deleteQuietly(spool);
+            }
+            if (lines != null) {
+                emit(lines);
+                lines = null;
+            }
+        }
+
+        private void deleteQuietly(Path file) {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // ignore, it is a temporary file
+                }
+            }
+        }
+
+        private void closeSpoolWriter() {
+            if (spoolWriter != null) {
+                try {
+                    spoolWriter.close();
+                } catch (IOException e) {
+                    // already reported by the failed write, if any
+                }
+                spoolWriter = null;
+            }
+        }
+
+        private void emit(StringBuilder chunk) {
+            int length = chunk.length();
+            if (length > 0) {
+                // the delegate terminates the block
+                delegate.log(chunk.substring(0, length - System.lineSeparator().length()));
+            }
+        }
+
+        String status() {
+            long seconds = (System.nanoTime() - start) / 1_000_000_000L;
+            MojoExecution mojo = mojoExecution;
+            return mojo != null
+                    ? String.format(
+                            "[%s] %s:%s (%s) %ds",
+                            projectId,
+                            mojo.getArtifactId().replaceFirst("^maven-(.*)-plugin$", "$1"),
+                            mojo.getGoal(),
+                            mojo.getExecutionId(),
+                            seconds)
+                    : String.format("[%s] %ds", projectId, seconds);
+        }
+    }
+}
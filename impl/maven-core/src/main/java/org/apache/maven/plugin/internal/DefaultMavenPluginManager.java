@@ -103,6 +103,7 @@
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.session.scope.internal.SessionScope;
 import org.apache.maven.session.scope.internal.SessionScopeModule;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.codehaus.plexus.DefaultPlexusContainer;
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -163,6 +164,7 @@ public class DefaultMavenPluginManager implements MavenPluginManager {
     private final List<MavenPluginConfigurationValidator> configurationValidators;
     private final PluginValidationManager pluginValidationManager;
     private final List<MavenPluginPrerequisitesChecker> prerequisitesCheckers;
+    private final BuildTelemetry telemetry;
     private final ExtensionDescriptorBuilder extensionDescriptorBuilder = new ExtensionDescriptorBuilder();
     private final PluginDescriptorBuilder builder = new PluginDescriptorBuilder();
 
@@ -180,7 +182,8 @@ public DefaultMavenPluginManager(
             MavenPluginValidator pluginValidator,
             List<MavenPluginConfigurationValidator> configurationValidators,
             PluginValidationManager pluginValidationManager,
-            List<MavenPluginPrerequisitesChecker> prerequisitesCheckers) {
+            List<MavenPluginPrerequisitesChecker> prerequisitesCheckers,
+            BuildTelemetry telemetry) {
         this.container = container;
         this.classRealmManager = classRealmManager;
         this.pluginDescriptorCache = pluginDescriptorCache;
@@ -193,6 +196,7 @@ public DefaultMavenPluginManager(
         this.configurationValidators = configurationValidators;
         this.pluginValidationManager = pluginValidationManager;
         this.prerequisitesCheckers = prerequisitesCheckers;
+        this.telemetry = telemetry;
     }
 
     @Override
@@ -341,6 +345,22 @@ public void setupPluginRealm(
             List<String> imports,
             DependencyFilter filter)
             throws PluginResolutionException, PluginContainerException {
+        MavenProject project = session.getCurrentProject();
+        try (BuildTelemetry.Span span = telemetry.span(
+                BuildTelemetry.CATEGORY_PLUGIN,
+                () -> "setup realm " + pluginDescriptor.getId(),
+                project != null ? project.getArtifactId() : null)) {
+            doSetupPluginRealm(pluginDescriptor, session, parent, imports, filter);
+        }
+    }
+
+    private void doSetupPluginRealm(
+            PluginDescriptor pluginDescriptor,
+            MavenSession session,
+            ClassLoader parent,
+            List<String> imports,
+            DependencyFilter filter)
+            throws PluginResolutionException, PluginContainerException {
         Plugin plugin = pluginDescriptor.getPlugin();
         MavenProject project = session.getCurrentProject();
 
@@ -530,7 +550,12 @@ public <T> T getConfiguredMojo(Class<T> mojoInterface, MavenSession session, Moj
         ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
         Thread.currentThread().setContextClassLoader(pluginRealm);
 
-        try {
+        MavenProject project = session.getCurrentProject();
+        try (BuildTelemetry.Span span = telemetry.span(
+                BuildTelemetry.CATEGORY_MOJO,
+                () -> "configure " + mojoExecution.getArtifactId() + ":" + mojoExecution.getGoal() + " ("
+                        + mojoExecution.getExecutionId() + ")",
+                project != null ? project.getArtifactId() : null)) {
             if (mojoDescriptor.isV4Api()) {
                 return loadV4Mojo(mojoInterface, session, mojoExecution, mojoDescriptor, pluginDescriptor, pluginRealm);
             } else {
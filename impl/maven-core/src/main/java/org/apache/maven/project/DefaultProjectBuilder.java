@@ -96,6 +96,7 @@
 import org.apache.maven.plugin.PluginManagerException;
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.version.PluginVersionResolutionException;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.LocalRepositoryManager;
@@ -119,6 +120,7 @@ public class DefaultProjectBuilder implements ProjectBuilder {
     private final ProjectDependenciesResolver dependencyResolver;
     private final RootLocator rootLocator;
     private final LifecycleBindingsInjector lifecycleBindingsInjector;
+    private final BuildTelemetry telemetry;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     @Inject
@@ -129,13 +131,15 @@ public DefaultProjectBuilder(
             RepositorySystem repoSystem,
             ProjectDependenciesResolver dependencyResolver,
             RootLocator rootLocator,
-            LifecycleBindingsInjector lifecycleBindingsInjector) {
+            LifecycleBindingsInjector lifecycleBindingsInjector,
+            BuildTelemetry telemetry) {
         this.modelBuilder = modelBuilder;
         this.projectBuildingHelper = projectBuildingHelper;
         this.repositorySystem = repositorySystem;
         this.dependencyResolver = dependencyResolver;
         this.rootLocator = rootLocator;
         this.lifecycleBindingsInjector = lifecycleBindingsInjector;
+        this.telemetry = telemetry;
     }
     // ----------------------------------------------------------------------
     // MavenProjectBuilder Implementation
@@ -143,7 +147,9 @@ public DefaultProjectBuilder(
 
     @Override
     public ProjectBuildingResult build(File pomFile, ProjectBuildingRequest request) throws ProjectBuildingException {
-        try (BuildSession bs = new BuildSession(request)) {
+        try (BuildTelemetry.Span span =
+                        telemetry.span(BuildTelemetry.CATEGORY_PROJECT, () -> "build " + pomFile, null);
+                BuildSession bs = new BuildSession(request)) {
             Path path = pomFile.toPath();
             return bs.build(false, path, Sources.buildSource(path));
         }
@@ -169,7 +175,9 @@ static ModelSource toSource(org.apache.maven.model.building.ModelSource modelSou
     @Override
     public ProjectBuildingResult build(ModelSource modelSource, ProjectBuildingRequest request)
             throws ProjectBuildingException {
-        try (BuildSession bs = new BuildSession(request)) {
+        try (BuildTelemetry.Span span = telemetry.span(
+                        BuildTelemetry.CATEGORY_PROJECT, () -> "build " + modelSource.getLocation(), null);
+                BuildSession bs = new BuildSession(request)) {
             return bs.build(false, null, modelSource);
         }
     }
@@ -183,7 +191,9 @@ public ProjectBuildingResult build(Artifact artifact, ProjectBuildingRequest req
     @Override
     public ProjectBuildingResult build(Artifact artifact, boolean allowStubModel, ProjectBuildingRequest request)
             throws ProjectBuildingException {
-        try (BuildSession bs = new BuildSession(request)) {
+        try (BuildTelemetry.Span span =
+                        telemetry.span(BuildTelemetry.CATEGORY_PROJECT, () -> "build " + artifact.getId(), null);
+                BuildSession bs = new BuildSession(request)) {
             return bs.build(false, artifact, allowStubModel, request.getRemoteRepositories());
         }
     }
@@ -191,7 +201,9 @@ public ProjectBuildingResult build(Artifact artifact, boolean allowStubModel, Pr
     @Override
     public List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive, ProjectBuildingRequest request)
             throws ProjectBuildingException {
-        try (BuildSession bs = new BuildSession(request)) {
+        try (BuildTelemetry.Span span =
+                        telemetry.span(BuildTelemetry.CATEGORY_PROJECT, () -> "build reactor projects", null);
+                BuildSession bs = new BuildSession(request)) {
             return bs.build(pomFiles, recursive);
         }
     }
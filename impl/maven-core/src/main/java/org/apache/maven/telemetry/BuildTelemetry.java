@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.telemetry;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Records timing spans of the build: project building, dependency resolution, plugin realm setup, mojo
+ * configuration, mojo execution and repository installs and deploys. Spans are collected when a trace recording
+ * was {@link #start(Path) started}, and written as a Chrome trace-event JSON file when it is {@link #stop()
+ * stopped}, which can be opened in {@code chrome://tracing} or Perfetto to inspect thread utilization and the
+ * critical path of the build.
+ * Independently, every span is emitted as a {@code org.apache.maven.Span} JFR event while a flight recording
+ * is running.
+ * <p>
+ * When neither is active, {@link #span(String, String, String)} returns a shared no-op span without allocating,
+ * and callers that compute span names should use {@link #span(String, Supplier, String)}.
+ *
+ * @since 4.1.0
+ */
+@Named
+@Singleton
+public class BuildTelemetry {
+
+    public static final String CATEGORY_PROJECT = "project";
+    public static final String CATEGORY_DEPENDENCIES = "dependencies";
+    public static final String CATEGORY_PLUGIN = "plugin";
+    public static final String CATEGORY_MOJO = "mojo";
+    public static final String CATEGORY_REPOSITORY = "repository";
+
+    /**
+     * A timed section of the build, ended by {@link #close()}.
+     */
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * The span returned when telemetry is disabled.
+     */
+    public static final Span NOOP = () -> {};
+
+    private volatile Recording recording;
+
+    /**
+     * Starts a span, to be closed by the calling thread when the timed section ends.
+     *
+     * @param category the category of the span, one of the {@code CATEGORY_*} constants
+     * @param name the name of the span
+     * @param project the id of the project the span belongs to, may be {@code null}
+     * @return the started span
+     */
+    public Span span(String category, String name, String project) {
+        Recording recording = this.recording;
+        MavenSpanEvent event = null;
+        if (isEventEnabled()) {
+            event = new MavenSpanEvent();
+            event.category = category;
+            event.name = name;
+            event.project = project;
+            event.begin();
+        }
+        if (recording == null && event == null) {
+            return NOOP;
+        }
+        return new RecordedSpan(recording, event, category, name, project);
+    }
+
+    /**
+     * Starts a span whose name is only computed when spans are recorded, to be closed by the calling thread when the
+     * timed section ends.
+     *
+     * @param category the category of the span, one of the {@code CATEGORY_*} constants
+     * @param name the supplier of the name of the span
+     * @param project the id of the project the span belongs to, may be {@code null}
+     * @return the started span, the shared no-op span when spans are not recorded
+     */
+    public Span span(String category, Supplier<String> name, String project) {
+        return isEnabled() ? span(category, name.get(), project) : NOOP;
+    }
+
+    /**
+     * Tells whether spans are currently recorded, either for a trace file or as JFR events.
+     */
+    public boolean isEnabled() {
+        return recording != null || isEventEnabled();
+    }
+
+    private static boolean isEventEnabled() {
+        return FlightRecorder.isInitialized() && SpanEventType.TYPE.isEnabled();
+    }
+
+    /**
+     * Tells whether a trace recording is running.
+     */
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Starts recording spans for a trace file, discarding a recording that was not stopped.
+     *
+     * @param traceFile the file the trace is written to when stopped
+     */
+    public void start(Path traceFile) {
+        recording = new Recording(traceFile, System.nanoTime());
+    }
+
+    /**
+     * Stops the running recording and writes its trace file.
+     *
+     * @return the written trace file, or {@code null} if no recording was running
+     * @throws IOException if the trace file could not be written
+     */
+    public Path stop() throws IOException {
+        Recording recording = this.recording;
+        this.recording = null;
+        if (recording == null) {
+            return null;
+        }
+        Path traceFile = recording.traceFile;
+        Path parent = traceFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8))) {
+            recording.write(writer);
+        }
+        return traceFile;
+    }
+
+    /**
+     * Resolves the JFR event type lazily, so that the flight recorder is not touched until it is initialized.
+     */
+    private static final class SpanEventType {
+        static final EventType TYPE = EventType.getEventType(MavenSpanEvent.class);
+    }
+
+    private record Record(
+            String category,
+            String name,
+            String project,
+            long threadId,
+            String threadName,
+            long startNanos,
+            long durationNanos) {}
+
+    private static final class Recording {
+        private final Path traceFile;
+        private final long origin;
+        private final ConcurrentLinkedQueue<Record> records = new ConcurrentLinkedQueue<>();
+
+        Recording(Path traceFile, long origin) {
+            this.traceFile = traceFile;
+            this.origin = origin;
+        }
+
+        void write(Writer writer) throws IOException {
+            List<Record> sorted = new ArrayList<>(records);
+            sorted.sort(Comparator.comparingLong(Record::startNanos));
+            Map<Long, String> threads = new LinkedHashMap<>();
+            writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+            writer.write("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":1,\"tid\":0,\"args\":{\"name\":\"maven\"}}");
+            for (Record record : sorted) {
+                threads.putIfAbsent(record.threadId, record.threadName);
+                writer.write(",\n{\"name\":");
+                writeString(writer, record.name);
+                writer.write(",\"cat\":");
+                writeString(writer, record.category);
+                writer.write(",\"ph\":\"X\",\"ts\":");
+                writer.write(micros(record.startNanos - origin));
+                writer.write(",\"dur\":");
+                writer.write(micros(record.durationNanos));
+                writer.write(",\"pid\":1,\"tid\":");
+                writer.write(Long.toString(record.threadId));
+                if (record.project != null) {
+                    writer.write(",\"args\":{\"project\":");
+                    writeString(writer, record.project);
+                    writer.write('}');
+                }
+                writer.write('}');
+            }
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+                writer.write(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+                writer.write(Long.toString(thread.getKey()));
+                writer.write(",\"args\":{\"name\":");
+                writeString(writer, thread.getValue());
+                writer.write("}}");
+            }
+            writer.write("\n]}\n");
+        }
+
+        private static String micros(long nanos) {
+            return String.format("%d.%03d", nanos / 1000, Math.abs(nanos % 1000));
+        }
+
+        private static void writeString(Writer writer, String value) throws IOException {
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> writer.write("\\\"");
+                    case '\\' -> writer.write("\\\\");
+                    case '\n' -> writer.write("\\n");
+                    case '\r' -> writer.write("\\r");
+                    case '\t' -> writer.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            writer.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            writer.write(c);
+                        }
+                    }
+                }
+            }
+            writer.write('"');
+        }
+    }
+
+    private static final class RecordedSpan implements Span {
+        private final Recording recording;
+        private final MavenSpanEvent event;
+        private final String category;
+        private final String name;
+        private final String project;
+        private final long start = System.nanoTime();
+        private boolean closed;
+
+        RecordedSpan(Recording recording, MavenSpanEvent event, String category, String name, String project) {
+            this.recording = recording;
+            this.event = event;
+            this.category = category;
+            this.name = name;
+            this.project = project;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (event != null) {
+                event.commit();
+            }
+            if (recording != null) {
+                Thread thread = Thread.currentThread();
+                recording.records.add(new Record(
+                        category, name, project, thread.getId(), thread.getName(), start, System.nanoTime() - start));
+            }
+        }
+    }
+}
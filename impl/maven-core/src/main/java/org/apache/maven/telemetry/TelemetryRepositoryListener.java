@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.telemetry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+
+/**
+ * Turns the installing/installed and deploying/deployed repository events of artifacts and metadata into
+ * {@link BuildTelemetry} spans, so the time spent writing to repositories shows up in the build trace.
+ *
+ * @since 4.1.0
+ */
+public class TelemetryRepositoryListener extends AbstractRepositoryListener {
+
+    private final BuildTelemetry telemetry;
+
+    private final Map<Object, BuildTelemetry.Span> spans = new ConcurrentHashMap<>();
+
+    public TelemetryRepositoryListener(BuildTelemetry telemetry) {
+        this.telemetry = telemetry;
+    }
+
+    @Override
+    public void artifactInstalling(RepositoryEvent event) {
+        start(() -> "install " + event.getArtifact(), event.getArtifact());
+    }
+
+    @Override
+    public void artifactInstalled(RepositoryEvent event) {
+        end(event.getArtifact());
+    }
+
+    @Override
+    public void metadataInstalling(RepositoryEvent event) {
+        start(() -> "install " + event.getMetadata(), event.getMetadata());
+    }
+
+    @Override
+    public void metadataInstalled(RepositoryEvent event) {
+        end(event.getMetadata());
+    }
+
+    @Override
+    public void artifactDeploying(RepositoryEvent event) {
+        start(() -> "deploy " + event.getArtifact(), event.getArtifact());
+    }
+
+    @Override
+    public void artifactDeployed(RepositoryEvent event) {
+        end(event.getArtifact());
+    }
+
+    @Override
+    public void metadataDeploying(RepositoryEvent event) {
+        start(() -> "deploy " + event.getMetadata(), event.getMetadata());
+    }
+
+    @Override
+    public void metadataDeployed(RepositoryEvent event) {
+        end(event.getMetadata());
+    }
+
+    private void start(Supplier<String> name, Object key) {
+        if (key == null) {
+            return;
+        }
+        BuildTelemetry.Span span = telemetry.span(BuildTelemetry.CATEGORY_REPOSITORY, name, null);
+        if (span != BuildTelemetry.NOOP) {
+            BuildTelemetry.Span previous = spans.put(key, span);
+            if (previous != null) {
+                previous.close();
+            }
+        }
+    }
+
+    private void end(Object key) {
+        if (key != null && !spans.isEmpty()) {
+            BuildTelemetry.Span span = spans.remove(key);
+            if (span != null) {
+                span.close();
+            }
+        }
+    }
+}
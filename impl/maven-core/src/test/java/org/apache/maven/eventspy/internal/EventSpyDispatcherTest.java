@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.eventspy.AsyncEventSpy;
+import org.apache.maven.eventspy.EventSpy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventSpyDispatcherTest {
+
+    static class RecordingSpy extends AbstractEventSpy {
+        final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean closed;
+
+        @Override
+        public void onEvent(Object event) throws Exception {
+            events.add(event);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class AsyncRecordingSpy extends RecordingSpy implements AsyncEventSpy {}
+
+    static class BlockedSpy extends AbstractEventSpy implements AsyncEventSpy {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onEvent(Object event) throws Exception {
+            release.await(10, TimeUnit.SECONDS);
+            events.add(event);
+        }
+    }
+
+    private static EventSpy.Context context(boolean async, String queueSize, String maxWait) {
+        Properties userProperties = new Properties();
+        userProperties.setProperty(Constants.MAVEN_EVENTSPY_ASYNC, String.valueOf(async));
+        userProperties.setProperty(Constants.MAVEN_EVENTSPY_ASYNC_QUEUE_SIZE, queueSize);
+        userProperties.setProperty(Constants.MAVEN_EVENTSPY_ASYNC_MAX_WAIT, maxWait);
+        return () -> Map.of("userProperties", userProperties);
+    }
+
+    @Test
+    void asyncSpyReceivesEventsInOrderOnDedicatedThread() {
+        RecordingSpy sync = new RecordingSpy();
+        AsyncRecordingSpy async = new AsyncRecordingSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(sync, async));
+        dispatcher.init(context(true, "1024", "100"));
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.onEvent(i);
+        }
+        dispatcher.close();
+
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, sync.events);
+        assertEquals(expected, async.events);
+        assertTrue(sync.threads.stream().allMatch(t -> t == Thread.currentThread()));
+        assertTrue(async.threads.stream().allMatch(t -> t != Thread.currentThread()));
+        assertTrue(async.closed);
+    }
+
+    @Test
+    void asyncSpyIsSynchronousUnlessEnabled() {
+        AsyncRecordingSpy async = new AsyncRecordingSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(async));
+        dispatcher.init(context(false, "1024", "100"));
+
+        dispatcher.onEvent("event");
+
+        assertEquals(List.of("event"), async.events);
+        assertEquals(List.of(Thread.currentThread()), async.threads);
+    }
+
+    @Test
+    void invalidQueueSizeAndMaxWaitFallBackToTheDefaults() {
+        AsyncRecordingSpy async = new AsyncRecordingSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(async));
+        dispatcher.init(context(true, "0", "-1"));
+
+        dispatcher.onEvent("event");
+        dispatcher.close();
+
+        assertEquals(List.of("event"), async.events);
+        assertTrue(async.threads.stream().allMatch(t -> t != Thread.currentThread()));
+    }
+
+    @Test
+    void laggingSpyDropsEventsInsteadOfStallingTheBuild() {
+        BlockedSpy blocked = new BlockedSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(blocked));
+        dispatcher.init(context(true, "2", "0"));
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.onEvent(i);
+        }
+        blocked.release.countDown();
+        dispatcher.close();
+
+        // one event in delivery, two queued, the rest dropped
+        assertNotEquals(10, blocked.events.size());
+        assertTrue(blocked.events.size() <= 3, blocked.events.toString());
+        assertEquals(0, blocked.events.get(0));
+    }
+
+    @Test
+    void closeDoesNotWaitForeverOnAHangingSpy() {
+        BlockedSpy blocked = new BlockedSpy();
+        AsyncEventSpyDelivery delivery = new AsyncEventSpyDelivery(blocked, 1, 0, 200, (action, e, spy) -> {});
+        for (int i = 0; i < 3; i++) {
+            delivery.offer(i);
+        }
+
+        long start = System.nanoTime();
+        delivery.close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5);
+        // one event dropped when offered, one pending event dropped when closing
+        assertEquals(2, delivery.getDropped());
+        blocked.release.countDown();
+    }
+}
@@ -36,6 +36,7 @@
 import org.apache.maven.internal.impl.DefaultTypeRegistry;
 import org.apache.maven.rtinfo.RuntimeInformation;
 import org.apache.maven.settings.Server;
+import org.apache.maven.telemetry.BuildTelemetry;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.codehaus.plexus.testing.PlexusTest;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
@@ -88,7 +89,8 @@ void isNoSnapshotUpdatesTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         MavenExecutionRequest request = new DefaultMavenExecutionRequest();
         request.setLocalRepository(getLocalRepository());
@@ -110,7 +112,8 @@ void isSnapshotUpdatesTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         MavenExecutionRequest request = new DefaultMavenExecutionRequest();
         request.setLocalRepository(getLocalRepository());
@@ -144,7 +147,8 @@ void wagonProviderConfigurationTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         PlexusConfiguration plexusConfiguration = (PlexusConfiguration) systemSessionFactory
                 .newRepositorySession(request)
@@ -186,7 +190,8 @@ void httpConfigurationWithHttpHeadersTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         Map<String, String> headers = (Map<String, String>) systemSessionFactory
                 .newRepositorySession(request)
@@ -222,7 +227,8 @@ void connectTimeoutConfigurationTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         int connectionTimeout = (Integer) systemSessionFactory
                 .newRepositorySession(request)
@@ -262,7 +268,8 @@ void connectionTimeoutFromHttpConfigurationTest() throws InvalidRepositoryExcept
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         int connectionTimeout = (Integer) systemSessionFactory
                 .newRepositorySession(request)
@@ -296,7 +303,8 @@ void requestTimeoutConfigurationTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         int requestTimeout = (Integer) systemSessionFactory
                 .newRepositorySession(request)
@@ -336,7 +344,8 @@ void readTimeoutFromHttpConfigurationTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         int requestTimeout = (Integer) systemSessionFactory
                 .newRepositorySession(request)
@@ -353,7 +362,8 @@ void transportConfigurationTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         MavenExecutionRequest request = new DefaultMavenExecutionRequest();
         request.setLocalRepository(getLocalRepository());
@@ -398,7 +408,8 @@ void versionFilteringTest() throws InvalidRepositoryException {
                 information,
                 defaultTypeRegistry,
                 versionScheme,
-                Collections.emptyMap());
+                Collections.emptyMap(),
+                new BuildTelemetry());
 
         MavenExecutionRequest request = new DefaultMavenExecutionRequest();
         request.setLocalRepository(getLocalRepository());
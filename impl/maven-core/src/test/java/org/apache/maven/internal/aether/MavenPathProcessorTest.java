@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import javax.inject.Inject;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.apache.maven.impl.util.InstallMode;
+import org.codehaus.plexus.testing.PlexusTest;
+import org.eclipse.aether.spi.io.PathProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@PlexusTest
+class MavenPathProcessorTest {
+
+    @Inject
+    PathProcessor pathProcessor;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testInstallModeIsAppliedToTheResolverCopies() throws Exception {
+        assertInstanceOf(MavenPathProcessor.class, pathProcessor);
+
+        FileTime time = FileTime.fromMillis(1_000_000_000_000L);
+        Path jar = Files.writeString(tempDir.resolve("a.jar"), "new");
+        Files.setLastModifiedTime(jar, time);
+        Path pom = Files.writeString(tempDir.resolve("a.pom"), "new");
+        Files.setLastModifiedTime(pom, time);
+        Path repository = Files.createDirectories(tempDir.resolve("repo"));
+        Path installedJar = Files.writeString(repository.resolve("a.jar"), "old");
+        Files.setLastModifiedTime(installedJar, time);
+        Path installedPom = Files.writeString(repository.resolve("a.pom"), "old");
+        Files.setLastModifiedTime(installedPom, time);
+
+        try (InstallMode.Scope scope = InstallMode.UPDATE.apply()) {
+            pathProcessor.copyWithTimestamp(jar, installedJar);
+            pathProcessor.copyWithTimestamp(pom, installedPom);
+        }
+        // same size and time: the jar is considered up to date, the POM is always copied
+        assertEquals("old", Files.readString(installedJar));
+        assertEquals("new", Files.readString(installedPom));
+
+        pathProcessor.copyWithTimestamp(jar, installedJar);
+        assertEquals("new", Files.readString(installedJar));
+    }
+}
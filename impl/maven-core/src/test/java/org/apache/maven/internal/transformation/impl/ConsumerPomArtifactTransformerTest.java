@@ -26,11 +26,13 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.maven.api.Constants;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.v4.MavenStaxReader;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultSessionData;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.SessionData;
 import org.eclipse.aether.artifact.Artifact;
@@ -42,6 +44,7 @@
 import org.xmlunit.builder.DiffBuilder;
 import org.xmlunit.diff.Diff;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -113,6 +116,39 @@ void transformJarConsumerPom() throws Exception {
         assertFalse(diff.hasDifferences(), "XML files should be identical: " + diff.toString());
     }
 
+    @Test
+    void transformReusesConsumerPomOfTheSession() throws Exception {
+        RepositorySystemSession systemSessionMock = Mockito.mock(RepositorySystemSession.class);
+        when(systemSessionMock.getData()).thenReturn(new DefaultSessionData());
+
+        Path beforePomFile =
+                Paths.get("src/test/resources/projects/transform/before.pom").toAbsolutePath();
+        Path tempFile = Files.createTempFile("", ".pom");
+        Files.delete(tempFile);
+        AtomicInteger builds = new AtomicInteger();
+        try (InputStream expected = Files.newInputStream(beforePomFile)) {
+            Model model = new Model(new MavenStaxReader().read(expected));
+            MavenProject project = new MavenProject(model);
+            project.setOriginalModel(model);
+            ConsumerPomArtifactTransformer t = new ConsumerPomArtifactTransformer((s, p, f) -> {
+                builds.incrementAndGet();
+                try (InputStream is = Files.newInputStream(f)) {
+                    return DefaultConsumerPomBuilder.transformPom(new MavenStaxReader().read(is), project);
+                }
+            });
+
+            t.transform(project, systemSessionMock, beforePomFile, tempFile);
+            byte[] first = Files.readAllBytes(tempFile);
+            Files.delete(tempFile);
+            t.transform(project, systemSessionMock, beforePomFile, tempFile);
+
+            assertEquals(1, builds.get());
+            assertArrayEquals(first, Files.readAllBytes(tempFile));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
     @Test
     void injectTransformedArtifactsWithoutPomShouldNotInjectAnyArtifacts() throws IOException {
         MavenProject emptyProject = new MavenProject();
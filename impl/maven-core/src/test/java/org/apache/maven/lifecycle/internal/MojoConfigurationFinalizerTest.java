@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.List;
+
+import org.apache.maven.api.xml.XmlNode;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MojoConfigurationFinalizerTest {
+
+    @Test
+    void testIdenticalConfigurationsAreFinalizedOnce() throws Exception {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(new DefaultRepositorySystemSession(h -> false));
+        MojoDescriptor mojoDescriptor = mojoDescriptor();
+        XmlNode configuration = XmlNode.newInstance(
+                "configuration", List.of(XmlNode.newInstance("source", "17"), XmlNode.newInstance("unknown", "value")));
+
+        XmlNode first = finalize(session, mojoDescriptor, configuration);
+        assertEquals("17", first.child("source").value());
+        assertEquals("${maven.compiler.target}", first.child("target").value());
+        assertEquals("1.8", first.child("target").attribute("default-value"));
+        assertNull(first.child("unknown"));
+        assertSame(first, finalize(session, mojoDescriptor, configuration));
+
+        // configurations are compared by identity, to keep their own input locations
+        XmlNode copy = XmlNode.newInstance("configuration", configuration.children());
+        XmlNode second = finalize(session, mojoDescriptor, copy);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+
+        // without a session, the configuration is finalized every time
+        assertNotSame(first, finalize(null, mojoDescriptor, configuration));
+        assertEquals(first, finalize(null, mojoDescriptor, configuration));
+    }
+
+    private static XmlNode finalize(MavenSession session, MojoDescriptor mojoDescriptor, XmlNode configuration) {
+        MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, configuration);
+        MojoConfigurationFinalizer.finalizeMojoConfiguration(session, mojoExecution);
+        return mojoExecution.getConfiguration().getDom();
+    }
+
+    private static MojoDescriptor mojoDescriptor() throws Exception {
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("compile");
+        for (String name : List.of("source", "target")) {
+            Parameter parameter = new Parameter();
+            parameter.setName(name);
+            mojoDescriptor.addParameter(parameter);
+        }
+        XmlPlexusConfiguration defaults = new XmlPlexusConfiguration("configuration");
+        XmlPlexusConfiguration target = new XmlPlexusConfiguration("target");
+        target.setValue("${maven.compiler.target}");
+        target.setAttribute("default-value", "1.8");
+        defaults.addChild(target);
+        mojoDescriptor.setMojoConfiguration(defaults);
+        return mojoDescriptor;
+    }
+}
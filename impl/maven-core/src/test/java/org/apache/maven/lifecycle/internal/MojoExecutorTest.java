@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MojoExecutorTest {
+
+    @Test
+    void testAggregatorsLockTheProjectsTheyAggregate() {
+        MavenProject root = project("root");
+        MavenProject api = project("api");
+        MavenProject impl = project("impl");
+        MavenProject app = project("app");
+        MavenProject services = project("services");
+        services.setCollectedProjects(List.of(impl, api));
+        root.setCollectedProjects(List.of(app, services, impl, api));
+
+        SessionData data = mock(SessionData.class);
+        when(data.computeIfAbsent(any(), any()))
+                .thenAnswer(i -> i.<Supplier<?>>getArgument(1).get());
+        Session apiSession = mock(Session.class);
+        when(apiSession.getData()).thenReturn(data);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getSession()).thenReturn(apiSession);
+        when(session.getProjects()).thenReturn(List.of(root, services, api, impl, app));
+
+        assertEquals(List.of(services), MojoExecutor.getLockedProjects(session, services, false));
+        assertEquals(List.of(app), MojoExecutor.getLockedProjects(session, app, true));
+        assertEquals(List.of(services, api, impl), MojoExecutor.getLockedProjects(session, services, true));
+        assertEquals(List.of(root, services, api, impl, app), MojoExecutor.getLockedProjects(session, root, true));
+    }
+
+    @Test
+    void testExecutionsNotStartedByOtherThreadsRunInOrder() throws Exception {
+        List<MojoExecution> executions = List.of(execution("a"), execution("b"), execution("c"));
+        List<Runnable> queued = new ArrayList<>();
+        List<String> executed = new ArrayList<>();
+
+        MojoExecutor.runConcurrently(
+                executions, queued::add, MojoExecutor.ConcurrencyGuard.NONE, e -> executed.add(e.getExecutionId()));
+
+        assertEquals(List.of("a", "b", "c"), executed);
+        // the queued jobs find their executions done
+        queued.forEach(Runnable::run);
+        assertEquals(List.of("a", "b", "c"), executed);
+    }
+
+    @Test
+    void testExecutionsDeniedResourcesRunOnTheCallingThread() throws Exception {
+        List<MojoExecution> executions = List.of(execution("a"), execution("b"), execution("c"));
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MojoExecutor.runConcurrently(executions, executor, e -> null, e -> threads.add(Thread.currentThread()));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testResourcesAreReleasedOnceTheExecutionIsDone() throws Exception {
+        List<MojoExecution> executions = List.of(execution("a"), execution("b"), execution("c"));
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MojoExecutor.runConcurrently(
+                    executions,
+                    executor,
+                    e -> {
+                        held.incrementAndGet();
+                        acquired.incrementAndGet();
+                        return held::decrementAndGet;
+                    },
+                    e -> {});
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(0, held.get());
+        assertEquals(2, acquired.get());
+    }
+
+    @Test
+    void testFirstFailureIsRethrownWithTheOthersSuppressed() {
+        List<MojoExecution> executions = List.of(execution("a"), execution("b"), execution("c"));
+        LifecycleExecutionException first = new LifecycleExecutionException("a failed");
+        IllegalStateException third = new IllegalStateException("c failed");
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        LifecycleExecutionException failure = assertThrows(
+                LifecycleExecutionException.class,
+                () -> MojoExecutor.runConcurrently(executions, Runnable::run, MojoExecutor.ConcurrencyGuard.NONE, e -> {
+                    executed.add(e.getExecutionId());
+                    switch (e.getExecutionId()) {
+                        case "a" -> throw first;
+                        case "c" -> throw third;
+                        default -> {}
+                    }
+                }));
+
+        assertSame(first, failure);
+        assertEquals(1, failure.getSuppressed().length);
+        assertSame(third, failure.getSuppressed()[0].getCause());
+        // the executor runs b and c before the calling thread gets to a
+        assertArrayEquals(new String[] {"b", "c", "a"}, executed.toArray(new String[0]));
+    }
+
+    private static MojoExecution execution(String id) {
+        return new MojoExecution(new MojoDescriptor(), id);
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        return project;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.maven.lifecycle.internal.builder.AdaptiveConcurrencyController.Load;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyControllerTest {
+
+    private final AtomicReference<Load> load = new AtomicReference<>(new Load(1.0, 0.5));
+
+    private final AdaptiveConcurrencyController controller = new AdaptiveConcurrencyController(8, 2, load::get);
+
+    @Test
+    void testLimitGrowsWhenStepsAreWaiting() throws Exception {
+        assertEquals(2, controller.getLimit());
+        AdaptiveConcurrencyController.Permit first = controller.acquire();
+        AdaptiveConcurrencyController.Permit second = controller.acquire();
+
+        // nothing is waiting
+        controller.adjust();
+        assertEquals(2, controller.getLimit());
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiting = new Thread(() -> {
+            try (AdaptiveConcurrencyController.Permit permit = controller.acquire()) {
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiting.start();
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        controller.adjust();
+        assertEquals(3, controller.getLimit());
+        assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        waiting.join();
+
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void testLimitShrinksUnderPressure() {
+        load.set(new Load(1.0, 0.95));
+        controller.adjust();
+        assertEquals(1, controller.getLimit());
+        controller.adjust();
+        assertEquals(1, controller.getLimit());
+
+        load.set(new Load(-1, 0.5));
+        controller.adjust();
+        assertEquals(1, controller.getLimit());
+
+        AdaptiveConcurrencyController overloaded = new AdaptiveConcurrencyController(8, 4, load::get);
+        load.set(new Load(7.0, 0.5));
+        overloaded.adjust();
+        assertEquals(3, overloaded.getLimit());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BuildPlanExecutorTest {
+
+    @Test
+    void testAdjacentIndependentMojosAreGrouped() {
+        MojoExecution jar = execution("maven-jar-plugin", "jar", true);
+        MojoExecution sources = execution("maven-source-plugin", "jar-no-fork", true);
+        MojoExecution javadoc = execution("maven-javadoc-plugin", "jar", true);
+        MojoExecution assembly = execution("maven-assembly-plugin", "single", false);
+        MojoExecution checksum = execution("maven-checksum-plugin", "files", true);
+
+        Set<String> independent = Set.of(
+                "org.apache.maven.plugins:maven-source-plugin",
+                "org.apache.maven.plugins:maven-javadoc-plugin:jar",
+                "org.apache.maven.plugins:maven-assembly-plugin",
+                "org.apache.maven.plugins:maven-checksum-plugin");
+
+        assertEquals(
+                List.of(List.of(jar), List.of(sources, javadoc), List.of(assembly), List.of(checksum)),
+                BuildPlanExecutor.groupIndependentMojos(
+                        List.of(jar, sources, javadoc, assembly, checksum), independent));
+        assertEquals(
+                List.of(List.of(sources), List.of(javadoc)),
+                BuildPlanExecutor.groupIndependentMojos(List.of(sources, javadoc), Set.of()));
+    }
+
+    private static MojoExecution execution(String artifactId, String goal, boolean threadSafe) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("org.apache.maven.plugins");
+        pluginDescriptor.setArtifactId(artifactId);
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        mojoDescriptor.setGoal(goal);
+        mojoDescriptor.setThreadSafe(threadSafe);
+        return new MojoExecution(mojoDescriptor, "default-" + goal);
+    }
+}
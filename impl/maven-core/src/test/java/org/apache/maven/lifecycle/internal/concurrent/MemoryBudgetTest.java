@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.MojoExecutionEvent;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemoryBudgetTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testParseBudget() {
+        assertEquals(512L << 20, MemoryBudget.parseBudget("512m", 0));
+        assertEquals(4L << 30, MemoryBudget.parseBudget(" 4G ", 0));
+        assertEquals(1000, MemoryBudget.parseBudget("1000", 0));
+        assertEquals(700, MemoryBudget.parseBudget("70%", 1000));
+        assertThrows(IllegalArgumentException.class, () -> MemoryBudget.parseBudget("lots", 0));
+        assertThrows(IllegalArgumentException.class, () -> MemoryBudget.parseBudget("0%", 1000));
+    }
+
+    @Test
+    void testFootprintIsTheHeapGrowthBoundedByTheAllocation() {
+        assertEquals(100, MemoryBudget.footprint(10_000, 100));
+        assertEquals(10_000, MemoryBudget.footprint(10_000, 50_000));
+        assertEquals(0, MemoryBudget.footprint(10_000, -500));
+    }
+
+    @Test
+    void testFootprintsArePredictedFromThePreviousBuild() {
+        Path file = tempDir.resolve("target").resolve(MemoryBudget.FILE_NAME);
+        MavenProject project = project("app");
+        MojoExecution compile = execution("maven-compiler-plugin", "compile");
+        MojoExecution resources = execution("maven-resources-plugin", "resources");
+
+        MemoryBudget first = new MemoryBudget(100, file);
+        assertEquals(0, first.predict(project, List.of(compile, resources)));
+        first.record(project, compile, 80);
+        first.record(project, resources, 10);
+        first.save();
+
+        MemoryBudget second = new MemoryBudget(100, file);
+        second.load();
+        assertEquals(80, second.predict(project, List.of(compile, resources)));
+        assertEquals(10, second.predict(project, List.of(resources)));
+        assertEquals(0, second.predict(project("lib"), List.of(compile)));
+    }
+
+    @Test
+    void testStepsExceedingTheBudgetRunAlone() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100, null);
+        MemoryBudget.Reservation first = budget.reserve(60);
+        // unknown steps are not limited
+        budget.reserve(0).close();
+
+        CompletableFuture<MemoryBudget.Reservation> second = CompletableFuture.supplyAsync(() -> reserve(budget, 60));
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        first.close();
+        MemoryBudget.Reservation secondReservation = second.get(10, TimeUnit.SECONDS);
+
+        CompletableFuture<MemoryBudget.Reservation> heavy = CompletableFuture.supplyAsync(() -> reserve(budget, 500));
+        assertThrows(TimeoutException.class, () -> heavy.get(200, TimeUnit.MILLISECONDS));
+        secondReservation.close();
+        heavy.get(10, TimeUnit.SECONDS).close();
+        assertFalse(heavy.isCompletedExceptionally());
+    }
+
+    @Test
+    void testNestedExecutionsAreEachRecorded() {
+        List<MojoExecution> recorded = new ArrayList<>();
+        MemoryBudget budget = new MemoryBudget(100, null) {
+            @Override
+            void record(MavenProject project, MojoExecution execution, long footprint) {
+                recorded.add(execution);
+            }
+        };
+        DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession(h -> false);
+        repositorySession.getData().set(MemoryBudget.class, budget);
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        MavenProject project = project("app");
+        MojoExecution outer = execution("maven-site-plugin", "site");
+        MojoExecution inner = execution("maven-javadoc-plugin", "javadoc");
+
+        MojoAllocationRecorder recorder = new MojoAllocationRecorder();
+        recorder.beforeMojoExecution(new MojoExecutionEvent(session, project, outer, null));
+        recorder.beforeMojoExecution(new MojoExecutionEvent(session, project, inner, null));
+        recorder.afterMojoExecutionSuccess(new MojoExecutionEvent(session, project, inner, null));
+        recorder.afterExecutionFailure(new MojoExecutionEvent(session, project, outer, null, new Exception()));
+
+        assertEquals(List.of(inner, outer), recorded);
+    }
+
+    private static MemoryBudget.Reservation reserve(MemoryBudget budget, long bytes) {
+        try {
+            return budget.reserve(bytes);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId(artifactId);
+        return project;
+    }
+
+    private static MojoExecution execution(String artifactId, String goal) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("org.apache.maven.plugins");
+        pluginDescriptor.setArtifactId(artifactId);
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        mojoDescriptor.setGoal(goal);
+        return new MojoExecution(mojoDescriptor, "default-" + goal);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutputFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testChangesOfTheOutputDirectoryAreDetected() throws Exception {
+        Path classes = tempDir.resolve("classes");
+        MavenProject project = new MavenProject();
+        project.getBuild().setOutputDirectory(classes.toString());
+        assertEquals(0, OutputFingerprint.of(classes).files());
+
+        Path api = Files.createDirectories(classes.resolve("org/example")).resolve("Api.class");
+        Files.writeString(api, "api");
+        OutputFingerprint fingerprint = OutputFingerprint.of(classes);
+        assertEquals(1, fingerprint.files());
+        assertTrue(fingerprint.matches(project));
+
+        // the same content written again is not a change
+        Files.writeString(api, "api");
+        Files.setLastModifiedTime(
+                api, FileTime.fromMillis(Files.getLastModifiedTime(api).toMillis() + 10_000));
+        assertTrue(fingerprint.matches(project));
+
+        Files.writeString(api, "API");
+        assertFalse(fingerprint.matches(project));
+
+        fingerprint = OutputFingerprint.of(classes);
+        Files.writeString(classes.resolve("org/example/Impl.class"), "impl");
+        assertFalse(fingerprint.matches(project));
+    }
+
+    @Test
+    void testTheDigestDependsOnWhichFileHasWhichContent() throws Exception {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Files.writeString(classes.resolve("A.class"), "a");
+        Files.writeString(classes.resolve("B.class"), "b");
+        OutputFingerprint fingerprint = OutputFingerprint.of(classes);
+
+        // an order-independent sum of the file hashes would not see the content swapped between the files
+        Files.writeString(classes.resolve("A.class"), "b");
+        Files.writeString(classes.resolve("B.class"), "a");
+        assertNotEquals(fingerprint, OutputFingerprint.of(classes));
+    }
+}
@@ -38,6 +38,7 @@
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.telemetry.BuildTelemetry;
 
 /**
  */
@@ -46,7 +47,7 @@ public class MojoExecutorStub extends MojoExecutor { // This is being lazy inste
     protected final List<MojoExecution> executions = Collections.synchronizedList(new ArrayList<>());
 
     public MojoExecutorStub() {
-        super(null, null, null, null, null, null);
+        super(null, null, null, null, null, null, new BuildTelemetry());
     }
 
     public MojoExecutorStub(
@@ -55,14 +56,16 @@ public MojoExecutorStub(
             LifecycleDependencyResolver lifeCycleDependencyResolver,
             ExecutionEventCatapult eventCatapult,
             Provider<MojosExecutionStrategy> mojosExecutionStrategy,
-            MessageBuilderFactory messageBuilderFactory) {
+            MessageBuilderFactory messageBuilderFactory,
+            BuildTelemetry telemetry) {
         super(
                 pluginManager,
                 mavenPluginManager,
                 lifeCycleDependencyResolver,
                 eventCatapult,
                 mojosExecutionStrategy,
-                messageBuilderFactory);
+                messageBuilderFactory,
+                telemetry);
     }
 
     @Override
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectGroupingBuildEventListenerTest {
+
+    private static final String NL = System.lineSeparator();
+
+    private final List<String> output = new ArrayList<>();
+    private final List<List<String>> statuses = new ArrayList<>();
+
+    private ProjectGroupingBuildEventListener listener(int spoolThreshold) {
+        return new ProjectGroupingBuildEventListener(
+                new SimpleBuildEventListener(output::add), spoolThreshold, statuses::add);
+    }
+
+    @Test
+    void projectOutputIsWrittenAsOneBlockWhenProjectFinishes() {
+        ProjectGroupingBuildEventListener listener = listener(1024);
+
+        listener.projectStarted("a");
+        listener.projectStarted("b");
+        listener.projectLogMessage("a", "a1");
+        listener.projectLogMessage("b", "b1");
+        listener.projectLogMessage(null, "global");
+        listener.projectLogMessage("a", "a2");
+        listener.projectLogMessage("b", "b2");
+        listener.projectFinished("b");
+        listener.projectFinished("a");
+        listener.projectLogMessage("a", "late");
+
+        assertEquals(List.of("global", "b1" + NL + "b2", "a1" + NL + "a2", "late"), output);
+    }
+
+    @Test
+    void forkedOutputGoesToForkingProject() {
+        ProjectGroupingBuildEventListener listener = listener(1024);
+
+        listener.projectStarted("a");
+        listener.projectLogMessage("a", "a1");
+        listener.projectLogMessage("a/a", "forked");
+        listener.projectFinished("a");
+
+        assertEquals(List.of("a1" + NL + "forked"), output);
+    }
+
+    @Test
+    void largeOutputIsSpooledAndEmittedInOrder() {
+        ProjectGroupingBuildEventListener listener = listener(16);
+
+        listener.projectStarted("a");
+        for (int i = 0; i < 100; i++) {
+            listener.projectLogMessage("a", "line " + i);
+        }
+        listener.projectFinished("a");
+
+        List<String> lines = new ArrayList<>();
+        output.forEach(block -> lines.addAll(List.of(block.split(NL))));
+        assertEquals(100, lines.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("line " + i, lines.get(i));
+        }
+    }
+
+    @Test
+    void unfinishedProjectsAreEmittedOnClose() {
+        ProjectGroupingBuildEventListener listener = listener(1024);
+
+        listener.projectStarted("a");
+        listener.projectLogMessage("a", "a1");
+        listener.close();
+
+        assertEquals(List.of("a1"), output);
+    }
+
+    @Test
+    void statusShowsActiveProjects() {
+        ProjectGroupingBuildEventListener listener = listener(1024);
+
+        listener.projectStarted("a");
+        listener.projectStarted("b");
+        listener.projectFinished("a");
+
+        List<String> last = statuses.get(statuses.size() - 1);
+        assertEquals(1, last.size());
+        assertTrue(last.get(0).startsWith("[b] "), last.get(0));
+    }
+}
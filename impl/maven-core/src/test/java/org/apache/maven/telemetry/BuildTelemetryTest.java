@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.telemetry;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+
+class BuildTelemetryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSpansAreNoOpWhenNotRecording() throws Exception {
+        BuildTelemetry telemetry = new BuildTelemetry();
+
+        assertFalse(telemetry.isRecording());
+        assertFalse(telemetry.isEnabled());
+        BuildTelemetry.Span first = telemetry.span(BuildTelemetry.CATEGORY_MOJO, "a", null);
+        BuildTelemetry.Span second = telemetry.span(BuildTelemetry.CATEGORY_MOJO, "b", "p");
+        first.close();
+        assertSame(first, second);
+        assertSame(BuildTelemetry.NOOP, first);
+        assertSame(
+                BuildTelemetry.NOOP,
+                telemetry.span(BuildTelemetry.CATEGORY_MOJO, () -> fail("name computed while not recording"), null));
+        assertNull(telemetry.stop());
+    }
+
+    @Test
+    void testTraceFileContainsSpansAndThreads() throws Exception {
+        BuildTelemetry telemetry = new BuildTelemetry();
+        Path traceFile = tempDir.resolve("target/trace.json");
+        telemetry.start(traceFile);
+        assertTrue(telemetry.isRecording());
+        assertTrue(telemetry.isEnabled());
+
+        try (BuildTelemetry.Span outer = telemetry.span(BuildTelemetry.CATEGORY_PROJECT, "compile", "core")) {
+            try (BuildTelemetry.Span inner =
+                    telemetry.span(BuildTelemetry.CATEGORY_MOJO, "maven-compiler-plugin:compile (\"x\")", "core")) {
+                Thread.sleep(1);
+            }
+        }
+        Thread worker = new Thread(
+                () -> telemetry
+                        .span(BuildTelemetry.CATEGORY_DEPENDENCIES, "resolve dependencies", "api")
+                        .close(),
+                "worker-1");
+        worker.start();
+        worker.join();
+
+        assertEquals(traceFile, telemetry.stop());
+        assertFalse(telemetry.isRecording());
+
+        String trace = Files.readString(traceFile, StandardCharsets.UTF_8);
+        assertTrue(trace.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["), trace);
+        assertTrue(trace.contains("\"name\":\"compile\",\"cat\":\"project\",\"ph\":\"X\""), trace);
+        assertTrue(trace.contains("\"name\":\"maven-compiler-plugin:compile (\\\"x\\\")\",\"cat\":\"mojo\""), trace);
+        assertTrue(trace.contains("\"args\":{\"project\":\"core\"}"), trace);
+        assertTrue(trace.contains("\"cat\":\"dependencies\""), trace);
+        assertTrue(trace.contains("\"name\":\"thread_name\""), trace);
+        assertTrue(trace.contains("\"args\":{\"name\":\"worker-1\"}"), trace);
+        assertTrue(trace.indexOf("\"name\":\"compile\"") < trace.indexOf("maven-compiler-plugin"), trace);
+        assertEquals(4, trace.split("\"ph\":\"X\"", -1).length);
+    }
+
+    @Test
+    void testRepositoryEventsBecomeSpans() throws Exception {
+        BuildTelemetry telemetry = new BuildTelemetry();
+        Path traceFile = tempDir.resolve("trace.json");
+        telemetry.start(traceFile);
+        TelemetryRepositoryListener listener = new TelemetryRepositoryListener(telemetry);
+        RepositorySystemSession session = mock(RepositorySystemSession.class);
+        Artifact artifact = new DefaultArtifact("g:a:jar:1.0");
+
+        listener.artifactInstalling(new RepositoryEvent.Builder(session, RepositoryEvent.EventType.ARTIFACT_INSTALLING)
+                .setArtifact(artifact)
+                .build());
+        listener.artifactInstalled(new RepositoryEvent.Builder(session, RepositoryEvent.EventType.ARTIFACT_INSTALLED)
+                .setArtifact(artifact)
+                .build());
+        telemetry.stop();
+
+        String trace = Files.readString(traceFile, StandardCharsets.UTF_8);
+        assertTrue(trace.contains("\"name\":\"install g:a:jar:1.0\",\"cat\":\"repository\""), trace);
+    }
+}
@@ -18,28 +18,56 @@
  */
 package org.apache.maven.impl;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.ProducedArtifact;
 import org.apache.maven.api.RemoteRepository;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.services.ArtifactDeployer;
 import org.apache.maven.api.services.ArtifactDeployerException;
 import org.apache.maven.api.services.ArtifactDeployerRequest;
+import org.apache.maven.impl.util.PhasingExecutor;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.deployment.DeployRequest;
 import org.eclipse.aether.deployment.DeploymentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Implementation of {@link ArtifactDeployer} service.
+ * <p>
+ * When {@link Constants#MAVEN_DEPLOY_DEFERRED} is enabled, the artifacts are checked and queued in the session
+ * instead of being uploaded, and {@link #deployDeferred(Session)} uploads all of them at the end of the build.
  */
 @Named
 @Singleton
 public class DefaultArtifactDeployer implements ArtifactDeployer {
 
+    private static final SessionData.Key<DeferredDeployments> DEFERRED_DEPLOYMENTS =
+            SessionData.key(DeferredDeployments.class);
+
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
     @Override
     public void deploy(@Nonnull ArtifactDeployerRequest request) {
         requireNonNull(request, "request");
@@ -51,9 +79,156 @@ public void deploy(@Nonnull ArtifactDeployerRequest request) {
                     .setRepository(session.toRepository(repository))
                     .setArtifacts(session.toArtifacts(artifacts));
 
+            if (isDeferred(session.getSession())) {
+                defer(session, deployRequest);
+                return;
+            }
             session.getRepositorySystem().deploy(session.getSession(), deployRequest);
         } catch (DeploymentException e) {
             throw new ArtifactDeployerException("Unable to deploy artifacts", e);
         }
     }
+
+    /**
+     * Uploads the deferred deployments of the session. Deployments of distinct {@code groupId:artifactId} are
+     * uploaded in parallel, bounded by {@link Constants#MAVEN_DEPLOY_PARALLELISM}; within one of them the resolver
+     * uploads the artifacts first and the repository metadata last, the same as for an immediate deployment.
+     *
+     * @param session the session
+     * @return the number of uploaded artifacts
+     * @throws ArtifactDeployerException if some deployments failed, the others are still uploaded
+     */
+    @Override
+    public int deployDeferred(@Nonnull Session session) {
+        InternalSession internalSession = InternalSession.from(requireNonNull(session, "session"));
+        RepositorySystemSession repositorySession = internalSession.getSession();
+        // checked before the deferred deployments are taken, so that none are lost
+        int maxParallelism = getParallelism(repositorySession);
+        List<DeployRequest> requests = takeDeferred(internalSession);
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        int count = requests.stream().mapToInt(r -> r.getArtifacts().size()).sum();
+        logger.info("Deploying {} deferred artifacts", count);
+
+        List<DeploymentException> failures = new CopyOnWriteArrayList<>();
+        int parallelism = Math.min(requests.size(), maxParallelism);
+        if (parallelism <= 1) {
+            requests.forEach(r -> deploy(internalSession, r, failures));
+        } else {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            try (PhasingExecutor executor = new PhasingExecutor(Executors.newFixedThreadPool(parallelism))) {
+                for (DeployRequest request : requests) {
+                    executor.execute(() -> {
+                        if (mdc != null) {
+                            MDC.setContextMap(mdc);
+                        }
+                        try {
+                            deploy(internalSession, request, failures);
+                        } finally {
+                            MDC.clear();
+                        }
+                    });
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            ArtifactDeployerException exception =
+                    new ArtifactDeployerException("Unable to deploy artifacts", failures.get(0));
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+        return count;
+    }
+
+    @Override
+    public int discardDeferred(@Nonnull Session session) {
+        return takeDeferred(InternalSession.from(requireNonNull(session, "session"))).stream()
+                .mapToInt(r -> r.getArtifacts().size())
+                .sum();
+    }
+
+    private void defer(InternalSession session, DeployRequest deployRequest) throws DeploymentException {
+        for (Artifact artifact : deployRequest.getArtifacts()) {
+            Path path = artifact.getPath();
+            if (path == null || !Files.isRegularFile(path) || !Files.isReadable(path)) {
+                throw new DeploymentException("Cannot deploy artifact " + artifact + ": "
+                        + (path == null ? "no file attached" : "file " + path + " is not readable"));
+            }
+        }
+        session.getData()
+                .computeIfAbsent(DEFERRED_DEPLOYMENTS, DeferredDeployments::new)
+                .requests
+                .add(deployRequest);
+        logger.info(
+                "Deferring deployment of {} artifacts to {}",
+                deployRequest.getArtifacts().size(),
+                deployRequest.getRepository().getUrl());
+    }
+
+    /**
+     * Removes the deferred deployments from the session, merged into one request per repository and
+     * {@code groupId:artifactId}, in the order they were deferred.
+     */
+    private static List<DeployRequest> takeDeferred(InternalSession session) {
+        DeferredDeployments deferred = session.getData().get(DEFERRED_DEPLOYMENTS);
+        if (deferred == null) {
+            return List.of();
+        }
+        Map<String, DeployRequest> merged = new LinkedHashMap<>();
+        for (DeployRequest request; (request = deferred.requests.poll()) != null; ) {
+            for (Artifact artifact : request.getArtifacts()) {
+                String key = request.getRepository().getId()
+                        + '|'
+                        + request.getRepository().getUrl()
+                        + '|'
+                        + artifact.getGroupId()
+                        + ':'
+                        + artifact.getArtifactId();
+                DeployRequest target = request;
+                merged.computeIfAbsent(key, k -> new DeployRequest()
+                                .setRepository(target.getRepository())
+                                .setTrace(target.getTrace()))
+                        .addArtifact(artifact);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private static void deploy(InternalSession session, DeployRequest request, List<DeploymentException> failures) {
+        try {
+            session.getRepositorySystem().deploy(session.getSession(), request);
+        } catch (DeploymentException e) {
+            failures.add(e);
+        }
+    }
+
+    private static boolean isDeferred(RepositorySystemSession session) {
+        Object value = session.getConfigProperties().get(Constants.MAVEN_DEPLOY_DEFERRED);
+        return value != null && Boolean.parseBoolean(value.toString().trim());
+    }
+
+    private static int getParallelism(RepositorySystemSession session) {
+        Object value = session.getConfigProperties().get(Constants.MAVEN_DEPLOY_PARALLELISM);
+        if (value == null || value.toString().isBlank()) {
+            return DEFAULT_PARALLELISM;
+        }
+        try {
+            int parallelism = Integer.parseInt(value.toString().trim());
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value for " + Constants.MAVEN_DEPLOY_PARALLELISM + ": " + value
+                + " (expected a positive integer)");
+    }
+
+    /**
+     * The deployments deferred in a session.
+     */
+    static final class DeferredDeployments {
+        final ConcurrentLinkedQueue<DeployRequest> requests = new ConcurrentLinkedQueue<>();
+    }
 }
@@ -18,6 +18,18 @@
  */
 package org.apache.maven.impl;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -25,9 +37,17 @@
 import org.apache.maven.api.services.ArtifactInstaller;
 import org.apache.maven.api.services.ArtifactInstallerException;
 import org.apache.maven.api.services.ArtifactInstallerRequest;
+import org.apache.maven.impl.util.InstallMode;
+import org.apache.maven.impl.util.PhasingExecutor;
+import org.apache.maven.impl.util.RepositoryTracer;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SyncContext;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.installation.InstallRequest;
 import org.eclipse.aether.installation.InstallationException;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.slf4j.MDC;
 
 import static java.util.Objects.requireNonNull;
 
@@ -35,6 +55,8 @@
 @Singleton
 public class DefaultArtifactInstaller implements ArtifactInstaller {
 
+    private static final int DEFAULT_PARALLELISM = 4;
+
     private final RepositorySystem repositorySystem;
 
     @Inject
@@ -47,12 +69,105 @@ public void install(ArtifactInstallerRequest request) throws ArtifactInstallerEx
         requireNonNull(request, "request");
         InternalSession session = InternalSession.from(request.getSession());
         try {
-            InstallRequest installRequest =
-                    new InstallRequest().setArtifacts(session.toArtifacts(request.getArtifacts()));
+            RepositorySystemSession repositorySession = session.getSession();
+            List<Artifact> artifacts = session.toArtifacts(request.getArtifacts());
+            InstallRequest installRequest = new InstallRequest();
+            installRequest.setArtifacts(artifacts);
+            InstallMode mode = InstallMode.of(
+                            repositorySession.getConfigProperties().get(Constants.MAVEN_INSTALL_MODE))
+                    .forLocalRepository();
+            try (RepositoryTracer.Span span = RepositoryTracer.span(repositorySession, () -> describe(artifacts))) {
+                Map<Path, String> placed = placeFiles(repositorySession, mode, artifacts);
 
-            repositorySystem.install(session.getSession(), installRequest);
+                // the resolver installs every artifact, skipping the placed files and applying the install mode
+                // when it copies the others
+                try (InstallMode.Scope scope = mode.apply(placed)) {
+                    repositorySystem.install(repositorySession, installRequest);
+                }
+            }
         } catch (InstallationException e) {
             throw new ArtifactInstallerException(e.getMessage(), e);
         }
     }
+
+    private static String describe(List<Artifact> artifacts) {
+        if (artifacts.isEmpty()) {
+            return "install";
+        }
+        return "install " + artifacts.get(0) + (artifacts.size() > 1 ? " and " + (artifacts.size() - 1) + " more" : "");
+    }
+
+    /**
+     * Places the files of the artifacts into the local repository in parallel, according to the install mode and
+     * under a sync context, computing the checksums of the copied files on the way. The resolver then skips the
+     * placed files when it installs the artifacts. POM files are left to the resolver, as they may be replaced by
+     * transformed POMs.
+     *
+     * @return the checksums of the placed files, by target, {@code null} for the files that were not copied
+     */
+    private Map<Path, String> placeFiles(RepositorySystemSession session, InstallMode mode, List<Artifact> artifacts)
+            throws InstallationException {
+        LocalRepositoryManager localRepositoryManager = session.getLocalRepositoryManager();
+        List<Artifact> files = new ArrayList<>();
+        for (Artifact artifact : artifacts) {
+            if (artifact.getPath() != null
+                    && !"pom".equals(artifact.getExtension())
+                    && !artifact.getPath().equals(localRepositoryManager.getAbsolutePathForLocalArtifact(artifact))) {
+                files.add(artifact);
+            }
+        }
+        int parallelism = Math.min(files.size(), getParallelism(session));
+        if (parallelism <= 1) {
+            // nothing to gain over the resolver
+            return Map.of();
+        }
+
+        Map<Path, String> placed = Collections.synchronizedMap(new HashMap<>());
+        List<InstallationException> failures = new CopyOnWriteArrayList<>();
+        try (SyncContext syncContext = repositorySystem.newSyncContext(session, false)) {
+            syncContext.acquire(files, null);
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            try (PhasingExecutor executor = new PhasingExecutor(Executors.newFixedThreadPool(parallelism))) {
+                for (Artifact artifact : files) {
+                    executor.execute(() -> {
+                        if (mdc != null) {
+                            MDC.setContextMap(mdc);
+                        }
+                        try {
+                            Path target = localRepositoryManager.getAbsolutePathForLocalArtifact(artifact);
+                            placed.put(target, mode.place(artifact.getPath(), target));
+                        } catch (IOException | UncheckedIOException e) {
+                            failures.add(new InstallationException(
+                                    "Failed to install artifact " + artifact + ": " + e.getMessage(), e));
+                        } finally {
+                            MDC.clear();
+                        }
+                    });
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            InstallationException failure = failures.get(0);
+            failures.stream().skip(1).forEach(failure::addSuppressed);
+            throw failure;
+        }
+        return placed;
+    }
+
+    private static int getParallelism(RepositorySystemSession session) {
+        Object value = session.getConfigProperties().get(Constants.MAVEN_INSTALL_PARALLELISM);
+        if (value == null || value.toString().isBlank()) {
+            return DEFAULT_PARALLELISM;
+        }
+        try {
+            int parallelism = Integer.parseInt(value.toString().trim());
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid value for " + Constants.MAVEN_INSTALL_PARALLELISM + ": " + value
+                + " (expected a positive integer)");
+    }
 }
@@ -18,15 +18,17 @@
  */
 package org.apache.maven.impl.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.model.Dependency;
@@ -43,12 +45,42 @@
 
 /**
  * Handles the import of dependency management from other models into the target model.
- *
+ * <p>
+ * The imported dependency management is merged once per distinct list of imported BOMs in the session, indexed by
+ * management key together with the conflicts between the BOMs, and then applied to each importing model.
  */
 @Named
 @Singleton
 public class DefaultDependencyManagementImporter implements DependencyManagementImporter {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<ImportKey, MergedImports>> MERGED_IMPORTS =
+            (SessionData.Key) SessionData.key(ConcurrentHashMap.class, "merged-dependency-management-imports");
+
+    /**
+     * Identifies a list of imported BOMs, by identity of their dependency management.
+     */
+    private record ImportKey(List<DependencyManagement> sources, boolean locationTracking) {}
+
+    /**
+     * A conflict between two imported BOMs.
+     *
+     * @param key the management key of the conflicting dependency
+     * @param message the warning to report if the importing model does not manage the dependency itself
+     */
+    private record Conflict(String key, String message) {}
+
+    /**
+     * The merged dependency management of a list of imported BOMs.
+     *
+     * @param dependencies the imported dependencies by management key, the first import of a key wins
+     * @param list the imported dependencies, as an immutable model list shared by the models not managing
+     *             dependencies themselves
+     * @param conflicts the conflicts between the BOMs, in import order
+     */
+    private record MergedImports(
+            Map<String, Dependency> dependencies, List<Dependency> list, List<Conflict> conflicts) {}
+
     @Override
     public Model importManagement(
             Model target,
@@ -56,6 +88,8 @@ public Model importManagement(
             ModelBuilderRequest request,
             ModelProblemCollector problems) {
         if (sources != null && !sources.isEmpty()) {
+            MergedImports imports = mergedImports(sources, request);
+
             Map<String, Dependency> dependencies = new LinkedHashMap<>();
 
             DependencyManagement depMgmt = target.getDependencyManagement();
@@ -68,33 +102,75 @@ public Model importManagement(
                 depMgmt = DependencyManagement.newInstance();
             }
 
-            Set<String> directDependencies = new HashSet<>(dependencies.keySet());
-
-            for (DependencyManagement source : sources) {
-                for (Dependency dependency : source.getDependencies()) {
-                    String key = dependency.getManagementKey();
-                    Dependency present = dependencies.putIfAbsent(key, dependency);
-                    if (present != null && !equals(dependency, present) && !directDependencies.contains(key)) {
-                        // TODO: https://issues.apache.org/jira/browse/MNG-8004
-                        problems.add(
-                                Severity.WARNING,
-                                Version.V40,
-                                "Ignored POM import for: " + toString(dependency) + " as already imported "
-                                        + toString(present) + ". Add the conflicting managed dependency directly "
-                                        + "to the dependencyManagement section of the POM.");
-                    }
-                    if (present == null && request.isLocationTracking()) {
-                        Dependency updatedDependency = updateWithImportedFrom(dependency, source);
-                        dependencies.put(key, updatedDependency);
-                    }
+            for (Conflict conflict : imports.conflicts()) {
+                if (!dependencies.containsKey(conflict.key())) {
+                    // TODO: https://issues.apache.org/jira/browse/MNG-8004
+                    problems.add(Severity.WARNING, Version.V40, conflict.message());
+                }
+            }
+
+            Collection<Dependency> merged;
+            if (dependencies.isEmpty()) {
+                merged = imports.list();
+            } else {
+                for (Map.Entry<String, Dependency> entry :
+                        imports.dependencies().entrySet()) {
+                    dependencies.putIfAbsent(entry.getKey(), entry.getValue());
                 }
+                merged = dependencies.values();
             }
 
-            return target.withDependencyManagement(depMgmt.withDependencies(dependencies.values()));
+            return target.withDependencyManagement(depMgmt.withDependencies(merged));
         }
         return target;
     }
 
+    /**
+     * Returns the merged dependency management of the imported BOMs, from the session cache if the same BOMs were
+     * already imported in the session.
+     */
+    private MergedImports mergedImports(List<? extends DependencyManagement> sources, ModelBuilderRequest request) {
+        SessionData data = request.getSession() != null ? request.getSession().getData() : null;
+        if (data == null) {
+            return merge(sources, request.isLocationTracking());
+        }
+        Map<ImportKey, MergedImports> cache = data.computeIfAbsent(MERGED_IMPORTS, ConcurrentHashMap::new);
+        ImportKey key = new ImportKey(List.copyOf(sources), request.isLocationTracking());
+        MergedImports imports = cache.get(key);
+        if (imports == null) {
+            imports = merge(sources, request.isLocationTracking());
+            cache.putIfAbsent(key, imports);
+        }
+        return imports;
+    }
+
+    private MergedImports merge(List<? extends DependencyManagement> sources, boolean locationTracking) {
+        Map<String, Dependency> dependencies = new LinkedHashMap<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        for (DependencyManagement source : sources) {
+            for (Dependency dependency : source.getDependencies()) {
+                String key = dependency.getManagementKey();
+                Dependency present = dependencies.putIfAbsent(key, dependency);
+                if (present != null && !equals(dependency, present)) {
+                    conflicts.add(new Conflict(
+                            key,
+                            "Ignored POM import for: " + toString(dependency) + " as already imported "
+                                    + toString(present) + ". Add the conflicting managed dependency directly "
+                                    + "to the dependencyManagement section of the POM."));
+                }
+                if (present == null && locationTracking) {
+                    dependencies.put(key, updateWithImportedFrom(dependency, source));
+                }
+            }
+        }
+        return new MergedImports(
+                Collections.unmodifiableMap(dependencies),
+                DependencyManagement.newInstance()
+                        .withDependencies(dependencies.values())
+                        .getDependencies(),
+                List.copyOf(conflicts));
+    }
+
     private String toString(Dependency dependency) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder
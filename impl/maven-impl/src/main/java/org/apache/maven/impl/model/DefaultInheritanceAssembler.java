@@ -19,19 +19,25 @@
 package org.apache.maven.impl.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
 
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
+import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.InputLocation;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.model.ModelBase;
 import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.model.PluginConfiguration;
 import org.apache.maven.api.model.PluginContainer;
+import org.apache.maven.api.model.PluginManagement;
 import org.apache.maven.api.model.ReportPlugin;
 import org.apache.maven.api.model.Reporting;
 import org.apache.maven.api.services.ModelBuilderRequest;
@@ -140,6 +146,58 @@ private String getChildPathAdjustment(Model child, Model parent, String childDir
      */
     protected static class InheritanceModelMerger extends MavenModelMerger {
 
+        /**
+         * The sections inherited by children which do not declare them, keyed by the section of the parent.
+         * Such a section only depends on the parent's one, so it is merged once and shared by reference by
+         * all the children of the parent, instead of being rebuilt for each of them.
+         */
+        private final Map<Object, Object> inheritedSections = Collections.synchronizedMap(new WeakHashMap<>());
+
+        @SuppressWarnings("unchecked")
+        private <T> T inherited(T section, UnaryOperator<T> merger) {
+            Object merged = inheritedSections.get(section);
+            if (merged == null) {
+                merged = merger.apply(section);
+                inheritedSections.put(section, merged);
+            }
+            return (T) merged;
+        }
+
+        @Override
+        protected void mergeModelBase_DependencyManagement(
+                ModelBase.Builder builder,
+                ModelBase target,
+                ModelBase source,
+                boolean sourceDominant,
+                Map<Object, Object> context) {
+            DependencyManagement src = source.getDependencyManagement();
+            if (src != null && target.getDependencyManagement() == null && !sourceDominant) {
+                builder.dependencyManagement(inherited(
+                        src,
+                        s -> mergeDependencyManagement(DependencyManagement.newInstance(false), s, false, context)));
+                builder.location("dependencyManagement", source.getLocation("dependencyManagement"));
+            } else {
+                super.mergeModelBase_DependencyManagement(builder, target, source, sourceDominant, context);
+            }
+        }
+
+        @Override
+        protected void mergePluginConfiguration_PluginManagement(
+                PluginConfiguration.Builder builder,
+                PluginConfiguration target,
+                PluginConfiguration source,
+                boolean sourceDominant,
+                Map<Object, Object> context) {
+            PluginManagement src = source.getPluginManagement();
+            if (src != null && target.getPluginManagement() == null && !sourceDominant) {
+                builder.pluginManagement(inherited(
+                        src, s -> mergePluginManagement(PluginManagement.newInstance(false), s, false, context)));
+                builder.location("pluginManagement", source.getLocation("pluginManagement"));
+            } else {
+                super.mergePluginConfiguration_PluginManagement(builder, target, source, sourceDominant, context);
+            }
+        }
+
         @Override
         protected String extrapolateChildUrl(String parentUrl, boolean appendPath, Map<Object, Object> context) {
             Object childDirectory = context.get(CHILD_DIRECTORY);
@@ -21,10 +21,14 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 
+import org.apache.maven.api.Lifecycle;
 import org.apache.maven.api.Packaging;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -45,14 +49,22 @@
 
 /**
  * Handles injection of plugin executions induced by the lifecycle bindings for a packaging.
- *
+ * <p>
+ * The default bindings of a packaging are computed once per plugins of the packaging when only the built-in
+ * lifecycles are registered, and the plugins added by the bindings are merged once with a given plugin
+ * management section, which is usually shared by the modules inheriting it from the same parent.
  */
 @Named
 @Singleton
 public class DefaultLifecycleBindingsInjector implements LifecycleBindingsInjector {
 
+    private static final Set<String> BUILTIN_LIFECYCLES = Set.of(Lifecycle.CLEAN, Lifecycle.DEFAULT, Lifecycle.SITE);
+
     private final LifecycleBindingsMerger merger = new LifecycleBindingsMerger();
 
+    private final Map<Map<String, PluginContainer>, LifecycleBindings> bindings =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private final LifecycleRegistry lifecycleRegistry;
     private final PackagingRegistry packagingRegistry;
 
@@ -71,25 +83,46 @@ public Model injectLifecycleBindings(Model model, ModelBuilderRequest request, M
                     Severity.ERROR, Version.BASE, "Unknown packaging: " + packagingId, model.getLocation("packaging"));
             return model;
         } else {
-            Map<String, PluginContainer> plugins = new HashMap<>(packaging.plugins());
-            lifecycleRegistry.stream()
-                    .filter(lf -> !plugins.containsKey(lf.id()))
-                    .forEach(lf -> plugins.put(
-                            lf.id(),
-                            PluginContainer.newBuilder()
-                                    .plugins(lf.phases().stream()
-                                            .flatMap(phase -> phase.plugins().stream())
-                                            .toList())
-                                    .build()));
-            Map<Plugin, Plugin> allPlugins = new LinkedHashMap<>();
-            plugins.values().stream().flatMap(pc -> pc.getPlugins().stream()).forEach(p -> addPlugin(allPlugins, p));
-            Model lifecycleModel = Model.newBuilder()
-                    .build(Build.newBuilder().plugins(allPlugins.values()).build())
-                    .build();
-            return merger.merge(model, lifecycleModel);
+            return merger.merge(model, getLifecycleModel(packaging));
         }
     }
 
+    /**
+     * Returns the default bindings of the packaging. They only depend on the plugins of the packaging and on the
+     * registered lifecycles, so they are reused as long as the registry returns the same plugins for the packaging
+     * and only knows the built-in lifecycles, whose bindings never change.
+     */
+    Model getLifecycleModel(Packaging packaging) {
+        List<Lifecycle> lifecycles = lifecycleRegistry.stream().toList();
+        List<String> ids = lifecycles.stream().map(Lifecycle::id).toList();
+        boolean cacheable = BUILTIN_LIFECYCLES.containsAll(ids);
+        if (cacheable) {
+            LifecycleBindings cached = bindings.get(packaging.plugins());
+            if (cached != null && cached.lifecycles().equals(ids)) {
+                return cached.model();
+            }
+        }
+        Map<String, PluginContainer> plugins = new HashMap<>(packaging.plugins());
+        lifecycles.stream()
+                .filter(lf -> !plugins.containsKey(lf.id()))
+                .forEach(lf -> plugins.put(
+                        lf.id(),
+                        PluginContainer.newBuilder()
+                                .plugins(lf.phases().stream()
+                                        .flatMap(phase -> phase.plugins().stream())
+                                        .toList())
+                                .build()));
+        Map<Plugin, Plugin> allPlugins = new LinkedHashMap<>();
+        plugins.values().stream().flatMap(pc -> pc.getPlugins().stream()).forEach(p -> addPlugin(allPlugins, p));
+        Model lifecycleModel = Model.newBuilder()
+                .build(Build.newBuilder().plugins(allPlugins.values()).build())
+                .build();
+        if (cacheable) {
+            bindings.put(packaging.plugins(), new LifecycleBindings(ids, lifecycleModel));
+        }
+        return lifecycleModel;
+    }
+
     private void addPlugin(Map<Plugin, Plugin> plugins, Plugin plugin) {
         Plugin cur = plugins.putIfAbsent(plugin, plugin);
         if (cur != null) {
@@ -114,6 +147,12 @@ protected static class LifecycleBindingsMerger extends MavenModelMerger {
 
         private static final String PLUGIN_MANAGEMENT = "plugin-management";
 
+        /**
+         * The added plugins merged with their managed plugin, per plugin management section.
+         */
+        private final Map<PluginManagement, Map<Plugin, ManagedPlugin>> managedPlugins =
+                Collections.synchronizedMap(new WeakHashMap<>());
+
         public Model merge(Model target, Model source) {
             Build targetBuild = target.getBuild();
             if (targetBuild == null) {
@@ -164,13 +203,27 @@ protected void mergePluginContainer_Plugins(
                 if (!added.isEmpty()) {
                     PluginManagement pluginMgmt = (PluginManagement) context.get(PLUGIN_MANAGEMENT);
                     if (pluginMgmt != null) {
+                        Map<Plugin, ManagedPlugin> managed = managedPlugins.computeIfAbsent(
+                                pluginMgmt, pm -> Collections.synchronizedMap(new IdentityHashMap<>()));
                         for (Plugin managedPlugin : pluginMgmt.getPlugins()) {
                             Object key = getPluginKey().apply(managedPlugin);
                             Plugin addedPlugin = added.get(key);
                             if (addedPlugin != null) {
-                                Plugin plugin =
-                                        mergePlugin(managedPlugin, addedPlugin, sourceDominant, Collections.emptyMap());
-                                merged.put(key, plugin);
+                                ManagedPlugin plugin = managed.get(managedPlugin);
+                                if (plugin == null
+                                        || plugin.added() != addedPlugin
+                                        || plugin.sourceDominant() != sourceDominant) {
+                                    plugin = new ManagedPlugin(
+                                            addedPlugin,
+                                            sourceDominant,
+                                            mergePlugin(
+                                                    managedPlugin,
+                                                    addedPlugin,
+                                                    sourceDominant,
+                                                    Collections.emptyMap()));
+                                    managed.put(managedPlugin, plugin);
+                                }
+                                merged.put(key, plugin.merged());
                             }
                         }
                     }
@@ -195,5 +248,9 @@ protected void mergePluginExecution_Priority(
             }
         }
         // mergePluginExecution_Priority( builder, target, source, sourceDominant, context );
+
+        private record ManagedPlugin(Plugin added, boolean sourceDominant, Plugin merged) {}
     }
+
+    private record LifecycleBindings(List<String> lifecycles, Model model) {}
 }
@@ -140,6 +140,30 @@ public class DefaultModelBuilder implements ModelBuilder {
     private static final String PARENT = "parent";
     private static final String MODEL = "model";
 
+    /**
+     * The inheritance assembler of parent models, which do not inherit the modules and subprojects of their own
+     * parents. It is shared so that the sections it inherits are shared between parents, see
+     * {@link DefaultInheritanceAssembler.InheritanceModelMerger}.
+     */
+    private static final DefaultInheritanceAssembler PARENT_INHERITANCE_ASSEMBLER =
+            new DefaultInheritanceAssembler(new DefaultInheritanceAssembler.InheritanceModelMerger() {
+                @Override
+                protected void mergeModel_Modules(
+                        Model.Builder builder,
+                        Model target,
+                        Model source,
+                        boolean sourceDominant,
+                        Map<Object, Object> context) {}
+
+                @Override
+                protected void mergeModel_Subprojects(
+                        Model.Builder builder,
+                        Model target,
+                        Model source,
+                        boolean sourceDominant,
+                        Map<Object, Object> context) {}
+            });
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final ModelProcessor modelProcessor;
@@ -1834,28 +1858,10 @@ private ParentModelWithProfiles doReadAsParentModel(
                 throws ModelBuilderException {
             Model raw = readRawModel();
             Model parentData = readParent(raw, raw.getParent(), childProfileActivationContext, parentChain);
-            DefaultInheritanceAssembler defaultInheritanceAssembler =
-                    new DefaultInheritanceAssembler(new DefaultInheritanceAssembler.InheritanceModelMerger() {
-                        @Override
-                        protected void mergeModel_Modules(
-                                Model.Builder builder,
-                                Model target,
-                                Model source,
-                                boolean sourceDominant,
-                                Map<Object, Object> context) {}
-
-                        @Override
-                        protected void mergeModel_Subprojects(
-                                Model.Builder builder,
-                                Model target,
-                                Model source,
-                                boolean sourceDominant,
-                                Map<Object, Object> context) {}
-                    });
-            Model parent = defaultInheritanceAssembler.assembleModelInheritance(raw, parentData, request, this);
+            Model parent = PARENT_INHERITANCE_ASSEMBLER.assembleModelInheritance(raw, parentData, request, this);
             for (Mixin mixin : parent.getMixins()) {
                 Model parentModel = resolveParent(parent, mixin, childProfileActivationContext, parentChain);
-                parent = defaultInheritanceAssembler.assembleModelInheritance(parent, parentModel, request, this);
+                parent = PARENT_INHERITANCE_ASSEMBLER.assembleModelInheritance(parent, parentModel, request, this);
             }
 
             // Profile injection SHOULD be performed on parent models to ensure
@@ -2124,34 +2130,7 @@ boolean isBuildRequestWithActivation() {
          */
         private void replayRecordIntoContext(
                 DefaultProfileActivationContext.Record cachedRecord, DefaultProfileActivationContext targetContext) {
-            if (targetContext.record == null) {
-                return; // Target context is not recording
-            }
-
-            // Replay all the recorded keys from the cached record into the target context's record
-            // We need to access the mutable maps in the target context's record
-            DefaultProfileActivationContext.Record targetRecord = targetContext.record;
-
-            // Replay active profiles
-            cachedRecord.usedActiveProfiles.forEach(targetRecord.usedActiveProfiles::putIfAbsent);
-
-            // Replay inactive profiles
-            cachedRecord.usedInactiveProfiles.forEach(targetRecord.usedInactiveProfiles::putIfAbsent);
-
-            // Replay system properties
-            cachedRecord.usedSystemProperties.forEach(targetRecord.usedSystemProperties::putIfAbsent);
-
-            // Replay user properties
-            cachedRecord.usedUserProperties.forEach(targetRecord.usedUserProperties::putIfAbsent);
-
-            // Replay model properties
-            cachedRecord.usedModelProperties.forEach(targetRecord.usedModelProperties::putIfAbsent);
-
-            // Replay model infos
-            cachedRecord.usedModelInfos.forEach(targetRecord.usedModelInfos::putIfAbsent);
-
-            // Replay exists checks
-            cachedRecord.usedExists.forEach(targetRecord.usedExists::putIfAbsent);
+            targetContext.replay(cachedRecord);
         }
     }
 
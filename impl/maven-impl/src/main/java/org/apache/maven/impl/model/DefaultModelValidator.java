@@ -19,6 +19,12 @@
 package org.apache.maven.impl.model;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashMap;
@@ -41,6 +47,7 @@
 
 import org.apache.maven.api.DependencyScope;
 import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.annotations.Nullable;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -69,9 +76,11 @@
 import org.apache.maven.api.model.Resource;
 import org.apache.maven.api.services.BuilderProblem.Severity;
 import org.apache.maven.api.services.ModelBuilder;
+import org.apache.maven.api.services.ModelBuilderException;
 import org.apache.maven.api.services.ModelProblem;
 import org.apache.maven.api.services.ModelProblem.Version;
 import org.apache.maven.api.services.ModelProblemCollector;
+import org.apache.maven.api.services.ProblemCollector;
 import org.apache.maven.api.services.model.ModelValidator;
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.api.xml.XmlService;
@@ -297,6 +306,31 @@ protected Activation.Builder transformActivation_Condition(
 
     private final Set<String> validProfileIds = ConcurrentHashMap.newKeySet();
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final SessionData.Key<Map<RawValidationKey, List<RecordedProblem>>> RAW_VALIDATIONS =
+            (SessionData.Key) SessionData.key(ConcurrentHashMap.class, "raw-model-validations");
+
+    /**
+     * Identifies the raw validation of a POM file by the path, size and modification time of the file.
+     */
+    private record RawValidationKey(Path pomFile, long size, FileTime lastModified, int validationLevel) {
+        static RawValidationKey of(Model model, int validationLevel) {
+            Path pomFile = model.getPomFile();
+            if (pomFile == null) {
+                return null;
+            }
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(pomFile, BasicFileAttributes.class);
+                return new RawValidationKey(pomFile, attributes.size(), attributes.lastModifiedTime(), validationLevel);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    private record RecordedProblem(
+            Severity severity, Version version, String message, InputLocation location, Exception exception) {}
+
     @Inject
     public DefaultModelValidator() {}
 
@@ -613,8 +647,42 @@ && equals(parent.getArtifactId(), model.getArtifactId())) {
         }
     }
 
+    /**
+     * Validates the raw model, replaying the problems of a previous validation of the same unchanged POM file in
+     * the session. Only models validated below {@link #VALIDATION_LEVEL_STRICT} are memoized: those are the POMs
+     * read as dependencies or as parents of dependencies, which are validated again for each dependency sharing
+     * them, and whose raw model is the content of the file. The raw model of a project being built may also
+     * depend on the reactor.
+     */
     @Override
     public void validateRawModel(Session session, Model model, int validationLevel, ModelProblemCollector problems) {
+        RawValidationKey key =
+                validationLevel < VALIDATION_LEVEL_STRICT ? RawValidationKey.of(model, validationLevel) : null;
+        SessionData data = key != null && session != null ? session.getData() : null;
+        if (data == null) {
+            doValidateRawModel(model, validationLevel, problems);
+            return;
+        }
+        Map<RawValidationKey, List<RecordedProblem>> validations =
+                data.computeIfAbsent(RAW_VALIDATIONS, ConcurrentHashMap::new);
+        List<RecordedProblem> recorded = validations.get(key);
+        if (recorded == null) {
+            List<RecordedProblem> problemList = new ArrayList<>();
+            doValidateRawModel(model, validationLevel, new RecordingProblemCollector(problems, problemList));
+            validations.putIfAbsent(key, List.copyOf(problemList));
+        } else {
+            for (RecordedProblem problem : recorded) {
+                problems.add(
+                        problem.severity(),
+                        problem.version(),
+                        problem.message(),
+                        problem.location(),
+                        problem.exception());
+            }
+        }
+    }
+
+    private void doValidateRawModel(Model model, int validationLevel, ModelProblemCollector problems) {
         // Check that the model version is correctly set wrt the model definition, i.e., that the
         // user does not use an attribute or element that is not available in the modelVersion used.
         String minVersion = new MavenModelVersion().getModelVersion(model);
@@ -2477,4 +2545,59 @@ static SourceHint resourceDirectory(Resource resource) {
             return resource::getDirectory;
         }
     }
+
+    /**
+     * Collector recording the problems reported to its delegate.
+     */
+    private static class RecordingProblemCollector implements ModelProblemCollector {
+        private final ModelProblemCollector delegate;
+        private final List<RecordedProblem> recorded;
+
+        RecordingProblemCollector(ModelProblemCollector delegate, List<RecordedProblem> recorded) {
+            this.delegate = delegate;
+            this.recorded = recorded;
+        }
+
+        @Override
+        public ProblemCollector<ModelProblem> getProblemCollector() {
+            return delegate.getProblemCollector();
+        }
+
+        @Override
+        public void add(
+                Severity severity, Version version, String message, InputLocation location, Exception exception) {
+            recorded.add(new RecordedProblem(severity, version, message, location, exception));
+            delegate.add(severity, version, message, location, exception);
+        }
+
+        @Override
+        public ModelBuilderException newModelBuilderException() {
+            return delegate.newModelBuilderException();
+        }
+
+        @Override
+        public void setSource(String location) {
+            delegate.setSource(location);
+        }
+
+        @Override
+        public void setSource(Model model) {
+            delegate.setSource(model);
+        }
+
+        @Override
+        public String getSource() {
+            return delegate.getSource();
+        }
+
+        @Override
+        public void setRootModel(Model model) {
+            delegate.setRootModel(model);
+        }
+
+        @Override
+        public Model getRootModel() {
+            return delegate.getRootModel();
+        }
+    }
 }
@@ -244,6 +244,24 @@ Record stop() {
         return new Record(record); // Return immutable copy for thread-safe caching
     }
 
+    /**
+     * Replays the keys of a record into the record of this context, if it is recording. This ensures that when a
+     * result computed with the given record is reused, all the keys originally accessed to compute it are recorded
+     * in this context.
+     */
+    void replay(Record used) {
+        if (record == null) {
+            return; // not recording
+        }
+        used.usedActiveProfiles.forEach(record.usedActiveProfiles::putIfAbsent);
+        used.usedInactiveProfiles.forEach(record.usedInactiveProfiles::putIfAbsent);
+        used.usedSystemProperties.forEach(record.usedSystemProperties::putIfAbsent);
+        used.usedUserProperties.forEach(record.usedUserProperties::putIfAbsent);
+        used.usedModelProperties.forEach(record.usedModelProperties::putIfAbsent);
+        used.usedModelInfos.forEach(record.usedModelInfos::putIfAbsent);
+        used.usedExists.forEach(record.usedExists::putIfAbsent);
+    }
+
     @Override
     public boolean isProfileActive(String profileId) {
         if (record != null) {
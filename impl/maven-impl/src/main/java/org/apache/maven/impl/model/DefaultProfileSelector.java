@@ -21,29 +21,49 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.ActivationFile;
+import org.apache.maven.api.model.ActivationOS;
+import org.apache.maven.api.model.ActivationProperty;
 import org.apache.maven.api.model.Profile;
 import org.apache.maven.api.services.BuilderProblem.Severity;
+import org.apache.maven.api.services.ModelProblem;
 import org.apache.maven.api.services.ModelProblem.Version;
 import org.apache.maven.api.services.ModelProblemCollector;
+import org.apache.maven.api.services.ProblemCollector;
 import org.apache.maven.api.services.model.ProfileActivationContext;
 import org.apache.maven.api.services.model.ProfileActivator;
 import org.apache.maven.api.services.model.ProfileSelector;
+import org.apache.maven.impl.model.profile.PropertyProfileActivator;
 
 /**
  * Calculates the active profiles among a given collection of profiles.
- *
+ * <p>
+ * When only the built-in activators are used, the activation of a profile is memoized per activation
+ * specification, together with the record of the context inputs read to evaluate it: the same activation found
+ * in another model, e.g. in a parent shared by many projects, is decided by checking these inputs only, without
+ * evaluating the activators again.
  */
 @Named
 @Singleton
 public class DefaultProfileSelector implements ProfileSelector {
 
+    /**
+     * Maximum number of memoized evaluations of a single activation specification.
+     */
+    private static final int MAX_EVALUATIONS = 16;
+
     private final List<ProfileActivator> activators;
 
+    private final Map<ActivationKey, List<Evaluation>> evaluations = new ConcurrentHashMap<>();
+
     public DefaultProfileSelector() {
         this.activators = new ArrayList<>();
     }
@@ -56,6 +76,7 @@ public DefaultProfileSelector(List<ProfileActivator> activators) {
     public DefaultProfileSelector addProfileActivator(ProfileActivator profileActivator) {
         if (profileActivator != null) {
             activators.add(profileActivator);
+            evaluations.clear();
         }
         return this;
     }
@@ -92,6 +113,52 @@ public List<Profile> getActiveProfiles(
     }
 
     private boolean isActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+        Activation activation = profile.getActivation();
+        if (activation == null
+                || !(context instanceof DefaultProfileActivationContext recordingContext)
+                || !isMemoizable()) {
+            return doIsActive(profile, context, problems);
+        }
+        ActivationKey key = ActivationKey.of(activation);
+        List<Evaluation> previous = evaluations.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>());
+        for (Evaluation evaluation : previous) {
+            if (evaluation.inputs().matches(recordingContext)) {
+                recordingContext.replay(evaluation.inputs());
+                return evaluation.active();
+            }
+        }
+
+        int reported = reportedProblems(problems);
+        DefaultProfileActivationContext ctx = recordingContext.start();
+        boolean active = doIsActive(profile, ctx, problems);
+        DefaultProfileActivationContext.Record inputs = ctx.stop();
+        recordingContext.replay(inputs);
+        // results reporting problems are not memoized, so the problems are reported for each model
+        if (reported >= 0 && reported == reportedProblems(problems) && previous.size() < MAX_EVALUATIONS) {
+            previous.add(new Evaluation(inputs, active));
+        }
+        return active;
+    }
+
+    private static int reportedProblems(ModelProblemCollector problems) {
+        ProblemCollector<ModelProblem> collector = problems.getProblemCollector();
+        return collector != null ? collector.totalProblemsReported() : -1;
+    }
+
+    /**
+     * Only the built-in activators are known to read their whole input from the activation and the context.
+     */
+    private boolean isMemoizable() {
+        String builtIn = PropertyProfileActivator.class.getPackageName();
+        for (ProfileActivator activator : activators) {
+            if (!builtIn.equals(activator.getClass().getPackageName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean doIsActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
         boolean isActive = false;
         for (ProfileActivator activator : activators) {
             if (activator.presentInConfig(profile, context, problems)) {
@@ -118,4 +185,41 @@ private boolean isActiveByDefault(Profile profile) {
         Activation activation = profile.getActivation();
         return activation != null && activation.isActiveByDefault();
     }
+
+    private record Evaluation(DefaultProfileActivationContext.Record inputs, boolean active) {}
+
+    /**
+     * The parts of an activation read by the activators.
+     */
+    private record ActivationKey(
+            String jdk,
+            String osName,
+            String osFamily,
+            String osArch,
+            String osVersion,
+            String propertyName,
+            String propertyValue,
+            String fileMissing,
+            String fileExists,
+            String packaging,
+            String condition) {
+
+        static ActivationKey of(Activation activation) {
+            ActivationOS os = activation.getOs();
+            ActivationProperty property = activation.getProperty();
+            ActivationFile file = activation.getFile();
+            return new ActivationKey(
+                    activation.getJdk(),
+                    os != null ? os.getName() : null,
+                    os != null ? os.getFamily() : null,
+                    os != null ? os.getArch() : null,
+                    os != null ? os.getVersion() : null,
+                    property != null ? property.getName() : null,
+                    property != null ? property.getValue() : null,
+                    file != null ? file.getMissing() : null,
+                    file != null ? file.getExists() : null,
+                    activation.getPackaging(),
+                    activation.getCondition());
+        }
+    }
 }
@@ -21,6 +21,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 /**
@@ -28,6 +30,9 @@
  * It supports tokenizing the input expression and resolving custom functions passed in a map.
  * This class implements a recursive descent parser to handle various operations including
  * arithmetic, logical, and comparison operations, as well as function calls.
+ * <p>
+ * Expressions are compiled into a tree of {@link Expression} which can be cached and evaluated
+ * repeatedly, see {@link #compile(String, Predicate)}.
  */
 public class ConditionParser {
 
@@ -45,10 +50,25 @@ public interface ExpressionFunction {
         Object apply(List<Object> args);
     }
 
+    /**
+     * A compiled expression. Literals, property names and the structure of the expression are resolved once
+     * when compiling; functions and properties are looked up on each evaluation, so a compiled expression can
+     * be shared and evaluated concurrently in different contexts.
+     */
+    @FunctionalInterface
+    public interface Expression {
+        /**
+         * Evaluates the expression.
+         *
+         * @param functions the function lookup, returning {@code null} for unknown functions
+         * @param propertyResolver the property resolver
+         * @return the result of the evaluation
+         */
+        Object evaluate(Function<String, ExpressionFunction> functions, UnaryOperator<String> propertyResolver);
+    }
+
     private final Map<String, ExpressionFunction> functions; // Map to store functions by their names
     private final UnaryOperator<String> propertyResolver; // Property resolver
-    private List<String> tokens; // List of tokens derived from the expression
-    private int current; // Keeps track of the current token index
 
     /**
      * Constructs a new {@code ConditionParser} with the given function mappings.
@@ -68,9 +88,19 @@ public ConditionParser(Map<String, ExpressionFunction> functions, UnaryOperator<
      * @return the result of parsing and evaluating the expression
      */
     public Object parse(String expression) {
-        this.tokens = tokenize(expression);
-        this.current = 0;
-        return parseExpression();
+        return compile(expression, functions::containsKey).evaluate(functions::get, propertyResolver);
+    }
+
+    /**
+     * Compiles the given expression into a reusable {@link Expression}.
+     *
+     * @param expression the expression to compile
+     * @param isFunction tells whether a name is a function name
+     * @return the compiled expression
+     * @throws RuntimeException if the expression is malformed
+     */
+    public static Expression compile(String expression, Predicate<String> isFunction) {
+        return new Compiler(tokenize(expression), isFunction).compileExpression();
     }
 
     /**
@@ -80,7 +110,7 @@ public Object parse(String expression) {
      * @param expression the expression to tokenize
      * @return a list of tokens
      */
-    private List<String> tokenize(String expression) {
+    private static List<String> tokenize(String expression) {
         List<String> tokens = new ArrayList<>();
         StringBuilder sb = new StringBuilder();
         char quoteType = 0;
@@ -162,240 +192,285 @@ private List<String> tokenize(String expression) {
     }
 
     /**
-     * Parses the next expression from the list of tokens.
-     *
-     * @return the parsed expression as an object
-     * @throws RuntimeException if there are unexpected tokens after the end of the expression
+     * Recursive descent compiler of a tokenized expression. The operations keep the semantics of the former
+     * evaluating parser: both operands of logical operations are evaluated, from left to right.
      */
-    private Object parseExpression() {
-        Object result = parseLogicalOr();
-        if (current < tokens.size()) {
-            throw new RuntimeException("Unexpected tokens after end of expression");
+    private static final class Compiler {
+        private final List<String> tokens; // List of tokens derived from the expression
+        private final Predicate<String> isFunction; // Tells whether a name is a function name
+        private int current; // Keeps track of the current token index
+
+        Compiler(List<String> tokens, Predicate<String> isFunction) {
+            this.tokens = tokens;
+            this.isFunction = isFunction;
         }
-        return result;
-    }
 
-    /**
-     * Parses logical OR operations.
-     *
-     * @return the result of parsing logical OR operations
-     */
-    private Object parseLogicalOr() {
-        Object left = parseLogicalAnd();
-        while (current < tokens.size() && tokens.get(current).equals("||")) {
-            current++;
-            Object right = parseLogicalAnd();
-            left = (boolean) left || (boolean) right;
+        /**
+         * Compiles the whole list of tokens.
+         *
+         * @return the compiled expression
+         * @throws RuntimeException if there are unexpected tokens after the end of the expression
+         */
+        Expression compileExpression() {
+            Expression result = compileLogicalOr();
+            if (current < tokens.size()) {
+                throw new RuntimeException("Unexpected tokens after end of expression");
+            }
+            return result;
         }
-        return left;
-    }
 
-    /**
-     * Parses logical AND operations.
-     *
-     * @return the result of parsing logical AND operations
-     */
-    private Object parseLogicalAnd() {
-        Object left = parseComparison();
-        while (current < tokens.size() && tokens.get(current).equals("&&")) {
-            current++;
-            Object right = parseComparison();
-            left = (boolean) left && (boolean) right;
+        /**
+         * Compiles logical OR operations.
+         *
+         * @return the compiled logical OR operations
+         */
+        private Expression compileLogicalOr() {
+            Expression left = compileLogicalAnd();
+            while (current < tokens.size() && tokens.get(current).equals("||")) {
+                current++;
+                Expression l = left;
+                Expression r = compileLogicalAnd();
+                left = (f, p) -> {
+                    Object lv = l.evaluate(f, p);
+                    Object rv = r.evaluate(f, p);
+                    return (boolean) lv || (boolean) rv;
+                };
+            }
+            return left;
         }
-        return left;
-    }
 
-    /**
-     * Parses comparison operations.
-     *
-     * @return the result of parsing comparison operations
-     */
-    private Object parseComparison() {
-        Object left = parseAddSubtract();
-        while (current < tokens.size()
-                && (tokens.get(current).equals(">")
-                        || tokens.get(current).equals("<")
-                        || tokens.get(current).equals(">=")
-                        || tokens.get(current).equals("<=")
-                        || tokens.get(current).equals("==")
-                        || tokens.get(current).equals("!="))) {
-            String operator = tokens.get(current);
-            current++;
-            Object right = parseAddSubtract();
-            left = compare(left, operator, right);
+        /**
+         * Compiles logical AND operations.
+         *
+         * @return the compiled logical AND operations
+         */
+        private Expression compileLogicalAnd() {
+            Expression left = compileComparison();
+            while (current < tokens.size() && tokens.get(current).equals("&&")) {
+                current++;
+                Expression l = left;
+                Expression r = compileComparison();
+                left = (f, p) -> {
+                    Object lv = l.evaluate(f, p);
+                    Object rv = r.evaluate(f, p);
+                    return (boolean) lv && (boolean) rv;
+                };
+            }
+            return left;
         }
-        return left;
-    }
 
-    /**
-     * Parses addition and subtraction operations.
-     *
-     * @return the result of parsing addition and subtraction operations
-     */
-    private Object parseAddSubtract() {
-        Object left = parseMultiplyDivide();
-        while (current < tokens.size()
-                && (tokens.get(current).equals("+") || tokens.get(current).equals("-"))) {
-            String operator = tokens.get(current);
-            current++;
-            Object right = parseMultiplyDivide();
-            if (operator.equals("+")) {
-                left = add(left, right);
-            } else {
-                left = subtract(left, right);
+        /**
+         * Compiles comparison operations.
+         *
+         * @return the compiled comparison operations
+         */
+        private Expression compileComparison() {
+            Expression left = compileAddSubtract();
+            while (current < tokens.size()
+                    && (tokens.get(current).equals(">")
+                            || tokens.get(current).equals("<")
+                            || tokens.get(current).equals(">=")
+                            || tokens.get(current).equals("<=")
+                            || tokens.get(current).equals("==")
+                            || tokens.get(current).equals("!="))) {
+                String operator = tokens.get(current);
+                current++;
+                Expression l = left;
+                Expression r = compileAddSubtract();
+                left = (f, p) -> compare(l.evaluate(f, p), operator, r.evaluate(f, p));
             }
+            return left;
         }
-        return left;
-    }
 
-    /**
-     * Parses multiplication and division operations.
-     *
-     * @return the result of parsing multiplication and division operations
-     */
-    private Object parseMultiplyDivide() {
-        Object left = parseUnary();
-        while (current < tokens.size()
-                && (tokens.get(current).equals("*") || tokens.get(current).equals("/"))) {
-            String operator = tokens.get(current);
-            current++;
-            Object right = parseUnary();
-            if (operator.equals("*")) {
-                left = multiply(left, right);
-            } else {
-                left = divide(left, right);
+        /**
+         * Compiles addition and subtraction operations.
+         *
+         * @return the compiled addition and subtraction operations
+         */
+        private Expression compileAddSubtract() {
+            Expression left = compileMultiplyDivide();
+            while (current < tokens.size()
+                    && (tokens.get(current).equals("+") || tokens.get(current).equals("-"))) {
+                String operator = tokens.get(current);
+                current++;
+                Expression l = left;
+                Expression r = compileMultiplyDivide();
+                if (operator.equals("+")) {
+                    left = (f, p) -> add(l.evaluate(f, p), r.evaluate(f, p));
+                } else {
+                    left = (f, p) -> subtract(l.evaluate(f, p), r.evaluate(f, p));
+                }
             }
+            return left;
         }
-        return left;
-    }
 
-    /**
-     * Parses unary operations (negation).
-     *
-     * @return the result of parsing unary operations
-     */
-    private Object parseUnary() {
-        if (current < tokens.size() && tokens.get(current).equals("-")) {
-            current++;
-            Object value = parseUnary();
-            return negate(value);
+        /**
+         * Compiles multiplication and division operations.
+         *
+         * @return the compiled multiplication and division operations
+         */
+        private Expression compileMultiplyDivide() {
+            Expression left = compileUnary();
+            while (current < tokens.size()
+                    && (tokens.get(current).equals("*") || tokens.get(current).equals("/"))) {
+                String operator = tokens.get(current);
+                current++;
+                Expression l = left;
+                Expression r = compileUnary();
+                if (operator.equals("*")) {
+                    left = (f, p) -> multiply(l.evaluate(f, p), r.evaluate(f, p));
+                } else {
+                    left = (f, p) -> divide(l.evaluate(f, p), r.evaluate(f, p));
+                }
+            }
+            return left;
         }
-        return parseTerm();
-    }
 
-    /**
-     * Parses individual terms (numbers, strings, booleans, parentheses, functions).
-     *
-     * @return the parsed term
-     * @throws RuntimeException if the expression ends unexpectedly or contains unknown tokens
-     */
-    private Object parseTerm() {
-        if (current >= tokens.size()) {
-            throw new RuntimeException("Unexpected end of expression");
+        /**
+         * Compiles unary operations (negation).
+         *
+         * @return the compiled unary operations
+         */
+        private Expression compileUnary() {
+            if (current < tokens.size() && tokens.get(current).equals("-")) {
+                current++;
+                Expression value = compileUnary();
+                return (f, p) -> negate(value.evaluate(f, p));
+            }
+            return compileTerm();
         }
 
-        String token = tokens.get(current);
-        if (token.equals("(")) {
-            return parseParentheses();
-        } else if (functions.containsKey(token)) {
-            return parseFunction();
-        } else if ((token.startsWith("\"") && token.endsWith("\"")) || (token.startsWith("'") && token.endsWith("'"))) {
-            current++;
-            return token.length() > 1 ? token.substring(1, token.length() - 1) : "";
-        } else if (token.equalsIgnoreCase("true") || token.equalsIgnoreCase("false")) {
-            current++;
-            return Boolean.parseBoolean(token);
-        } else if (token.startsWith("${") && token.endsWith("}")) {
-            current++;
-            String propertyName = token.substring(2, token.length() - 1);
-            return propertyResolver.apply(propertyName);
-        } else {
-            try {
+        /**
+         * Compiles individual terms (numbers, strings, booleans, parentheses, functions).
+         *
+         * @return the compiled term
+         * @throws RuntimeException if the expression ends unexpectedly or contains unknown tokens
+         */
+        private Expression compileTerm() {
+            if (current >= tokens.size()) {
+                throw new RuntimeException("Unexpected end of expression");
+            }
+
+            String token = tokens.get(current);
+            if (token.equals("(")) {
+                return compileParentheses();
+            } else if (isFunction.test(token)) {
+                return compileFunction();
+            } else if ((token.startsWith("\"") && token.endsWith("\""))
+                    || (token.startsWith("'") && token.endsWith("'"))) {
                 current++;
-                return Double.parseDouble(token);
-            } catch (NumberFormatException e) {
-                // If it's not a number, treat it as a variable or unknown function
-                return parseVariableOrUnknownFunction();
+                String value = token.length() > 1 ? token.substring(1, token.length() - 1) : "";
+                return (f, p) -> value;
+            } else if (token.equalsIgnoreCase("true") || token.equalsIgnoreCase("false")) {
+                current++;
+                Boolean value = Boolean.parseBoolean(token);
+                return (f, p) -> value;
+            } else if (token.startsWith("${") && token.endsWith("}")) {
+                current++;
+                String propertyName = token.substring(2, token.length() - 1);
+                return (f, p) -> p.apply(propertyName);
+            } else {
+                try {
+                    current++;
+                    Double value = Double.parseDouble(token);
+                    return (f, p) -> value;
+                } catch (NumberFormatException e) {
+                    // If it's not a number, treat it as a variable or unknown function
+                    return compileVariableOrUnknownFunction();
+                }
             }
         }
-    }
 
-    /**
-     * Parses a token that could be either a variable or an unknown function.
-     *
-     * @return the result of parsing a variable or unknown function
-     * @throws RuntimeException if an unknown function is encountered
-     */
-    private Object parseVariableOrUnknownFunction() {
-        current--; // Move back to the token we couldn't parse as a number
-        String name = tokens.get(current);
-        current++;
-
-        // Check if it's followed by an opening parenthesis, indicating a function call
-        if (current < tokens.size() && tokens.get(current).equals("(")) {
-            // It's a function call, parse it as such
-            List<Object> args = parseArgumentList();
-            if (functions.containsKey(name)) {
-                return functions.get(name).apply(args);
+        /**
+         * Compiles a token that could be either a variable or an unknown function.
+         *
+         * @return the compiled call of the unknown function
+         * @throws RuntimeException if the token is a variable
+         */
+        private Expression compileVariableOrUnknownFunction() {
+            String name = tokens.get(current - 1);
+
+            // Check if it's followed by an opening parenthesis, indicating a function call
+            if (current < tokens.size() && tokens.get(current).equals("(")) {
+                // It's a function call, the function is looked up when evaluating
+                return call(name, compileArgumentList());
             } else {
-                throw new RuntimeException("Unknown function: " + name);
+                // It's a variable
+                // Here you might want to handle variables differently
+                // For now, we'll throw an exception
+                throw new RuntimeException("Unknown variable: " + name);
             }
-        } else {
-            // It's a variable
-            // Here you might want to handle variables differently
-            // For now, we'll throw an exception
-            throw new RuntimeException("Unknown variable: " + name);
         }
-    }
 
-    /**
-     * Parses a list of arguments for a function call.
-     *
-     * @return a list of parsed arguments
-     * @throws RuntimeException if there's a mismatch in parentheses
-     */
-    private List<Object> parseArgumentList() {
-        List<Object> args = new ArrayList<>();
-        current++; // Skip the opening parenthesis
-        while (current < tokens.size() && !tokens.get(current).equals(")")) {
-            args.add(parseLogicalOr());
-            if (current < tokens.size() && tokens.get(current).equals(",")) {
-                current++;
+        /**
+         * Compiles a list of arguments for a function call.
+         *
+         * @return the compiled arguments
+         * @throws RuntimeException if there's a mismatch in parentheses
+         */
+        private Expression[] compileArgumentList() {
+            List<Expression> args = new ArrayList<>();
+            current++; // Skip the opening parenthesis
+            while (current < tokens.size() && !tokens.get(current).equals(")")) {
+                args.add(compileLogicalOr());
+                if (current < tokens.size() && tokens.get(current).equals(",")) {
+                    current++;
+                }
+            }
+            if (current >= tokens.size() || !tokens.get(current).equals(")")) {
+                throw new RuntimeException("Mismatched parentheses: missing closing parenthesis in function call");
             }
+            current++; // Skip the closing parenthesis
+            return args.toArray(Expression[]::new);
         }
-        if (current >= tokens.size() || !tokens.get(current).equals(")")) {
-            throw new RuntimeException("Mismatched parentheses: missing closing parenthesis in function call");
+
+        /**
+         * Compiles a function call.
+         *
+         * @return the compiled function call
+         */
+        private Expression compileFunction() {
+            String functionName = tokens.get(current);
+            current++;
+            return call(functionName, compileArgumentList());
         }
-        current++; // Skip the closing parenthesis
-        return args;
-    }
 
-    /**
-     * Parses a function call.
-     *
-     * @return the result of the function call
-     */
-    private Object parseFunction() {
-        String functionName = tokens.get(current);
-        current++;
-        List<Object> args = parseArgumentList();
-        return functions.get(functionName).apply(args);
-    }
+        /**
+         * Compiles an expression within parentheses.
+         *
+         * @return the compiled expression within parentheses
+         * @throws RuntimeException if there's a mismatch in parentheses
+         */
+        private Expression compileParentheses() {
+            current++; // Skip the opening parenthesis
+            Expression result = compileLogicalOr();
+            if (current >= tokens.size() || !tokens.get(current).equals(")")) {
+                throw new RuntimeException("Mismatched parentheses: missing closing parenthesis");
+            }
+            current++; // Skip the closing parenthesis
+            return result;
+        }
 
-    /**
-     * Parses an expression within parentheses.
-     *
-     * @return the result of parsing the expression within parentheses
-     * @throws RuntimeException if there's a mismatch in parentheses
-     */
-    private Object parseParentheses() {
-        current++; // Skip the opening parenthesis
-        Object result = parseLogicalOr();
-        if (current >= tokens.size() || !tokens.get(current).equals(")")) {
-            throw new RuntimeException("Mismatched parentheses: missing closing parenthesis");
+        /**
+         * Creates the call of a function: the arguments are evaluated, then the function is looked up and applied.
+         *
+         * @param name the function name
+         * @param args the compiled arguments
+         * @return the compiled function call
+         */
+        private static Expression call(String name, Expression[] args) {
+            return (f, p) -> {
+                List<Object> values = new ArrayList<>(args.length);
+                for (Expression arg : args) {
+                    values.add(arg.evaluate(f, p));
+                }
+                ExpressionFunction function = f.apply(name);
+                if (function == null) {
+                    throw new RuntimeException("Unknown function: " + name);
+                }
+                return function.apply(values);
+            };
         }
-        current++; // Skip the closing parenthesis
-        return result;
     }
 
     /**
@@ -423,7 +498,7 @@ private static Object add(Object left, Object right) {
      * @return the negated value
      * @throws RuntimeException if the value cannot be negated
      */
-    private Object negate(Object value) {
+    private static Object negate(Object value) {
         if (value instanceof Number number) {
             return -number.doubleValue();
         }
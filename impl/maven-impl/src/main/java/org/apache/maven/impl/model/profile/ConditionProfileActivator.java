@@ -19,8 +19,10 @@
 package org.apache.maven.impl.model.profile;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.UnaryOperator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -40,11 +42,34 @@
 /**
  * This class is responsible for activating profiles based on conditions specified in the profile's activation section.
  * It evaluates the condition expression and determines whether the profile should be active.
+ * <p>
+ * Conditions are compiled once and cached by expression, the functions of {@link ConditionFunctions} are bound
+ * to direct method references.
  */
 @Named("condition")
 @Singleton
 public class ConditionProfileActivator implements ProfileActivator {
 
+    /**
+     * The functions of {@link ConditionFunctions}, by name. A trailing underscore of a method name, used to avoid
+     * Java keywords, is not part of the function name.
+     */
+    static final Map<String, BiFunction<ConditionFunctions, List<Object>, Object>> FUNCTIONS = Map.ofEntries(
+            Map.entry("length", ConditionFunctions::length),
+            Map.entry("upper", ConditionFunctions::upper),
+            Map.entry("lower", ConditionFunctions::lower),
+            Map.entry("substring", ConditionFunctions::substring),
+            Map.entry("indexOf", ConditionFunctions::indexOf),
+            Map.entry("contains", ConditionFunctions::contains),
+            Map.entry("matches", ConditionFunctions::matches),
+            Map.entry("not", ConditionFunctions::not),
+            Map.entry("if", ConditionFunctions::if_),
+            Map.entry("exists", ConditionFunctions::exists),
+            Map.entry("missing", ConditionFunctions::missing),
+            Map.entry("inrange", ConditionFunctions::inrange));
+
+    private final Map<String, ConditionParser.Expression> expressions = new ConcurrentHashMap<>();
+
     private final VersionParser versionParser;
 
     private final Interpolator interpolator;
@@ -76,9 +101,8 @@ public boolean isActive(Profile profile, ProfileActivationContext context, Model
         }
         String condition = profile.getActivation().getCondition();
         try {
-            Map<String, ConditionParser.ExpressionFunction> functions = registerFunctions(context, versionParser);
-            UnaryOperator<String> propertyResolver = s -> property(context, s);
-            return toBoolean(new ConditionParser(functions, propertyResolver).parse(condition));
+            ConditionFunctions functions = new ConditionFunctions(context, versionParser);
+            return toBoolean(compile(condition).evaluate(name -> function(functions, name), s -> property(context, s)));
         } catch (Exception e) {
             problems.add(
                     Severity.ERROR, Version.V41, "Error parsing profile activation condition: " + e.getMessage(), e);
@@ -113,37 +137,57 @@ public boolean presentInConfig(Profile profile, ProfileActivationContext context
     public Map<String, ConditionParser.ExpressionFunction> registerFunctions(
             ProfileActivationContext context, VersionParser versionParser) {
         Map<String, ConditionParser.ExpressionFunction> functions = new HashMap<>();
-
         ConditionFunctions conditionFunctions = new ConditionFunctions(context, versionParser);
+        for (String name : FUNCTIONS.keySet()) {
+            functions.put(name, function(conditionFunctions, name));
+        }
+        return functions;
+    }
 
-        for (java.lang.reflect.Method method : ConditionFunctions.class.getDeclaredMethods()) {
-            String methodName = method.getName();
-            if (methodName.endsWith("_")) {
-                methodName = methodName.substring(0, methodName.length() - 1);
-            }
-            final String finalMethodName = methodName;
-
-            functions.put(finalMethodName, args -> {
-                try {
-                    return method.invoke(conditionFunctions, args);
-                } catch (Exception e) {
-                    StringBuilder causeChain = new StringBuilder();
-                    Throwable cause = e;
-                    while (cause != null) {
-                        if (!causeChain.isEmpty()) {
-                            causeChain.append(" Caused by: ");
-                        }
-                        causeChain.append(cause);
-                        cause = cause.getCause();
-                    }
-                    throw new RuntimeException(
-                            "Error invoking function '" + finalMethodName + "': " + e + ". Cause chain: " + causeChain,
-                            e);
-                }
-            });
+    /**
+     * Returns the compiled condition, compiling it on first use. Malformed conditions are not cached.
+     *
+     * @param condition The condition expression
+     * @return The compiled condition
+     */
+    ConditionParser.Expression compile(String condition) {
+        ConditionParser.Expression expression = expressions.get(condition);
+        if (expression == null) {
+            expression = ConditionParser.compile(condition, FUNCTIONS::containsKey);
+            expressions.putIfAbsent(condition, expression);
         }
+        return expression;
+    }
 
-        return functions;
+    /**
+     * Binds a condition function to the given functions instance.
+     *
+     * @param conditionFunctions The functions instance
+     * @param name The function name
+     * @return The bound function, or null if the function is unknown
+     */
+    private static ConditionParser.ExpressionFunction function(ConditionFunctions conditionFunctions, String name) {
+        BiFunction<ConditionFunctions, List<Object>, Object> function = FUNCTIONS.get(name);
+        if (function == null) {
+            return null;
+        }
+        return args -> {
+            try {
+                return function.apply(conditionFunctions, args);
+            } catch (Exception e) {
+                StringBuilder causeChain = new StringBuilder();
+                Throwable cause = e;
+                while (cause != null) {
+                    if (!causeChain.isEmpty()) {
+                        causeChain.append(" Caused by: ");
+                    }
+                    causeChain.append(cause);
+                    cause = cause.getCause();
+                }
+                throw new RuntimeException(
+                        "Error invoking function '" + name + "': " + e + ". Cause chain: " + causeChain, e);
+            }
+        };
     }
 
     /**
@@ -18,7 +18,6 @@
  */
 package org.apache.maven.impl.resolver;
 
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,7 +33,6 @@
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.metadata.Versioning;
 import org.apache.maven.impl.DefaultModelVersionParser;
-import org.apache.maven.metadata.v4.MetadataStaxReader;
 import org.eclipse.aether.RepositoryEvent;
 import org.eclipse.aether.RepositoryEvent.EventType;
 import org.eclipse.aether.RepositorySystemSession;
@@ -186,7 +184,8 @@ private Map<String, ArtifactRepository> getVersions(
             metadataRequests.add(metadataRequest);
         }
 
-        List<MetadataResult> metadataResults = metadataResolver.resolveMetadata(session, metadataRequests);
+        List<MetadataResult> metadataResults =
+                MavenMetadataCache.resolveMetadata(metadataResolver, session, metadataRequests);
 
         WorkspaceReader workspace = session.getWorkspaceReader();
         if (workspace != null) {
@@ -232,10 +231,7 @@ private Versioning readVersions(
                     syncContext.acquire(null, Collections.singleton(metadata));
 
                     if (metadata.getPath() != null && Files.exists(metadata.getPath())) {
-                        try (InputStream in = Files.newInputStream(metadata.getPath())) {
-                            versioning =
-                                    new MetadataStaxReader().read(in, false).getVersioning();
-                        }
+                        versioning = MavenMetadataCache.readVersioning(session, metadata.getPath());
                     }
                 }
             }
@@ -19,7 +19,6 @@
 package org.apache.maven.impl.resolver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -36,7 +35,6 @@
 import org.apache.maven.api.metadata.Snapshot;
 import org.apache.maven.api.metadata.SnapshotVersion;
 import org.apache.maven.api.metadata.Versioning;
-import org.apache.maven.metadata.v4.MetadataStaxReader;
 import org.eclipse.aether.RepositoryCache;
 import org.eclipse.aether.RepositoryEvent;
 import org.eclipse.aether.RepositoryEvent.EventType;
@@ -162,7 +160,8 @@ public VersionResult resolveVersion(RepositorySystemSession session, VersionRequ
                 metadataReqs.add(metadataRequest);
             }
 
-            List<MetadataResult> metadataResults = metadataResolver.resolveMetadata(session, metadataReqs);
+            List<MetadataResult> metadataResults =
+                    MavenMetadataCache.resolveMetadata(metadataResolver, session, metadataReqs);
 
             Map<String, VersionInfo> infos = new HashMap<>();
 
@@ -242,29 +241,26 @@ private Versioning readVersions(
                     syncContext.acquire(null, Collections.singleton(metadata));
 
                     if (metadata.getPath() != null && Files.exists(metadata.getPath())) {
-                        try (InputStream in = Files.newInputStream(metadata.getPath())) {
-                            versioning =
-                                    new MetadataStaxReader().read(in, false).getVersioning();
-
-                            /*
-                            NOTE: Users occasionally misuse the id "local" for remote repos which screws up the metadata
-                            of the local repository. This is especially troublesome during snapshot resolution so we try
-                            to handle that gracefully.
-                             */
-                            if (versioning != null
-                                    && repository instanceof LocalRepository
-                                    && versioning.getSnapshot() != null
-                                    && versioning.getSnapshot().getBuildNumber() > 0) {
-                                versioning = Versioning.newBuilder()
-                                        .lastUpdated(versioning.getLastUpdated())
-                                        .snapshot(Snapshot.newBuilder()
-                                                .localCopy(true)
-                                                .build())
-                                        .build();
-                                throw new IOException("Snapshot information corrupted with remote repository data"
-                                        + ", please verify that no remote repository uses the id '"
-                                        + repository.getId() + "'");
-                            }
+                        versioning = MavenMetadataCache.readVersioning(session, metadata.getPath());
+
+                        /*
+                        NOTE: Users occasionally misuse the id "local" for remote repos which screws up the metadata
+                        of the local repository. This is especially troublesome during snapshot resolution so we try
+                        to handle that gracefully.
+                         */
+                        if (versioning != null
+                                && repository instanceof LocalRepository
+                                && versioning.getSnapshot() != null
+                                && versioning.getSnapshot().getBuildNumber() > 0) {
+                            versioning = Versioning.newBuilder()
+                                    .lastUpdated(versioning.getLastUpdated())
+                                    .snapshot(Snapshot.newBuilder()
+                                            .localCopy(true)
+                                            .build())
+                                    .build();
+                            throw new IOException("Snapshot information corrupted with remote repository data"
+                                    + ", please verify that no remote repository uses the id '"
+                                    + repository.getId() + "'");
                         }
                     }
                 }
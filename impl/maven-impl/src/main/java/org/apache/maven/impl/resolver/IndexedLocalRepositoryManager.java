@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.impl.util.InstallMode;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalMetadataRegistration;
+import org.eclipse.aether.repository.LocalMetadataRequest;
+import org.eclipse.aether.repository.LocalMetadataResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Local repository manager recording the artifacts and metadata added to the repository into its
+ * {@link LocalRepositoryIndex}, and answering the lookups of locally installed or untracked artifacts from it.
+ */
+final class IndexedLocalRepositoryManager implements LocalRepositoryManager {
+
+    private final LocalRepositoryManager delegate;
+
+    private final LocalRepositoryIndex index;
+
+    private final String trackingFilename;
+
+    IndexedLocalRepositoryManager(
+            LocalRepositoryManager delegate, LocalRepositoryIndex index, String trackingFilename) {
+        this.delegate = delegate;
+        this.index = index;
+        this.trackingFilename = trackingFilename;
+    }
+
+    @Override
+    public LocalRepository getRepository() {
+        return delegate.getRepository();
+    }
+
+    @Override
+    public Path getAbsolutePathForLocalArtifact(Artifact artifact) {
+        return delegate.getAbsolutePathForLocalArtifact(artifact);
+    }
+
+    @Deprecated
+    @Override
+    public String getPathForLocalArtifact(Artifact artifact) {
+        return delegate.getPathForLocalArtifact(artifact);
+    }
+
+    @Override
+    public Path getAbsolutePathForRemoteArtifact(Artifact artifact, RemoteRepository repository, String context) {
+        return delegate.getAbsolutePathForRemoteArtifact(artifact, repository, context);
+    }
+
+    @Deprecated
+    @Override
+    public String getPathForRemoteArtifact(Artifact artifact, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteArtifact(artifact, repository, context);
+    }
+
+    @Override
+    public Path getAbsolutePathForLocalMetadata(Metadata metadata) {
+        return delegate.getAbsolutePathForLocalMetadata(metadata);
+    }
+
+    @Deprecated
+    @Override
+    public String getPathForLocalMetadata(Metadata metadata) {
+        return delegate.getPathForLocalMetadata(metadata);
+    }
+
+    @Override
+    public Path getAbsolutePathForRemoteMetadata(Metadata metadata, RemoteRepository repository, String context) {
+        return delegate.getAbsolutePathForRemoteMetadata(metadata, repository, context);
+    }
+
+    @Deprecated
+    @Override
+    public String getPathForRemoteMetadata(Metadata metadata, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteMetadata(metadata, repository, context);
+    }
+
+    @Override
+    public LocalArtifactResult find(RepositorySystemSession session, LocalArtifactRequest request) {
+        Artifact artifact = request.getArtifact();
+        // the local repository cannot hold installed timestamped snapshots, they are only created by deploy
+        if (Objects.equals(artifact.getVersion(), artifact.getBaseVersion())) {
+            Path path = delegate.getAbsolutePathForLocalArtifact(artifact);
+            if (isInstalledOrUntracked(path)) {
+                LocalArtifactResult result = new LocalArtifactResult(request);
+                result.setPath(path);
+                result.setAvailable(true);
+                return result;
+            }
+        }
+        // artifacts downloaded from remote repositories are matched against repository keys known to the delegate
+        return delegate.find(session, request);
+    }
+
+    /**
+     * Tells from the index whether the file is in the repository, unchanged, and was either installed locally or is
+     * not tracked at all, in which case the enhanced local repository manager accepts it whatever the request.
+     */
+    private boolean isInstalledOrUntracked(Path path) {
+        String key = index.key(path);
+        LocalRepositoryIndex.Entry entry = key != null ? index.get(key) : null;
+        if (entry == null || entry.properties() != null || !isCurrent(path, entry)) {
+            return false;
+        }
+        Path trackingFile = path.resolveSibling(trackingFilename);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(trackingFile, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+        LocalRepositoryIndex.Entry tracking = index.get(index.key(trackingFile));
+        if (tracking == null || tracking.properties() == null || !tracking.matches(attributes)) {
+            return false;
+        }
+        String prefix = path.getFileName() + ">";
+        Map<String, String> origins = tracking.properties();
+        return origins.containsKey(prefix) || origins.keySet().stream().noneMatch(k -> k.startsWith(prefix));
+    }
+
+    private static boolean isCurrent(Path path, LocalRepositoryIndex.Entry entry) {
+        try {
+            return entry.matches(Files.readAttributes(path, BasicFileAttributes.class));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalArtifactRegistration request) {
+        delegate.add(session, request);
+        Artifact artifact = request.getArtifact();
+        Path path = request.getRepository() == null
+                ? delegate.getAbsolutePathForLocalArtifact(artifact)
+                : delegate.getAbsolutePathForRemoteArtifact(
+                        artifact, request.getRepository(), context(request.getContexts()));
+        index.putFile(path, InstallMode.placedChecksum(path));
+    }
+
+    @Override
+    public LocalMetadataResult find(RepositorySystemSession session, LocalMetadataRequest request) {
+        return delegate.find(session, request);
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalMetadataRegistration request) {
+        delegate.add(session, request);
+        Metadata metadata = request.getMetadata();
+        index.putFile(
+                request.getRepository() == null
+                        ? delegate.getAbsolutePathForLocalMetadata(metadata)
+                        : delegate.getAbsolutePathForRemoteMetadata(
+                                metadata, request.getRepository(), context(request.getContexts())),
+                null);
+    }
+
+    private static String context(Collection<String> contexts) {
+        return contexts == null || contexts.isEmpty() ? "" : contexts.iterator().next();
+    }
+
+    @Override
+    public String toString() {
+        return delegate + " (indexed)";
+    }
+}
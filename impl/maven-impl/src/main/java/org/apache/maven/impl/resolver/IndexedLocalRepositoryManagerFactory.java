@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.di.Inject;
+import org.apache.maven.api.di.Named;
+import org.apache.maven.api.di.Singleton;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.internal.impl.EnhancedLocalRepositoryManagerFactory;
+import org.eclipse.aether.internal.impl.LocalPathComposer;
+import org.eclipse.aether.internal.impl.LocalPathPrefixComposerFactory;
+import org.eclipse.aether.internal.impl.TrackingFileManager;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.NoLocalRepositoryManagerException;
+import org.eclipse.aether.spi.localrepo.LocalRepositoryManagerFactory;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory of enhanced local repository managers backed by a {@link LocalRepositoryIndex}, enabled with
+ * {@link Constants#MAVEN_REPO_LOCAL_INDEX}. When the index is disabled, this factory declines and the
+ * resolver falls back to the plain enhanced local repository manager.
+ *
+ * @since 4.1.0
+ */
+@Named(IndexedLocalRepositoryManagerFactory.NAME)
+@Singleton
+public class IndexedLocalRepositoryManagerFactory implements LocalRepositoryManagerFactory {
+    public static final String NAME = "indexed";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IndexedLocalRepositoryManagerFactory.class);
+
+    private final LocalPathComposer localPathComposer;
+
+    private final TrackingFileManager trackingFileManager;
+
+    private final LocalPathPrefixComposerFactory localPathPrefixComposerFactory;
+
+    @Inject
+    public IndexedLocalRepositoryManagerFactory(
+            LocalPathComposer localPathComposer,
+            TrackingFileManager trackingFileManager,
+            LocalPathPrefixComposerFactory localPathPrefixComposerFactory) {
+        this.localPathComposer = localPathComposer;
+        this.trackingFileManager = trackingFileManager;
+        this.localPathPrefixComposerFactory = localPathPrefixComposerFactory;
+    }
+
+    @Override
+    public LocalRepositoryManager newInstance(RepositorySystemSession session, LocalRepository repository)
+            throws NoLocalRepositoryManagerException {
+        String mode = ConfigUtils.getString(session, "false", Constants.MAVEN_REPO_LOCAL_INDEX);
+        if (!"true".equals(mode) && !"rebuild".equals(mode) && !"verify".equals(mode)) {
+            throw new NoLocalRepositoryManagerException(repository, "local repository index is disabled");
+        }
+        String trackingFilename = getTrackingFilename(session);
+        LocalRepositoryIndex index;
+        try {
+            index = getIndex(session, repository.getBasePath(), mode, trackingFilename);
+        } catch (UncheckedIOException e) {
+            throw new NoLocalRepositoryManagerException(repository, "local repository index unavailable", e);
+        }
+        LocalRepositoryManager delegate = new EnhancedLocalRepositoryManagerFactory(
+                        localPathComposer,
+                        new IndexedTrackingFileManager(trackingFileManager, index),
+                        localPathPrefixComposerFactory)
+                .newInstance(session, repository);
+        return new IndexedLocalRepositoryManager(delegate, index, trackingFilename);
+    }
+
+    private static String getTrackingFilename(RepositorySystemSession session) {
+        return ConfigUtils.getString(
+                session,
+                EnhancedLocalRepositoryManagerFactory.DEFAULT_TRACKING_FILENAME,
+                EnhancedLocalRepositoryManagerFactory.CONFIG_PROP_TRACKING_FILENAME);
+    }
+
+    /**
+     * Returns the index of the repository, opened, rebuilt or verified once per session.
+     */
+    private static LocalRepositoryIndex getIndex(
+            RepositorySystemSession session, Path basedir, String mode, String trackingFilename) {
+        RepositoryCache cache = session.getCache();
+        IndexKey key = new IndexKey(basedir.toAbsolutePath().normalize());
+        if (cache == null) {
+            return openIndex(key.basedir(), mode, trackingFilename);
+        }
+        return (LocalRepositoryIndex)
+                cache.computeIfAbsent(session, key, () -> openIndex(key.basedir(), mode, trackingFilename));
+    }
+
+    private static LocalRepositoryIndex openIndex(Path basedir, String mode, String trackingFilename) {
+        try {
+            if ("rebuild".equals(mode)) {
+                LocalRepositoryIndex index = LocalRepositoryIndex.rebuild(basedir, trackingFilename);
+                LOGGER.info("Rebuilt local repository index of {} with {} entries", basedir, index.size());
+                return index;
+            }
+            LocalRepositoryIndex index = LocalRepositoryIndex.open(basedir);
+            if ("verify".equals(mode)) {
+                LocalRepositoryIndex.Verification verification = index.verify();
+                LOGGER.info(
+                        "Verified local repository index of {}: {} entries, {} stale, {} corrupted",
+                        basedir,
+                        verification.entries(),
+                        verification.stale(),
+                        verification.corrupted());
+            }
+            return index;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public float getPriority() {
+        // above the enhanced factory, which is used when the index is disabled
+        return 20.0f;
+    }
+
+    private record IndexKey(Path basedir) {}
+}
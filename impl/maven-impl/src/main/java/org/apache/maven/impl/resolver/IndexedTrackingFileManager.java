@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.aether.internal.impl.TrackingFileManager;
+
+/**
+ * Tracking file manager answering reads from the {@link LocalRepositoryIndex} while the tracking file is unchanged,
+ * so finding an artifact costs a file status check instead of reading and parsing its tracking file.
+ */
+final class IndexedTrackingFileManager implements TrackingFileManager {
+
+    private final TrackingFileManager delegate;
+
+    private final LocalRepositoryIndex index;
+
+    IndexedTrackingFileManager(TrackingFileManager delegate, LocalRepositoryIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Deprecated
+    @Override
+    public Properties read(File file) {
+        return read(file.toPath());
+    }
+
+    @Override
+    public Properties read(Path path) {
+        String key = index.key(path);
+        BasicFileAttributes attributes = key != null ? attributes(path) : null;
+        if (attributes == null) {
+            return delegate.read(path);
+        }
+        LocalRepositoryIndex.Entry entry = index.get(key);
+        if (entry != null && entry.properties() != null && entry.matches(attributes)) {
+            Properties properties = new Properties();
+            properties.putAll(entry.properties());
+            return properties;
+        }
+        Properties properties = delegate.read(path);
+        if (properties != null) {
+            index.putTracking(key, attributes, properties);
+        }
+        return properties;
+    }
+
+    @Deprecated
+    @Override
+    public Properties update(File file, Map<String, String> updates) {
+        return update(file.toPath(), updates);
+    }
+
+    @Override
+    public Properties update(Path path, Map<String, String> updates) {
+        Properties properties = delegate.update(path, updates);
+        String key = index.key(path);
+        BasicFileAttributes attributes = key != null && properties != null ? attributes(path) : null;
+        if (attributes != null) {
+            index.putTracking(key, attributes, properties);
+        }
+        return properties;
+    }
+
+    private static BasicFileAttributes attributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Binary index of a local repository, stored in the {@value #FILE_NAME} file at its root.
+ * <p>
+ * The index records, for each artifact and metadata file written to the repository, its size, modification time
+ * and SHA-1 checksum, and for each origin tracking file, its size, modification time and content. Checksums are not
+ * computed when a file is added: the checksum computed by the artifact installer while copying the file, or the
+ * checksum file the resolver stored next to a downloaded file is reused, and missing checksums are computed when the
+ * index is rebuilt or verified. The file is an append-only log of checksummed records, written by concurrent builds
+ * while holding a file lock on its {@value #LOCK_FILE_NAME} sibling; it is memory-mapped and decoded when the index
+ * is opened, the last record of a path wins, and the records appended by other builds are decoded before appending.
+ * A torn or corrupted tail, left by a build that stopped while appending, is truncated under the lock, and the log
+ * is compacted once its dead records outnumber the live ones. Entries are only trusted while the size and
+ * modification time of the indexed file are unchanged.
+ */
+final class LocalRepositoryIndex {
+
+    static final String FILE_NAME = ".maven-repository.idx";
+
+    static final String LOCK_FILE_NAME = FILE_NAME + ".lock";
+
+    /**
+     * The number of records below which the index file is never compacted.
+     */
+    static final int COMPACTION_MIN_RECORDS = 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalRepositoryIndex.class);
+
+    private static final long MAGIC = 0x4d564e4c52494432L; // MVNLRID2
+
+    /**
+     * The magic number, followed by the generation of the file, which changes whenever it is rewritten.
+     */
+    private static final int HEADER_SIZE = 2 * Long.BYTES;
+
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final byte FILE = 1;
+
+    private static final byte TRACKING = 2;
+
+    private static final byte REMOVED = 3;
+
+    private static final Map<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path basedir;
+
+    private final Path indexFile;
+
+    private final Path lockFile;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // the generation, decoded length and record count of the index file, guarded by lock()
+    private long generation;
+
+    private long length;
+
+    private long records;
+
+    /**
+     * An indexed file. The checksum is only recorded for artifacts and metadata, the properties only for
+     * tracking files.
+     */
+    record Entry(long size, long lastModified, String sha1, Map<String, String> properties) {
+
+        boolean matches(BasicFileAttributes attributes) {
+            return size == attributes.size()
+                    && lastModified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+
+    /**
+     * The outcome of {@link #verify()}.
+     */
+    record Verification(int entries, int stale, int corrupted) {}
+
+    private LocalRepositoryIndex(Path basedir) {
+        this.basedir = basedir.toAbsolutePath().normalize();
+        this.indexFile = this.basedir.resolve(FILE_NAME);
+        this.lockFile = this.basedir.resolve(LOCK_FILE_NAME);
+    }
+
+    /**
+     * Opens the index of a local repository, reading the existing index file if any.
+     */
+    static LocalRepositoryIndex open(Path basedir) throws IOException {
+        LocalRepositoryIndex index = new LocalRepositoryIndex(basedir);
+        index.load();
+        return index;
+    }
+
+    /**
+     * Creates the index of a local repository from its content, replacing the existing index file if any.
+     *
+     * @param trackingFilename the name of the origin tracking files
+     */
+    static LocalRepositoryIndex rebuild(Path basedir, String trackingFilename) throws IOException {
+        LocalRepositoryIndex index = new LocalRepositoryIndex(basedir);
+        index.rebuild(trackingFilename);
+        return index;
+    }
+
+    /**
+     * Returns the key of a file of the repository, {@code null} if the file is not in the repository.
+     */
+    String key(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        if (!absolute.startsWith(basedir) || absolute.equals(basedir)) {
+            return null;
+        }
+        return basedir.relativize(absolute).toString().replace('\\', '/');
+    }
+
+    Entry get(String key) {
+        return entries.get(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records an artifact or metadata file of the repository.
+     *
+     * @param sha1 the known checksum of the file, if {@code null} the checksum stored next to it by the resolver
+     *        is used if any
+     */
+    void putFile(Path path, String sha1) {
+        String key = key(path);
+        if (key == null) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            Entry entry = new Entry(
+                    attributes.size(),
+                    attributes.lastModifiedTime().toMillis(),
+                    sha1 != null ? sha1 : storedSha1(path),
+                    null);
+            entries.put(key, entry);
+            append(List.of(encode(key, entry)));
+        } catch (NoSuchFileException e) {
+            remove(List.of(key));
+        } catch (IOException e) {
+            LOGGER.debug("Failed to index {}", path, e);
+        }
+    }
+
+    /**
+     * Records the content of a tracking file of the repository, as read after the given attributes.
+     */
+    void putTracking(String key, BasicFileAttributes attributes, Properties properties) {
+        Map<String, String> content = new HashMap<>();
+        properties.forEach((k, v) -> content.put(k.toString(), v.toString()));
+        Entry entry = new Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), null, Map.copyOf(content));
+        entries.put(key, entry);
+        append(List.of(encode(key, entry)));
+    }
+
+    private void remove(List<String> keys) {
+        List<byte[]> records = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (entries.remove(key) != null) {
+                records.add(encode(key, null));
+            }
+        }
+        append(records);
+    }
+
+    private void rebuild(String trackingFilename) throws IOException {
+        Files.createDirectories(basedir);
+        Map<String, Entry> rebuilt = new HashMap<>();
+        Files.walkFileTree(basedir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                return dir.equals(basedir) || !dir.getFileName().toString().startsWith(".")
+                        ? FileVisitResult.CONTINUE
+                        : FileVisitResult.SKIP_SUBTREE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                String name = file.getFileName().toString();
+                if (name.equals(trackingFilename)) {
+                    Properties properties = new Properties();
+                    try (InputStream in = Files.newInputStream(file)) {
+                        properties.load(in);
+                    }
+                    Map<String, String> content = new HashMap<>();
+                    properties.forEach((k, v) -> content.put(k.toString(), v.toString()));
+                    rebuilt.put(
+                            key(file),
+                            new Entry(
+                                    attributes.size(),
+                                    attributes.lastModifiedTime().toMillis(),
+                                    null,
+                                    Map.copyOf(content)));
+                } else if (isIndexed(name)) {
+                    rebuilt.put(
+                            key(file),
+                            new Entry(
+                                    attributes.size(),
+                                    attributes.lastModifiedTime().toMillis(),
+                                    sha1(file),
+                                    null));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        List<byte[]> encoded = new ArrayList<>(rebuilt.size());
+        rebuilt.forEach((key, entry) -> encoded.add(encode(key, entry)));
+        locked(() -> {
+            Path temp = indexFile.resolveSibling(FILE_NAME + ".tmp");
+            long newGeneration = newGeneration();
+            long newLength;
+            try (FileChannel channel = FileChannel.open(
+                    temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeHeader(channel, newGeneration);
+                newLength = HEADER_SIZE + write(channel, encoded);
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            entries.clear();
+            entries.putAll(rebuilt);
+            generation = newGeneration;
+            length = newLength;
+            records = encoded.size();
+        });
+    }
+
+    /**
+     * Checks the indexed files against the repository: entries of files that were changed or deleted are
+     * dropped as stale, and entries of files whose checksum no longer matches are dropped as corrupted.
+     * The checksums not recorded yet are computed.
+     */
+    Verification verify() throws IOException {
+        int total = entries.size();
+        List<String> stale = new ArrayList<>();
+        List<String> corrupted = new ArrayList<>();
+        List<byte[]> digested = new ArrayList<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Path file = basedir.resolve(e.getKey());
+            Entry entry = e.getValue();
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!entry.matches(attributes)) {
+                    stale.add(e.getKey());
+                } else if (entry.sha1() == null && entry.properties() == null) {
+                    Entry withSha1 = new Entry(entry.size(), entry.lastModified(), sha1(file), null);
+                    entries.put(e.getKey(), withSha1);
+                    digested.add(encode(e.getKey(), withSha1));
+                } else if (entry.sha1() != null && !entry.sha1().equals(sha1(file))) {
+                    LOGGER.warn("Checksum of {} does not match the local repository index", file);
+                    corrupted.add(e.getKey());
+                }
+            } catch (NoSuchFileException ex) {
+                stale.add(e.getKey());
+            }
+        }
+        append(digested);
+        remove(stale);
+        remove(corrupted);
+        return new Verification(total, stale.size(), corrupted.size());
+    }
+
+    private static boolean isIndexed(String name) {
+        return !name.equals(FILE_NAME)
+                && !name.startsWith(FILE_NAME + ".")
+                && !name.endsWith(".lastUpdated")
+                && !name.endsWith(".part")
+                && !name.endsWith(".sha1")
+                && !name.endsWith(".sha256")
+                && !name.endsWith(".sha512")
+                && !name.endsWith(".md5")
+                && !name.equals("resolver-status.properties");
+    }
+
+    private void load() throws IOException {
+        if (!Files.isRegularFile(indexFile)) {
+            // no index yet
+            return;
+        }
+        try {
+            locked(() -> {
+                try (FileChannel channel = openIndexFile()) {
+                    sync(channel);
+                }
+            });
+        } catch (IOException e) {
+            // read-only repository, nobody else writes the index either
+            LOGGER.debug("Reading local repository index {} without locking it", indexFile, e);
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+                read(channel);
+            }
+        }
+    }
+
+    /**
+     * Decodes the records appended to the index file by other builds, truncates a torn or corrupted tail, and writes
+     * the header of an empty file. Must be called while holding the lock.
+     */
+    private void sync(FileChannel channel) throws IOException {
+        long valid = read(channel);
+        if (valid < channel.size()) {
+            LOGGER.warn("Truncating the torn or corrupted tail of local repository index {}", indexFile);
+            channel.truncate(valid);
+        }
+        if (valid == 0) {
+            generation = newGeneration();
+            writeHeader(channel, generation);
+            length = HEADER_SIZE;
+            records = 0;
+        }
+    }
+
+    /**
+     * Decodes the records of the index file that were not decoded yet, starting over if the file was rewritten
+     * since it was last read.
+     *
+     * @return the length of the valid part of the file, {@code 0} if it has no valid header
+     */
+    private long read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (size < HEADER_SIZE || channel.read(header, 0) < HEADER_SIZE || header.getLong(0) != MAGIC) {
+            if (size > 0) {
+                LOGGER.warn("Ignoring local repository index {} with an unknown format", indexFile);
+            }
+            entries.clear();
+            length = 0;
+            return 0;
+        }
+        if (header.getLong(Long.BYTES) != generation || length < HEADER_SIZE || length > size) {
+            entries.clear();
+            generation = header.getLong(Long.BYTES);
+            length = HEADER_SIZE;
+            records = 0;
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, length, size - length);
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int recordSize = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (recordSize <= 0 || recordSize > buffer.remaining()) {
+                // torn record
+                break;
+            }
+            byte[] record = new byte[recordSize];
+            buffer.get(record);
+            crc.reset();
+            crc.update(record);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            decode(record);
+            length += RECORD_HEADER_SIZE + recordSize;
+            records++;
+        }
+        return length;
+    }
+
+    private void decode(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+        String key = in.readUTF();
+        if (type == REMOVED) {
+            entries.remove(key);
+            return;
+        }
+        long size = in.readLong();
+        long lastModified = in.readLong();
+        if (type == FILE) {
+            String sha1 = in.readUTF();
+            entries.put(key, new Entry(size, lastModified, sha1.isEmpty() ? null : sha1, null));
+        } else if (type == TRACKING) {
+            int count = in.readInt();
+            Map<String, String> properties = new HashMap<>(count);
+            for (int i = 0; i < count; i++) {
+                properties.put(in.readUTF(), in.readUTF());
+            }
+            entries.put(key, new Entry(size, lastModified, null, Map.copyOf(properties)));
+        }
+    }
+
+    private static byte[] encode(String key, Entry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (entry == null) {
+                out.writeByte(REMOVED);
+                out.writeUTF(key);
+            } else {
+                out.writeByte(entry.properties() != null ? TRACKING : FILE);
+                out.writeUTF(key);
+                out.writeLong(entry.size());
+                out.writeLong(entry.lastModified());
+                if (entry.properties() != null) {
+                    out.writeInt(entry.properties().size());
+                    for (Map.Entry<String, String> property : entry.properties().entrySet()) {
+                        out.writeUTF(property.getKey());
+                        out.writeUTF(property.getValue());
+                    }
+                } else {
+                    out.writeUTF(entry.sha1() != null ? entry.sha1() : "");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void append(List<byte[]> appended) {
+        if (appended.isEmpty()) {
+            return;
+        }
+        try {
+            locked(() -> {
+                try (FileChannel channel = openIndexFile()) {
+                    sync(channel);
+                    channel.position(length);
+                    length += write(channel, appended);
+                    records += appended.size();
+                    // the records of other builds may have been decoded over the appended entries
+                    for (byte[] record : appended) {
+                        decode(record);
+                    }
+                    if (records >= COMPACTION_MIN_RECORDS && records - entries.size() > entries.size()) {
+                        compact(channel);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.debug("Failed to update local repository index {}", indexFile, e);
+        }
+    }
+
+    /**
+     * Rewrites the index file in place with the live entries only, under a new generation. Must be called while
+     * holding the lock; if the build stops while compacting, the torn tail is truncated by the next one.
+     */
+    private void compact(FileChannel channel) throws IOException {
+        List<byte[]> live = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> live.add(encode(key, entry)));
+        LOGGER.debug("Compacting local repository index {} from {} to {} records", indexFile, records, live.size());
+        channel.truncate(0);
+        generation = newGeneration();
+        writeHeader(channel, generation);
+        length = HEADER_SIZE + write(channel, live);
+        records = live.size();
+    }
+
+    private FileChannel openIndexFile() throws IOException {
+        return FileChannel.open(
+                indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static long newGeneration() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    private static void writeHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).putLong(MAGIC).putLong(generation);
+        buffer.flip();
+        channel.position(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes the records at the position of the channel.
+     *
+     * @return the number of bytes written
+     */
+    private static int write(FileChannel channel, List<byte[]> records) throws IOException {
+        int length = 0;
+        for (byte[] record : records) {
+            length += RECORD_HEADER_SIZE + record.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        CRC32 crc = new CRC32();
+        for (byte[] record : records) {
+            crc.reset();
+            crc.update(record);
+            buffer.putInt(record.length).putInt((int) crc.getValue()).put(record);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return length;
+    }
+
+    /**
+     * Runs the action while holding the lock of the index file, which excludes the other threads of this JVM and
+     * the other builds.
+     */
+    private void locked(IndexAction action) throws IOException {
+        synchronized (lock()) {
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock lock = channel.lock()) {
+                action.run();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Returns the monitor serializing the writes of this JVM to the index file, as file locks are held by
+     * the whole JVM.
+     */
+    private Object lock() {
+        return LOCKS.computeIfAbsent(indexFile, k -> new Object());
+    }
+
+    /**
+     * Returns the SHA-1 checksum stored next to the file, or {@code null} if there is none.
+     */
+    private static String storedSha1(Path path) {
+        try {
+            String content = Files.readString(path.resolveSibling(path.getFileName() + ".sha1"))
+                    .trim();
+            int end = content.indexOf(' ');
+            String sha1 = (end < 0 ? content : content.substring(0, end)).toLowerCase(Locale.ROOT);
+            return sha1.length() == 40 && sha1.chars().allMatch(c -> Character.digit(c, 16) >= 0) ? sha1 : null;
+        } catch (IOException | UncheckedIOException e) {
+            return null;
+        }
+    }
+
+    private static String sha1(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(path)) {
+            for (int n; (n = in.read(buffer)) >= 0; ) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
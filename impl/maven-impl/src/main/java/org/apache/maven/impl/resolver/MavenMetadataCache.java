@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.metadata.Versioning;
+import org.apache.maven.metadata.v4.MetadataStaxReader;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.impl.MetadataResolver;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.MetadataRequest;
+import org.eclipse.aether.resolution.MetadataResult;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Session cache of the version resolvers: the parsed {@code maven-metadata.xml} files, and the metadata found
+ * missing in remote repositories.
+ * <p>
+ * Parsed metadata is keyed by path and checked against the size and modification time of the file, so a file
+ * updated during the session, for instance by an install, is parsed again. Missing metadata is not requested
+ * again from the same remote repository in the session, the resolver would not check it again anyway; the
+ * original "not found" exception is reported instead. The cache lives in the session {@link RepositoryCache}
+ * and is disabled with {@link Constants#MAVEN_VERSION_RESOLVER_NO_CACHE}.
+ */
+final class MavenMetadataCache {
+
+    private final Map<Path, ParsedVersioning> versionings = new ConcurrentHashMap<>();
+
+    private final Map<MissingKey, Exception> missing = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cache of the session, or {@code null} if the session has no cache or caching is disabled.
+     */
+    static MavenMetadataCache get(RepositorySystemSession session) {
+        RepositoryCache cache = session.getCache();
+        if (cache == null || ConfigUtils.getBoolean(session, false, Constants.MAVEN_VERSION_RESOLVER_NO_CACHE)) {
+            return null;
+        }
+        return (MavenMetadataCache) cache.computeIfAbsent(session, MavenMetadataCache.class, MavenMetadataCache::new);
+    }
+
+    /**
+     * Reads the versioning of a metadata file, from the session cache when the file did not change.
+     *
+     * @return the versioning, may be {@code null}
+     */
+    static Versioning readVersioning(RepositorySystemSession session, Path path)
+            throws IOException, XMLStreamException {
+        MavenMetadataCache cache = get(session);
+        return cache != null ? cache.read(path) : parse(path);
+    }
+
+    /**
+     * Resolves the metadata requests, answering the requests to remote repositories in which the metadata was
+     * already found missing from the session cache. The results are in the order of the requests.
+     */
+    static List<MetadataResult> resolveMetadata(
+            MetadataResolver metadataResolver, RepositorySystemSession session, List<MetadataRequest> requests) {
+        MavenMetadataCache cache = get(session);
+        if (cache == null) {
+            return metadataResolver.resolveMetadata(session, requests);
+        }
+        List<MetadataResult> results = new ArrayList<>(requests.size());
+        List<MetadataRequest> pending = new ArrayList<>(requests.size());
+        for (MetadataRequest request : requests) {
+            MissingKey key = MissingKey.of(request);
+            Exception exception = key != null ? cache.missing.get(key) : null;
+            if (exception != null) {
+                results.add(new MetadataResult(request).setException(exception));
+            } else {
+                results.add(null);
+                pending.add(request);
+            }
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+        List<MetadataResult> resolved = metadataResolver.resolveMetadata(session, pending);
+        for (int i = 0, j = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                MetadataResult result = resolved.get(j++);
+                results.set(i, result);
+                MissingKey key = MissingKey.of(result.getRequest());
+                if (key != null && result.isMissing() && !exists(result.getMetadata())) {
+                    cache.missing.put(key, result.getException());
+                }
+            }
+        }
+        return results;
+    }
+
+    private Versioning read(Path path) throws IOException, XMLStreamException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        ParsedVersioning parsed = versionings.get(path);
+        if (parsed != null
+                && parsed.size == attributes.size()
+                && parsed.lastModified.equals(attributes.lastModifiedTime())) {
+            return parsed.versioning;
+        }
+        Versioning versioning = parse(path);
+        versionings.put(path, new ParsedVersioning(attributes.size(), attributes.lastModifiedTime(), versioning));
+        return versioning;
+    }
+
+    private static Versioning parse(Path path) throws IOException, XMLStreamException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return new MetadataStaxReader().read(in, false).getVersioning();
+        }
+    }
+
+    private static boolean exists(Metadata metadata) {
+        return metadata != null && metadata.getPath() != null && Files.exists(metadata.getPath());
+    }
+
+    private record ParsedVersioning(long size, FileTime lastModified, Versioning versioning) {}
+
+    private record MissingKey(
+            String repositoryId,
+            String repositoryUrl,
+            String groupId,
+            String artifactId,
+            String version,
+            String type,
+            Metadata.Nature nature,
+            String context) {
+
+        /**
+         * Returns the key of a request to a remote repository, {@code null} for the local repository.
+         */
+        static MissingKey of(MetadataRequest request) {
+            RemoteRepository repository = request.getRepository();
+            Metadata metadata = request.getMetadata();
+            if (repository == null || metadata == null) {
+                return null;
+            }
+            return new MissingKey(
+                    repository.getId(),
+                    repository.getUrl(),
+                    metadata.getGroupId(),
+                    metadata.getArtifactId(),
+                    metadata.getVersion(),
+                    metadata.getType(),
+                    metadata.getNature(),
+                    request.getRequestContext());
+        }
+    }
+}
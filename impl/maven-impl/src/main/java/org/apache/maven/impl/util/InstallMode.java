@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.maven.api.Constants;
+
+/**
+ * How artifact files are placed into a local repository, see {@link Constants#MAVEN_INSTALL_MODE}.
+ * Copies preserve the modification time of the source, so an unchanged file is recognized by its size and
+ * modification time on the next installation. Files {@link #place(Path, Path) placed} ahead of the resolver are
+ * skipped by it in every mode, while the mode is {@link #apply(Map) applied} with them.
+ */
+public enum InstallMode {
+    /**
+     * Always copy the file.
+     */
+    COPY,
+    /**
+     * Skip files whose target has the same size and modification time, copy the others.
+     */
+    UPDATE,
+    /**
+     * Skip files whose target has the same size and modification time, hard link the others, falling back
+     * to a copy when the target is on another file store. Only applied to the project-local repository, see
+     * {@link #forLocalRepository()}.
+     */
+    LINK;
+
+    /**
+     * What {@link #install(Path, Path)} did with a file.
+     */
+    public enum Action {
+        /**
+         * The target was up to date and left untouched.
+         */
+        SKIPPED,
+        /**
+         * The target was replaced by a hard link to the source.
+         */
+        LINKED,
+        /**
+         * The source was copied to the target.
+         */
+        COPIED
+    }
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private record State(InstallMode mode, Map<Path, String> placed) {}
+
+    /**
+     * Parses the value of the {@link Constants#MAVEN_INSTALL_MODE} property.
+     *
+     * @param value the property value, may be {@code null}
+     * @return the mode, {@link #COPY} if the value is {@code null} or empty
+     * @throws IllegalArgumentException if the value is not a known mode
+     */
+    public static InstallMode of(Object value) {
+        String mode = value != null ? value.toString().trim() : "";
+        if (mode.isEmpty()) {
+            return COPY;
+        }
+        try {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + Constants.MAVEN_INSTALL_MODE + ": " + value
+                    + " (expected copy, update or link)");
+        }
+    }
+
+    /**
+     * Returns the mode applied to the files installed by the resolver in the current thread.
+     *
+     * @return the mode set with {@link #apply()}, {@link #COPY} if none
+     */
+    public static InstallMode current() {
+        State state = CURRENT.get();
+        return state != null ? state.mode() : COPY;
+    }
+
+    /**
+     * Tells whether the target was placed ahead of the installation in progress in the current thread, and still
+     * has the content of the source.
+     */
+    public static boolean isPlaced(Path source, Path target) {
+        State state = CURRENT.get();
+        return state != null && state.placed().containsKey(target) && isSameContent(source, target);
+    }
+
+    /**
+     * Returns the SHA-1 checksum computed when the target was placed ahead of the installation in progress in the
+     * current thread.
+     *
+     * @return the checksum, {@code null} if the target was not copied by {@link #place(Path, Path)}
+     */
+    public static String placedChecksum(Path target) {
+        State state = CURRENT.get();
+        return state != null ? state.placed().get(target) : null;
+    }
+
+    /**
+     * Applies this mode to the files installed by the resolver in the current thread, until the returned scope is
+     * closed.
+     */
+    public Scope apply() {
+        return apply(Map.of());
+    }
+
+    /**
+     * Applies this mode to the files installed by the resolver in the current thread, until the returned scope is
+     * closed. The given targets were already placed and are skipped by the resolver while unchanged.
+     *
+     * @param placed the checksums returned by {@link #place(Path, Path)}, by target
+     */
+    public Scope apply(Map<Path, String> placed) {
+        State previous = CURRENT.get();
+        CURRENT.set(new State(this, placed));
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * The scope of an install mode applied with {@link #apply()}.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Returns the mode applied to the local repository, {@link #UPDATE} for {@link #LINK}. A hard link would share
+     * the installed file with the build output, so a plugin rewriting the output in place, or a later build of the
+     * project, would silently change an artifact every build on the machine resolves from the local repository.
+     */
+    public InstallMode forLocalRepository() {
+        return this == LINK ? UPDATE : this;
+    }
+
+    /**
+     * Tells whether the target already has the content of the source, judging by size and modification time.
+     * Always {@code false} for {@link #COPY}.
+     */
+    public boolean isUpToDate(Path source, Path target) {
+        return this != COPY && isSameContent(source, target);
+    }
+
+    private static boolean isSameContent(Path source, Path target) {
+        try {
+            BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+            BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+            return targetAttributes.isRegularFile()
+                    && sourceAttributes.size() == targetAttributes.size()
+                    && sourceAttributes.lastModifiedTime().toMillis()
+                            == targetAttributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the target with a hard link to the source, when in {@link #LINK} mode.
+     *
+     * @return {@code true} if the target was linked, {@code false} if the caller has to copy the file
+     */
+    public boolean link(Path source, Path target) {
+        if (this != LINK) {
+            return false;
+        }
+        Path link = target.resolveSibling(target.getFileName() + ".link");
+        try {
+            Files.createDirectories(target.getParent());
+            Files.deleteIfExists(link);
+            Files.createLink(link, source);
+            Files.move(link, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            // other file store or no hard link support
+            try {
+                Files.deleteIfExists(link);
+            } catch (IOException ignored) {
+                // nothing was linked
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Places the source at the target according to this mode: skipped when up to date, linked in {@link #LINK}
+     * mode if possible, copied with its modification time otherwise.
+     *
+     * @return what was done with the file
+     * @throws IOException if the file could not be copied
+     */
+    public Action install(Path source, Path target) throws IOException {
+        if (isUpToDate(source, target)) {
+            return Action.SKIPPED;
+        }
+        if (link(source, target)) {
+            return Action.LINKED;
+        }
+        copy(source, target);
+        return Action.COPIED;
+    }
+
+    /**
+     * Places the source at the target like {@link #install(Path, Path)}, computing the checksum of the file while
+     * copying it.
+     *
+     * @return the SHA-1 checksum of the copied file, {@code null} if the target was up to date or linked
+     * @throws IOException if the file could not be copied
+     */
+    public String place(Path source, Path target) throws IOException {
+        if (isUpToDate(source, target) || link(source, target)) {
+            return null;
+        }
+        return copy(source, target);
+    }
+
+    /**
+     * Copies the source with its modification time through a temporary sibling of the target, so the
+     * target is never seen partially written.
+     *
+     * @return the SHA-1 checksum of the copied content
+     */
+    private static String copy(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp =
+                Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            try (InputStream in = Files.newInputStream(source);
+                    OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                in.transferTo(out);
+            }
+            Files.setLastModifiedTime(temp, Files.getLastModifiedTime(source));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return HexFormat.of().formatHex(digest.digest());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
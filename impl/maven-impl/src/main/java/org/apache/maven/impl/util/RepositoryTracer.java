@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.util.function.Supplier;
+
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * Times repository operations, such as installations, in the build trace. The build registers its tracer in the
+ * data of the repository session, under the {@code RepositoryTracer} class; operations of sessions without one are
+ * not timed.
+ *
+ * @since 4.1.0
+ */
+@FunctionalInterface
+public interface RepositoryTracer {
+
+    /**
+     * A timed operation, ended by {@link #close()}.
+     */
+    interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * The span returned when operations are not timed.
+     */
+    Span NOOP = () -> {};
+
+    /**
+     * Starts a span, to be closed by the calling thread when the operation ends.
+     *
+     * @param name supplies the name of the span, only called when the span is recorded
+     * @return the started span
+     */
+    Span span(Supplier<String> name);
+
+    /**
+     * Starts a span with the tracer of the given session.
+     *
+     * @return the started span, {@link #NOOP} if the session has no tracer
+     */
+    static Span span(RepositorySystemSession session, Supplier<String> name) {
+        return session.getData().get(RepositoryTracer.class) instanceof RepositoryTracer tracer
+                ? tracer.span(name)
+                : NOOP;
+    }
+}
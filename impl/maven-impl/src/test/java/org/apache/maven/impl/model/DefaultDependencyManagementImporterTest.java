@@ -18,14 +18,29 @@
  */
 package org.apache.maven.impl.model;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.InputLocation;
 import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.impl.model.profile.SimpleProblemCollector;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DefaultDependencyManagementImporterTest {
     @Test
@@ -138,4 +153,74 @@ public void testUpdateWithImportedFromMultiLevelAlreadyFoundInDifferentSourceImp
                 actualImportedFrom,
                 "Expected importedFrom to be " + expectedImportedFrom + " but was " + actualImportedFrom);
     }
+
+    @Test
+    void testImportKeepsFirstImportAndWarnsAboutUnmanagedConflicts() {
+        DependencyManagement bom1 = DependencyManagement.newBuilder()
+                .dependencies(List.of(dependency("a", "1"), dependency("b", "1")))
+                .build();
+        DependencyManagement bom2 = DependencyManagement.newBuilder()
+                .dependencies(List.of(dependency("b", "2"), dependency("c", "2"), dependency("a", "2")))
+                .build();
+        ModelBuilderRequest request = mock(ModelBuilderRequest.class);
+
+        SimpleProblemCollector problems = new SimpleProblemCollector();
+        Model model = new DefaultDependencyManagementImporter()
+                .importManagement(Model.newInstance(), List.of(bom1, bom2), request, problems);
+        assertEquals(List.of("a:1", "b:1", "c:2"), versions(model));
+        assertEquals(2, problems.getWarnings().size());
+
+        // conflicts on dependencies managed by the model itself are not reported
+        problems = new SimpleProblemCollector();
+        model = new DefaultDependencyManagementImporter()
+                .importManagement(
+                        Model.newBuilder()
+                                .dependencyManagement(DependencyManagement.newBuilder()
+                                        .dependencies(List.of(dependency("b", "3")))
+                                        .build())
+                                .build(),
+                        List.of(bom1, bom2),
+                        request,
+                        problems);
+        assertEquals(List.of("b:3", "a:1", "c:2"), versions(model));
+        assertEquals(1, problems.getWarnings().size());
+        assertTrue(problems.getWarnings().get(0).contains("g:a:jar:2@compile"));
+    }
+
+    @Test
+    void testImportsAreMergedOncePerSession() {
+        Map<Object, Object> data = new ConcurrentHashMap<>();
+        SessionData sessionData = mock(SessionData.class);
+        when(sessionData.computeIfAbsent(any(), any()))
+                .thenAnswer(i -> data.computeIfAbsent(i.getArgument(0), k -> ((Supplier<?>) i.getArgument(1)).get()));
+        Session session = mock(Session.class);
+        when(session.getData()).thenReturn(sessionData);
+        ModelBuilderRequest request = mock(ModelBuilderRequest.class);
+        when(request.getSession()).thenReturn(session);
+        List<DependencyManagement> boms = List.of(DependencyManagement.newBuilder()
+                .dependencies(List.of(dependency("a", "1")))
+                .build());
+        DefaultDependencyManagementImporter importer = new DefaultDependencyManagementImporter();
+
+        Model first = importer.importManagement(Model.newInstance(), boms, request, new SimpleProblemCollector());
+        Model second = importer.importManagement(Model.newInstance(), boms, request, new SimpleProblemCollector());
+
+        assertSame(
+                first.getDependencyManagement().getDependencies(),
+                second.getDependencyManagement().getDependencies());
+    }
+
+    private static Dependency dependency(String artifactId, String version) {
+        return Dependency.newBuilder()
+                .groupId("g")
+                .artifactId(artifactId)
+                .version(version)
+                .build();
+    }
+
+    private static List<String> versions(Model model) {
+        return model.getDependencyManagement().getDependencies().stream()
+                .map(d -> d.getArtifactId() + ":" + d.getVersion())
+                .toList();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.util.List;
+
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.DependencyManagement;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.model.PluginManagement;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DefaultInheritanceAssemblerTest {
+
+    private final DefaultInheritanceAssembler assembler = new DefaultInheritanceAssembler();
+
+    @Test
+    void testUndeclaredManagementSectionsAreSharedBetweenChildren() {
+        Model parent = Model.newBuilder()
+                .artifactId("parent")
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("a", "1"), dependency("b", "1"), dependency("a", "2")))
+                        .build())
+                .build(Build.newBuilder()
+                        .pluginManagement(PluginManagement.newBuilder()
+                                .plugins(List.of(Plugin.newBuilder()
+                                        .groupId("g")
+                                        .artifactId("p")
+                                        .version("1")
+                                        .build()))
+                                .build())
+                        .build())
+                .build();
+
+        Model first = assemble(Model.newBuilder().artifactId("first").build(), parent);
+        Model second = assemble(Model.newBuilder().artifactId("second").build(), parent);
+
+        assertSame(first.getDependencyManagement(), second.getDependencyManagement());
+        assertSame(first.getBuild().getPluginManagement(), second.getBuild().getPluginManagement());
+        // duplicates are still merged, as when the section is rebuilt
+        assertEquals(
+                List.of("g:a:jar:1", "g:b:jar:1"),
+                first.getDependencyManagement().getDependencies().stream()
+                        .map(d -> d.getManagementKey() + ":" + d.getVersion())
+                        .toList());
+        assertEquals(
+                "g:p:1",
+                first.getBuild().getPluginManagement().getPlugins().get(0).getId());
+    }
+
+    @Test
+    void testDeclaredManagementSectionIsMerged() {
+        Model parent = Model.newBuilder()
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("a", "1"), dependency("b", "1")))
+                        .build())
+                .build();
+        Model child = Model.newBuilder()
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("b", "2")))
+                        .build())
+                .build();
+
+        Model result = assemble(child, parent);
+
+        assertEquals(
+                List.of("2", "1"),
+                result.getDependencyManagement().getDependencies().stream()
+                        .map(Dependency::getVersion)
+                        .toList());
+    }
+
+    private Model assemble(Model child, Model parent) {
+        return assembler.assembleModelInheritance(child, parent, null, null);
+    }
+
+    private static Dependency dependency(String artifactId, String version) {
+        return Dependency.newBuilder()
+                .groupId("g")
+                .artifactId(artifactId)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.maven.api.Lifecycle;
+import org.apache.maven.api.Packaging;
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.model.PluginContainer;
+import org.apache.maven.api.model.PluginExecution;
+import org.apache.maven.api.model.PluginManagement;
+import org.apache.maven.api.services.LifecycleRegistry;
+import org.apache.maven.api.services.PackagingRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultLifecycleBindingsInjectorTest {
+
+    private final LifecycleRegistry lifecycleRegistry = mock(LifecycleRegistry.class);
+
+    private final PackagingRegistry packagingRegistry = mock(PackagingRegistry.class);
+
+    private final DefaultLifecycleBindingsInjector injector =
+            new DefaultLifecycleBindingsInjector(lifecycleRegistry, packagingRegistry);
+
+    private final Packaging jar = mock(Packaging.class);
+
+    DefaultLifecycleBindingsInjectorTest() {
+        Plugin compiler = Plugin.newBuilder()
+                .groupId("org.apache.maven.plugins")
+                .artifactId("maven-compiler-plugin")
+                .version("3.0")
+                .executions(List.of(PluginExecution.newBuilder()
+                        .id("default-compile")
+                        .phase("compile")
+                        .goals(List.of("compile"))
+                        .build()))
+                .build();
+        when(jar.plugins())
+                .thenReturn(Map.of(
+                        Lifecycle.DEFAULT,
+                        PluginContainer.newBuilder().plugins(List.of(compiler)).build()));
+        when(packagingRegistry.lookup("jar")).thenReturn(Optional.of(jar));
+    }
+
+    @Test
+    void testDefaultBindingsAreComputedOncePerPackaging() {
+        when(lifecycleRegistry.stream()).thenAnswer(i -> Stream.of(lifecycle(Lifecycle.CLEAN)));
+        Model first = injector.getLifecycleModel(jar);
+        assertSame(first, injector.getLifecycleModel(jar));
+
+        // other lifecycles may come from extensions, their bindings are not reused
+        when(lifecycleRegistry.stream()).thenAnswer(i -> Stream.of(lifecycle(Lifecycle.CLEAN), lifecycle("custom")));
+        Model second = injector.getLifecycleModel(jar);
+        assertNotSame(first, second);
+        assertNotSame(second, injector.getLifecycleModel(jar));
+        assertEquals(first.getBuild().getPlugins(), second.getBuild().getPlugins());
+    }
+
+    @Test
+    void testManagedPluginsAreMergedOncePerPluginManagement() {
+        when(lifecycleRegistry.stream()).thenAnswer(i -> Stream.of(lifecycle(Lifecycle.CLEAN)));
+        PluginManagement pluginManagement = PluginManagement.newBuilder()
+                .plugins(List.of(Plugin.newBuilder()
+                        .groupId("org.apache.maven.plugins")
+                        .artifactId("maven-compiler-plugin")
+                        .version("3.1")
+                        .build()))
+                .build();
+
+        Plugin first = inject(pluginManagement);
+        assertEquals("3.1", first.getVersion());
+        assertEquals("default-compile", first.getExecutions().get(0).getId());
+        assertSame(first, inject(pluginManagement));
+        assertNotSame(
+                first,
+                inject(PluginManagement.newBuilder(pluginManagement, true).build()));
+    }
+
+    private Plugin inject(PluginManagement pluginManagement) {
+        Model model = Model.newBuilder()
+                .packaging("jar")
+                .build(Build.newBuilder().pluginManagement(pluginManagement).build())
+                .build();
+        Model result = injector.injectLifecycleBindings(model, null, null);
+        assertEquals(1, result.getBuild().getPlugins().size());
+        return result.getBuild().getPlugins().get(0);
+    }
+
+    private static Lifecycle lifecycle(String id) {
+        Lifecycle lifecycle = mock(Lifecycle.class);
+        when(lifecycle.id()).thenReturn(id);
+        when(lifecycle.phases()).thenReturn(List.of());
+        return lifecycle;
+    }
+}
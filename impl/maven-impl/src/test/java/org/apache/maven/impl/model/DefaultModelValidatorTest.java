@@ -19,10 +19,17 @@
 package org.apache.maven.impl.model;
 
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.Version;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.services.model.ModelValidator;
@@ -35,10 +42,12 @@
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -517,6 +526,38 @@ void testIncompleteParent() throws Exception {
         assertTrue(result.getFatals().get(2).contains("parent.version"));
     }
 
+    @Test
+    void testRawValidationOfUnchangedPomIsReplayed(@TempDir Path tempDir) throws Exception {
+        Map<Object, Object> data = new ConcurrentHashMap<>();
+        SessionData sessionData = mock(SessionData.class);
+        when(sessionData.computeIfAbsent(any(), any()))
+                .thenAnswer(i -> data.computeIfAbsent(i.getArgument(0), k -> ((Supplier<?>) i.getArgument(1)).get()));
+        when(session.getData()).thenReturn(sessionData);
+        Path pomFile = tempDir.resolve("pom.xml");
+        Files.writeString(pomFile, "<project/>");
+
+        Model incomplete = read("incomplete-parent.xml").withPomFile(pomFile);
+        SimpleProblemCollector first = new SimpleProblemCollector();
+        validator.validateRawModel(session, incomplete, ModelValidator.VALIDATION_LEVEL_MINIMAL, first);
+        assertViolations(first, 3, 0, 0);
+
+        // same unchanged file: the problems are replayed without validating the model again
+        Model valid = read("modelVersion-4_0.xml").withPomFile(pomFile);
+        SimpleProblemCollector second = new SimpleProblemCollector();
+        validator.validateRawModel(session, valid, ModelValidator.VALIDATION_LEVEL_MINIMAL, second);
+        assertEquals(first.getFatals(), second.getFatals());
+
+        // strict validations, i.e. of projects being built, are not memoized
+        SimpleProblemCollector strict = new SimpleProblemCollector();
+        validator.validateRawModel(session, valid, ModelValidator.VALIDATION_LEVEL_STRICT, strict);
+        assertViolations(strict, 0, 0, 0);
+
+        Files.setLastModifiedTime(pomFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        SimpleProblemCollector changed = new SimpleProblemCollector();
+        validator.validateRawModel(session, valid, ModelValidator.VALIDATION_LEVEL_MINIMAL, changed);
+        assertViolations(changed, 0, 0, 0);
+    }
+
     @Test
     void testHardCodedSystemPath() throws Exception {
         SimpleProblemCollector result = validateFile("hard-coded-system-path.xml");
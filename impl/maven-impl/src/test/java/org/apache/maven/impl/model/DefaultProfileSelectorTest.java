@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.ActivationProperty;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Profile;
+import org.apache.maven.impl.model.profile.PropertyProfileActivator;
+import org.apache.maven.impl.model.profile.SimpleProblemCollector;
+import org.apache.maven.impl.model.rootlocator.DefaultRootLocator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class DefaultProfileSelectorTest {
+
+    private final PropertyProfileActivator activator = spy(new PropertyProfileActivator());
+
+    private final DefaultProfileSelector selector = new DefaultProfileSelector(List.of(activator));
+
+    @Test
+    void testActivationIsMemoizedAcrossModels() {
+        assertEquals(List.of("parent"), activeIds(profile("parent"), Map.of("env", "ci")));
+        assertEquals(List.of("child"), activeIds(profile("child"), Map.of("env", "ci")));
+        verify(activator, times(1)).isActive(any(), any(), any());
+
+        assertEquals(List.of(), activeIds(profile("other"), Map.of("env", "dev")));
+        verify(activator, times(2)).isActive(any(), any(), any());
+    }
+
+    @Test
+    void testMemoizedInputsAreRecorded() {
+        activeIds(profile("parent"), Map.of("env", "ci"));
+
+        DefaultProfileActivationContext context =
+                newContext(Map.of("env", "ci")).start();
+        selector.getActiveProfiles(List.of(profile("child")), context, new SimpleProblemCollector());
+
+        assertEquals(Map.of("env", "ci"), context.stop().usedUserProperties);
+        verify(activator, times(1)).isActive(any(), any(), any());
+    }
+
+    private List<String> activeIds(Profile profile, Map<String, String> userProperties) {
+        return selector
+                .getActiveProfiles(List.of(profile), newContext(userProperties), new SimpleProblemCollector())
+                .stream()
+                .map(Profile::getId)
+                .toList();
+    }
+
+    private static Profile profile(String id) {
+        return Profile.newBuilder()
+                .id(id)
+                .activation(Activation.newBuilder()
+                        .property(ActivationProperty.newBuilder()
+                                .name("env")
+                                .value("ci")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static DefaultProfileActivationContext newContext(Map<String, String> userProperties) {
+        return new DefaultProfileActivationContext(
+                        new DefaultPathTranslator(), new DefaultRootLocator(), new DefaultInterpolator())
+                .setUserProperties(userProperties)
+                .setModel(Model.newInstance());
+    }
+}
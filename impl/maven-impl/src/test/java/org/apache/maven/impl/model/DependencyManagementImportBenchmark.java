@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.DependencyManagement;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.Sources;
+import org.apache.maven.api.services.model.DependencyManagementImporter;
+import org.apache.maven.impl.model.profile.SimpleProblemCollector;
+import org.apache.maven.impl.standalone.ApiRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH Benchmark for measuring the import of BOMs into the dependency management of projects.
+ *
+ * Each project of a synthetic reactor imports five BOMs of real-world sizes (in the range of
+ * Spring Boot, Jakarta EE or cloud provider BOMs) which partly overlap. When the BOMs are shared,
+ * the projects import the same BOM instances, as the model builder does for BOMs resolved once in
+ * the session; otherwise each project imports its own copies and the imports are merged each time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@State(Scope.Benchmark)
+public class DependencyManagementImportBenchmark {
+
+    private static final int[] BOM_SIZES = {1500, 1200, 800, 600, 400};
+
+    @Param({"100"})
+    private int projectCount;
+
+    @Param({"true", "false"})
+    private boolean sharedBoms;
+
+    private DependencyManagementImporter importer;
+    private ModelBuilderRequest request;
+    private List<Model> projects;
+    private List<List<DependencyManagement>> imports;
+    private SimpleProblemCollector problemCollector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Session session = ApiRunner.createSession();
+        importer = new DefaultDependencyManagementImporter();
+        request = ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(Sources.buildSource(Path.of("pom.xml")))
+                .build();
+
+        List<DependencyManagement> boms = new ArrayList<>(BOM_SIZES.length);
+        for (int i = 0; i < BOM_SIZES.length; i++) {
+            boms.add(createBom(i, BOM_SIZES[i]));
+        }
+
+        projects = new ArrayList<>(projectCount);
+        imports = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            projects.add(createProject(i));
+            imports.add(sharedBoms ? boms : copy(boms));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        problemCollector = new SimpleProblemCollector();
+    }
+
+    /**
+     * Benchmark the import of the BOMs into the dependency management of each project.
+     */
+    @Benchmark
+    public void importBoms(Blackhole blackhole) {
+        for (int i = 0; i < projectCount; i++) {
+            blackhole.consume(importer.importManagement(projects.get(i), imports.get(i), request, problemCollector));
+        }
+    }
+
+    /**
+     * Creates a BOM whose first half of the dependencies is shared with the next BOM,
+     * with a different version to trigger conflicts.
+     */
+    private static DependencyManagement createBom(int index, int size) {
+        List<Dependency> dependencies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int group = i < size / 2 ? index : index + 1;
+            dependencies.add(Dependency.newBuilder()
+                    .groupId("org.example.bom" + group)
+                    .artifactId("artifact" + i)
+                    .version(index + ".0.0")
+                    .build());
+        }
+        return DependencyManagement.newBuilder().dependencies(dependencies).build();
+    }
+
+    /**
+     * Creates a project managing a few dependencies itself.
+     */
+    private static Model createProject(int index) {
+        List<Dependency> dependencies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            dependencies.add(Dependency.newBuilder()
+                    .groupId("org.example.bom0")
+                    .artifactId("artifact" + i)
+                    .version("9.0.0")
+                    .build());
+        }
+        return Model.newBuilder()
+                .groupId("org.example.project")
+                .artifactId("project" + index)
+                .version("1.0.0")
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(dependencies)
+                        .build())
+                .build();
+    }
+
+    private static List<DependencyManagement> copy(List<DependencyManagement> boms) {
+        return boms.stream()
+                .map(bom -> DependencyManagement.newBuilder(bom, true).build())
+                .toList();
+    }
+
+    /**
+     * Main method to run the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DependencyManagementImportBenchmark.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -18,6 +18,10 @@
  */
 package org.apache.maven.impl.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -61,6 +65,8 @@
 @State(Scope.Benchmark)
 public class ModelValidationBenchmark {
 
+    private static final int REACTOR_SIZE = 1000;
+
     @Param({"1", "10", "100"})
     private int dependencyCount;
 
@@ -69,6 +75,8 @@ public class ModelValidationBenchmark {
     private Model validModel;
     private Model invalidModel;
     private SimpleProblemCollector problemCollector;
+    private Model reactorParent;
+    private List<Model> reactorModules;
 
     @Setup(Level.Trial)
     public void setup() {
@@ -78,6 +86,13 @@ public void setup() {
         // Create models with different numbers of dependencies
         validModel = createValidModel(dependencyCount);
         invalidModel = createInvalidModel(dependencyCount);
+
+        // Create a synthetic reactor of modules sharing the same parent POM file
+        reactorParent = createReactorParent();
+        reactorModules = new ArrayList<>(REACTOR_SIZE);
+        for (int i = 0; i < REACTOR_SIZE; i++) {
+            reactorModules.add(createValidModel(dependencyCount).withArtifactId("module" + i));
+        }
     }
 
     @Setup(Level.Invocation)
@@ -137,6 +152,41 @@ public void validateDependencyManagement() {
                 session, modelWithManyManagedDeps, ModelValidator.VALIDATION_LEVEL_STRICT, problemCollector);
     }
 
+    /**
+     * Benchmark validation of a synthetic reactor of 1000 modules.
+     * Each module validates its raw model, the raw model of the shared parent POM,
+     * and its effective model, the modules being validated in parallel like the
+     * model builder does. The validation of the unchanged parent POM is memoized
+     * in the session and replayed for each module.
+     */
+    @Benchmark
+    public void validateReactor() {
+        reactorModules.parallelStream().forEach(module -> {
+            SimpleProblemCollector collector = new SimpleProblemCollector();
+            validator.validateRawModel(session, module, ModelValidator.VALIDATION_LEVEL_STRICT, collector);
+            validator.validateRawModel(session, reactorParent, ModelValidator.VALIDATION_LEVEL_MINIMAL, collector);
+            validator.validateEffectiveModel(session, module, ModelValidator.VALIDATION_LEVEL_STRICT, collector);
+        });
+    }
+
+    /**
+     * Creates the parent model of the synthetic reactor, backed by a POM file
+     * as parent models read from a repository are.
+     */
+    private Model createReactorParent() {
+        try {
+            Path pomFile = Files.createTempFile("reactor-parent", ".xml");
+            pomFile.toFile().deleteOnExit();
+            Files.writeString(pomFile, "<project/>");
+            return createValidModel(dependencyCount)
+                    .withArtifactId("reactor-parent")
+                    .withPackaging("pom")
+                    .withPomFile(pomFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Creates a valid model with the specified number of dependencies.
      * Includes dependency management and plugins to simulate real-world complexity.
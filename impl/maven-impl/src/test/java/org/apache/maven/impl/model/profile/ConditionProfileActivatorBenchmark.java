@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model.profile;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Profile;
+import org.apache.maven.api.services.VersionParser;
+import org.apache.maven.api.services.model.ProfileActivationContext;
+import org.apache.maven.impl.DefaultModelVersionParser;
+import org.apache.maven.impl.DefaultVersionParser;
+import org.apache.maven.impl.model.DefaultInterpolator;
+import org.apache.maven.impl.model.DefaultPathTranslator;
+import org.apache.maven.impl.model.DefaultProfileActivationContext;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH Benchmark for measuring the evaluation of profile activation conditions.
+ *
+ * This benchmark evaluates typical conditions (property checks, file existence checks and
+ * version ranges) for a number of modules, either interpreting each condition on every
+ * evaluation or evaluating the conditions compiled and cached by {@link ConditionProfileActivator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@State(Scope.Benchmark)
+public class ConditionProfileActivatorBenchmark {
+
+    private static final List<String> CONDITIONS = List.of(
+            "${os.name} == 'linux'",
+            "exists('${project.basedir}/src/main/java')",
+            "inrange(${java.version}, '[17,)') && ${env.CI} != 'true'",
+            "not(missing('pom.xml')) || contains(lower(${os.arch}), 'aarch64')");
+
+    @Param({"1000"})
+    private int moduleCount;
+
+    private ConditionProfileActivator activator;
+    private VersionParser versionParser;
+    private List<ProfileActivationContext> contexts;
+    private List<Profile> profiles;
+    private SimpleProblemCollector problemCollector;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        versionParser = new DefaultVersionParser(new DefaultModelVersionParser(new GenericVersionScheme()));
+        activator = new ConditionProfileActivator(versionParser, new DefaultInterpolator());
+
+        contexts = new ArrayList<>(moduleCount);
+        for (int i = 0; i < moduleCount; i++) {
+            Path basedir = Path.of("target", "modules", "module-" + i);
+            contexts.add(new DefaultProfileActivationContext(
+                            new DefaultPathTranslator(),
+                            new AbstractProfileActivatorTest.FakeRootLocator(),
+                            new DefaultInterpolator())
+                    .setSystemProperties(Map.of(
+                            "os.name", "linux",
+                            "os.arch", "amd64",
+                            "java.version", "21.0.1",
+                            "env.CI", "false"))
+                    .setModel(Model.newBuilder()
+                            .pomFile(basedir.resolve("pom.xml"))
+                            .build()));
+        }
+
+        profiles = new ArrayList<>(CONDITIONS.size());
+        for (String condition : CONDITIONS) {
+            profiles.add(Profile.newBuilder()
+                    .activation(Activation.newBuilder().condition(condition).build())
+                    .build());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        problemCollector = new SimpleProblemCollector();
+    }
+
+    /**
+     * Benchmark the conditions interpreted on every evaluation: the functions are registered
+     * and the condition is tokenized and parsed for each module and profile.
+     */
+    @Benchmark
+    public void interpretConditions(Blackhole blackhole) {
+        for (ProfileActivationContext context : contexts) {
+            for (String condition : CONDITIONS) {
+                ConditionParser parser = new ConditionParser(
+                        activator.registerFunctions(context, versionParser), s -> activator.property(context, s));
+                blackhole.consume(parser.parse(condition));
+            }
+        }
+    }
+
+    /**
+     * Benchmark the conditions evaluated by the activator, compiled once and shared by all modules.
+     */
+    @Benchmark
+    public void evaluateCompiledConditions(Blackhole blackhole) {
+        for (ProfileActivationContext context : contexts) {
+            for (Profile profile : profiles) {
+                blackhole.consume(activator.isActive(profile, context, problemCollector));
+            }
+        }
+    }
+
+    /**
+     * Main method to run the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ConditionProfileActivatorBenchmark.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
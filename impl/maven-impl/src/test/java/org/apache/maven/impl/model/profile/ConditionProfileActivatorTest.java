@@ -18,9 +18,13 @@
  */
 package org.apache.maven.impl.model.profile;
 
+import java.lang.reflect.Modifier;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.maven.api.model.Activation;
 import org.apache.maven.api.model.ActivationFile;
@@ -41,6 +45,7 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -443,6 +448,26 @@ void testFileIsActiveExistsFileExists() {
         assertActivation(false, newProfile("missing('${project.basedir}/file.txt')"), newFileContext());
     }
 
+    @Test
+    void testCompiledConditionIsSharedBetweenContexts() {
+        String condition = "inrange(${java.version}, '[1.4,1.5)')";
+
+        assertActivation(true, newProfile(condition), newContext(null, newJdkProperties("1.4")));
+        assertActivation(false, newProfile(condition), newContext(null, newJdkProperties("1.5")));
+        assertSame(activator.compile(condition), activator.compile(condition));
+    }
+
+    @Test
+    void testAllConditionFunctionsAreBound() {
+        Set<String> declared = Arrays.stream(ConditionFunctions.class.getDeclaredMethods())
+                .filter(m -> Modifier.isPublic(m.getModifiers()) && !Modifier.isStatic(m.getModifiers()))
+                .map(m -> m.getName().endsWith("_")
+                        ? m.getName().substring(0, m.getName().length() - 1)
+                        : m.getName())
+                .collect(Collectors.toSet());
+        assertEquals(declared, ConditionProfileActivator.FUNCTIONS.keySet());
+    }
+
     private Profile newExistsProfile(String filePath) {
         ActivationFile activationFile =
                 ActivationFile.newBuilder().exists(filePath).build();
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.DefaultTrackingFileManager;
+import org.eclipse.aether.internal.impl.TrackingFileManager;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalRepositoryIndexTest {
+
+    @TempDir
+    Path basedir;
+
+    @Test
+    void testEntriesAreReadBackFromTheIndexFile() throws Exception {
+        Path jar = write("g/a/1.0/a-1.0.jar", "jar content");
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(basedir);
+        index.putFile(jar, null);
+        index.putFile(basedir.resolveSibling("outside.jar"), null);
+
+        LocalRepositoryIndex reopened = LocalRepositoryIndex.open(basedir);
+        assertEquals(1, reopened.size());
+        LocalRepositoryIndex.Entry entry = reopened.get("g/a/1.0/a-1.0.jar");
+        assertNotNull(entry);
+        assertEquals(11, entry.size());
+        // the checksum is not computed when adding
+        assertNull(entry.sha1());
+    }
+
+    @Test
+    void testTornTailIsTruncated() throws Exception {
+        Path jar = write("g/a/1.0/a-1.0.jar", "jar content");
+        Path pom = write("g/a/1.0/a-1.0.pom", "<project/>");
+        Path indexFile = basedir.resolve(LocalRepositoryIndex.FILE_NAME);
+        LocalRepositoryIndex.open(basedir).putFile(jar, null);
+        long length = Files.size(indexFile);
+
+        // a record left half written by a build that stopped while appending
+        Files.write(indexFile, new byte[] {0, 0, 1, 0, 1, 2}, StandardOpenOption.APPEND);
+
+        LocalRepositoryIndex reopened = LocalRepositoryIndex.open(basedir);
+        assertEquals(length, Files.size(indexFile));
+        reopened.putFile(pom, null);
+
+        LocalRepositoryIndex appended = LocalRepositoryIndex.open(basedir);
+        assertEquals(2, appended.size());
+        assertNotNull(appended.get("g/a/1.0/a-1.0.pom"));
+    }
+
+    @Test
+    void testRecordsOfOtherBuildsAreKeptAndDeadRecordsCompacted() throws Exception {
+        Path jar = write("g/a/1.0/a-1.0.jar", "jar content");
+        Path pom = write("g/a/1.0/a-1.0.pom", "<project/>");
+        Path indexFile = basedir.resolve(LocalRepositoryIndex.FILE_NAME);
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(basedir);
+        LocalRepositoryIndex other = LocalRepositoryIndex.open(basedir);
+        other.putFile(pom, null);
+
+        for (int i = 0; i < LocalRepositoryIndex.COMPACTION_MIN_RECORDS; i++) {
+            index.putFile(jar, null);
+        }
+        assertEquals(2, index.size());
+        assertTrue(Files.size(indexFile) < 1024);
+
+        // the other build starts over from the compacted file
+        other.putFile(jar, null);
+        assertEquals(2, other.size());
+        assertEquals(2, LocalRepositoryIndex.open(basedir).size());
+    }
+
+    @Test
+    void testChecksumsAreReusedOrComputedOnVerify() throws Exception {
+        Path jar = write("g/a/1.0/a-1.0.jar", "jar content");
+        Path pom = write("g/a/1.0/a-1.0.pom", "<project/>");
+        write("g/a/1.0/a-1.0.pom.sha1", "0123456789ABCDEF0123456789abcdef01234567  a-1.0.pom");
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(basedir);
+        index.putFile(jar, null);
+        index.putFile(pom, null);
+        assertNull(index.get("g/a/1.0/a-1.0.jar").sha1());
+        assertEquals(
+                "0123456789abcdef0123456789abcdef01234567",
+                index.get("g/a/1.0/a-1.0.pom").sha1());
+
+        LocalRepositoryIndex.Verification verification =
+                LocalRepositoryIndex.open(basedir).verify();
+        assertEquals(1, verification.corrupted());
+
+        LocalRepositoryIndex verified = LocalRepositoryIndex.open(basedir);
+        assertEquals(40, verified.get("g/a/1.0/a-1.0.jar").sha1().length());
+        assertNull(verified.get("g/a/1.0/a-1.0.pom"));
+    }
+
+    @Test
+    void testInstalledArtifactsAreFoundFromTheIndex() throws Exception {
+        Path installed = write("g/a/1.0/a-1.0.jar", "jar content");
+        Path downloaded = write("g/a/1.0/a-1.0.pom", "<project/>");
+        LocalRepositoryIndex index = LocalRepositoryIndex.open(basedir);
+        new IndexedTrackingFileManager(new DefaultTrackingFileManager(), index)
+                .update(
+                        basedir.resolve("g/a/1.0/_remote.repositories"),
+                        Map.of("a-1.0.jar>", "", "a-1.0.pom>central", ""));
+        index.putFile(installed, null);
+        index.putFile(downloaded, null);
+        LocalRepositoryManager delegate = mock(LocalRepositoryManager.class);
+        Artifact jar = new DefaultArtifact("g:a:jar:1.0");
+        Artifact pom = new DefaultArtifact("g:a:pom:1.0");
+        when(delegate.getAbsolutePathForLocalArtifact(jar)).thenReturn(installed);
+        when(delegate.getAbsolutePathForLocalArtifact(pom)).thenReturn(downloaded);
+        IndexedLocalRepositoryManager manager =
+                new IndexedLocalRepositoryManager(delegate, index, "_remote.repositories");
+
+        LocalArtifactResult result = manager.find(null, new LocalArtifactRequest(jar, List.of(), null));
+        assertTrue(result.isAvailable());
+        assertEquals(installed, result.getPath());
+
+        // downloaded artifacts are matched against the requested repositories by the delegate
+        LocalArtifactRequest request = new LocalArtifactRequest(pom, List.of(), null);
+        manager.find(null, request);
+        verify(delegate).find(null, request);
+    }
+
+    @Test
+    void testRebuildAndVerify() throws Exception {
+        Path jar = write("g/a/1.0/a-1.0.jar", "jar content");
+        Path pom = write("g/a/1.0/a-1.0.pom", "<project/>");
+        write("g/a/1.0/a-1.0.jar.sha1", "ignored");
+        write("g/a/1.0/_remote.repositories", "a-1.0.jar>central=\na-1.0.pom>central=\n");
+        write(".locks/ignored", "ignored");
+
+        LocalRepositoryIndex index = LocalRepositoryIndex.rebuild(basedir, "_remote.repositories");
+        assertEquals(3, index.size());
+        assertEquals(
+                Map.of("a-1.0.jar>central", "", "a-1.0.pom>central", ""),
+                index.get("g/a/1.0/_remote.repositories").properties());
+
+        // same size and time, different content
+        FileTime time = Files.getLastModifiedTime(jar);
+        Files.writeString(jar, "jar CONTENT");
+        Files.setLastModifiedTime(jar, time);
+        Files.writeString(pom, "<project></project>");
+
+        LocalRepositoryIndex.Verification verification =
+                LocalRepositoryIndex.open(basedir).verify();
+        assertEquals(3, verification.entries());
+        assertEquals(1, verification.stale());
+        assertEquals(1, verification.corrupted());
+
+        LocalRepositoryIndex verified = LocalRepositoryIndex.open(basedir);
+        assertEquals(1, verified.size());
+        assertNull(verified.get("g/a/1.0/a-1.0.jar"));
+    }
+
+    @Test
+    void testTrackingFilesAreReadFromTheIndexWhileUnchanged() throws Exception {
+        Path tracking = basedir.resolve("g/a/1.0/_remote.repositories");
+        TrackingFileManager delegate = spy(new DefaultTrackingFileManager());
+        IndexedTrackingFileManager manager =
+                new IndexedTrackingFileManager(delegate, LocalRepositoryIndex.open(basedir));
+        manager.update(tracking, Map.of("a-1.0.jar>central", ""));
+
+        IndexedTrackingFileManager reopened =
+                new IndexedTrackingFileManager(delegate, LocalRepositoryIndex.open(basedir));
+        Properties properties = reopened.read(tracking);
+        assertEquals("", properties.getProperty("a-1.0.jar>central"));
+        verify(delegate, times(0)).read(tracking);
+
+        Files.writeString(tracking, "a-1.0.jar>other=\n");
+        Files.setLastModifiedTime(tracking, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertEquals("", reopened.read(tracking).getProperty("a-1.0.jar>other"));
+        verify(delegate, times(1)).read(tracking);
+    }
+
+    private Path write(String path, String content) throws Exception {
+        Path file = basedir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.metadata.Versioning;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.impl.MetadataResolver;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.MetadataRequest;
+import org.eclipse.aether.resolution.MetadataResult;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MavenMetadataCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+
+    MavenMetadataCacheTest() {
+        session.setCache(new DefaultRepositoryCache());
+    }
+
+    @Test
+    void testParsedMetadataIsReusedUntilTheFileChanges() throws Exception {
+        Path file = tempDir.resolve("maven-metadata.xml");
+        Files.writeString(file, metadata("1.0"));
+
+        Versioning first = MavenMetadataCache.readVersioning(session, file);
+        assertEquals(List.of("1.0"), first.getVersions());
+        assertSame(first, MavenMetadataCache.readVersioning(session, file));
+
+        Files.writeString(file, metadata("1.0.1"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        Versioning second = MavenMetadataCache.readVersioning(session, file);
+        assertEquals(List.of("1.0.1"), second.getVersions());
+
+        session.setConfigProperty(Constants.MAVEN_VERSION_RESOLVER_NO_CACHE, "true");
+        assertNotSame(second, MavenMetadataCache.readVersioning(session, file));
+    }
+
+    @Test
+    void testMissingMetadataIsNotRequestedAgain() {
+        Metadata metadata = new DefaultMetadata("g", "a", "maven-metadata.xml", Metadata.Nature.RELEASE);
+        RemoteRepository central = new RemoteRepository.Builder("central", "default", "https://repo.example/").build();
+        MetadataResolver resolver = mock(MetadataResolver.class);
+        when(resolver.resolveMetadata(any(), anyList())).thenAnswer(invocation -> {
+            List<MetadataRequest> requests = invocation.getArgument(1);
+            return requests.stream()
+                    .map(request -> {
+                        MetadataResult result = new MetadataResult(request);
+                        if (request.getRepository() != null) {
+                            result.setException(new MetadataNotFoundException(metadata, request.getRepository()));
+                        }
+                        return result;
+                    })
+                    .collect(Collectors.toList());
+        });
+        List<MetadataRequest> requests =
+                List.of(new MetadataRequest(metadata, null, ""), new MetadataRequest(metadata, central, ""));
+
+        List<MetadataResult> first = MavenMetadataCache.resolveMetadata(resolver, session, requests);
+        List<MetadataResult> second = MavenMetadataCache.resolveMetadata(resolver, session, requests);
+
+        assertEquals(2, second.size());
+        assertSame(requests.get(0), second.get(0).getRequest());
+        assertSame(requests.get(1), second.get(1).getRequest());
+        assertTrue(second.get(1).isMissing());
+        assertSame(first.get(1).getException(), second.get(1).getException());
+        verify(resolver, times(1)).resolveMetadata(session, requests);
+        verify(resolver, times(1)).resolveMetadata(session, List.of(requests.get(0)));
+    }
+
+    private static String metadata(String version) {
+        return "<metadata><groupId>g</groupId><artifactId>a</artifactId><versioning><versions><version>" + version
+                + "</version></versions></versioning></metadata>";
+    }
+}
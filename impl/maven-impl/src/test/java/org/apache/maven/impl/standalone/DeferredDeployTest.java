@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.standalone;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.ProducedArtifact;
+import org.apache.maven.api.RemoteRepository;
+import org.apache.maven.api.Session;
+import org.apache.maven.api.di.Named;
+import org.apache.maven.api.di.Provides;
+import org.apache.maven.api.services.ArtifactDeployer;
+import org.apache.maven.api.services.ArtifactDeployerException;
+import org.apache.maven.impl.InternalSession;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.transport.file.FileTransporterFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferredDeployTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDeferredDeployment() throws Exception {
+        Session session = newSession();
+        RemoteRepository repository = session.createRemoteRepository(
+                "test", tempDir.resolve("remote").toUri().toString());
+        ArtifactDeployer deployer = session.getService(ArtifactDeployer.class);
+
+        session.deployArtifact(repository, produce(session, "a", "pom"), produce(session, "a", "jar"));
+        session.deployArtifact(repository, produce(session, "b", "pom"));
+        Path remote = tempDir.resolve("remote/org/example");
+        assertFalse(Files.exists(remote));
+
+        assertEquals(3, deployer.deployDeferred(session));
+        assertTrue(Files.isRegularFile(remote.resolve("a/1.0/a-1.0.pom")));
+        assertTrue(Files.isRegularFile(remote.resolve("a/1.0/a-1.0.jar")));
+        assertTrue(Files.isRegularFile(remote.resolve("a/maven-metadata.xml")));
+        assertTrue(Files.isRegularFile(remote.resolve("b/1.0/b-1.0.pom")));
+        assertTrue(Files.isRegularFile(remote.resolve("b/maven-metadata.xml")));
+
+        assertEquals(0, deployer.deployDeferred(session));
+    }
+
+    @Test
+    void testDiscardAndMissingFiles() throws Exception {
+        Session session = newSession();
+        RemoteRepository repository = session.createRemoteRepository(
+                "test", tempDir.resolve("remote").toUri().toString());
+        ArtifactDeployer deployer = session.getService(ArtifactDeployer.class);
+
+        session.deployArtifact(repository, produce(session, "a", "pom"));
+        assertEquals(1, deployer.discardDeferred(session));
+        assertEquals(0, deployer.deployDeferred(session));
+        assertFalse(Files.exists(tempDir.resolve("remote")));
+
+        ProducedArtifact missing = session.createProducedArtifact("org.example", "c", "1.0", "jar");
+        session.setArtifactPath(missing, tempDir.resolve("missing.jar"));
+        assertThrows(ArtifactDeployerException.class, () -> session.deployArtifact(repository, missing));
+    }
+
+    @Test
+    void testInvalidParallelism() throws Exception {
+        Session session = newSession();
+        RemoteRepository repository = session.createRemoteRepository(
+                "test", tempDir.resolve("remote").toUri().toString());
+        ((DefaultRepositorySystemSession) InternalSession.from(session).getSession())
+                .setConfigProperty(Constants.MAVEN_DEPLOY_PARALLELISM, "0");
+        ArtifactDeployer deployer = session.getService(ArtifactDeployer.class);
+
+        session.deployArtifact(repository, produce(session, "a", "pom"), produce(session, "b", "pom"));
+        IllegalArgumentException e =
+                assertThrows(IllegalArgumentException.class, () -> deployer.deployDeferred(session));
+        assertTrue(e.getMessage().contains(Constants.MAVEN_DEPLOY_PARALLELISM));
+        assertEquals(2, deployer.discardDeferred(session));
+    }
+
+    private Session newSession() {
+        Session session = ApiRunner.createSession(
+                injector -> injector.bindInstance(DeferredDeployTest.class, this), tempDir.resolve("local"));
+        DefaultRepositorySystemSession repositorySession =
+                (DefaultRepositorySystemSession) InternalSession.from(session).getSession();
+        repositorySession.setConfigProperty(Constants.MAVEN_DEPLOY_DEFERRED, "true");
+        repositorySession.setConfigProperty(Constants.MAVEN_DEPLOY_PARALLELISM, "2");
+        return session;
+    }
+
+    private ProducedArtifact produce(Session session, String artifactId, String extension) throws Exception {
+        ProducedArtifact artifact = session.createProducedArtifact("org.example", artifactId, "1.0", extension);
+        Path path = Files.writeString(tempDir.resolve(artifactId + "." + extension), artifactId);
+        session.setArtifactPath(artifact, path);
+        return artifact;
+    }
+
+    @Provides
+    @Named(FileTransporterFactory.NAME)
+    static FileTransporterFactory newFileTransporterFactory() {
+        return new FileTransporterFactory();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstallModeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testOf() {
+        assertEquals(InstallMode.COPY, InstallMode.of(null));
+        assertEquals(InstallMode.COPY, InstallMode.of(" "));
+        assertEquals(InstallMode.COPY, InstallMode.of("copy"));
+        assertEquals(InstallMode.LINK, InstallMode.of("Link"));
+        assertThrows(IllegalArgumentException.class, () -> InstallMode.of("symlink"));
+    }
+
+    @Test
+    void testUpdateSkipsIdenticalFiles() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("a.jar"), "content");
+        Path target = tempDir.resolve("repo/a.jar");
+
+        assertEquals(InstallMode.Action.COPIED, InstallMode.UPDATE.install(source, target));
+        assertEquals("content", Files.readString(target));
+        assertEquals(
+                Files.getLastModifiedTime(source).toMillis(),
+                Files.getLastModifiedTime(target).toMillis());
+
+        assertEquals(InstallMode.Action.SKIPPED, InstallMode.UPDATE.install(source, target));
+        assertEquals(InstallMode.Action.COPIED, InstallMode.COPY.install(source, target));
+
+        Files.writeString(source, "changed");
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertEquals(InstallMode.Action.COPIED, InstallMode.UPDATE.install(source, target));
+        assertEquals("changed", Files.readString(target));
+    }
+
+    @Test
+    void testLinkSharesTheFile() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("a.jar"), "content");
+        Path target = Files.createDirectories(tempDir.resolve("repo")).resolve("a.jar");
+        Files.writeString(target, "old");
+
+        assertEquals(InstallMode.Action.LINKED, InstallMode.LINK.install(source, target));
+        assertTrue(Files.isSameFile(source, target));
+        assertFalse(Files.exists(target.resolveSibling("a.jar.link")));
+        assertEquals(InstallMode.Action.SKIPPED, InstallMode.LINK.install(source, target));
+        assertFalse(InstallMode.UPDATE.link(source, target));
+    }
+
+    @Test
+    void testLocalRepositoryIsNeverLinked() {
+        assertEquals(InstallMode.UPDATE, InstallMode.LINK.forLocalRepository());
+        assertEquals(InstallMode.UPDATE, InstallMode.UPDATE.forLocalRepository());
+        assertEquals(InstallMode.COPY, InstallMode.COPY.forLocalRepository());
+    }
+
+    @Test
+    void testApply() {
+        assertEquals(InstallMode.COPY, InstallMode.current());
+        try (InstallMode.Scope scope = InstallMode.LINK.apply()) {
+            assertEquals(InstallMode.LINK, InstallMode.current());
+            try (InstallMode.Scope nested = InstallMode.UPDATE.apply()) {
+                assertEquals(InstallMode.UPDATE, InstallMode.current());
+            }
+            assertEquals(InstallMode.LINK, InstallMode.current());
+        }
+        assertEquals(InstallMode.COPY, InstallMode.current());
+    }
+
+    @Test
+    void testPlacedFilesAreSkipped() throws Exception {
+        Path source = Files.writeString(tempDir.resolve("a.jar"), "content");
+        Path target = tempDir.resolve("repo/a.jar");
+
+        String sha1 = InstallMode.COPY.place(source, target);
+        assertEquals("040f06fd774092478d450774f5ba30c5da78acc8", sha1);
+        assertNull(InstallMode.UPDATE.place(source, target));
+        assertFalse(InstallMode.isPlaced(source, target));
+
+        try (InstallMode.Scope scope = InstallMode.COPY.apply(Map.of(target, sha1))) {
+            assertTrue(InstallMode.isPlaced(source, target));
+            assertEquals(sha1, InstallMode.placedChecksum(target));
+
+            Files.writeString(source, "changed");
+            Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+            assertFalse(InstallMode.isPlaced(source, target));
+        }
+        assertNull(InstallMode.placedChecksum(target));
+    }
+}
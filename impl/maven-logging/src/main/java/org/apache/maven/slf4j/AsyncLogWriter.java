@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.helpers.Reporter;
+
+/**
+ * Asynchronous log writer: logging threads enqueue pre-formatted records into a bounded, lock-free
+ * multi-producer single-consumer ring buffer, and a single writer thread drains it, handing batches
+ * of records joined by line separators to the delegate. When the buffer is full, producers wait for the
+ * writer to catch up, records are never dropped.
+ * <p>
+ * Records are written in the order they were enqueued. {@link #flush()} blocks until all records enqueued
+ * before the call are written, {@link #close()} flushes and stops the writer thread. Once closing started, records
+ * are written synchronously to the delegate, so that none is enqueued after the final drain, but only once the writer
+ * thread is done, so that they follow the records enqueued before. The owner of a writer must close it, there is no
+ * shutdown hook.
+ *
+ * @since 4.1.0
+ */
+public class AsyncLogWriter implements Consumer<String>, AutoCloseable {
+
+    /**
+     * The default buffer capacity, in records.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int MAX_BATCH = 256;
+
+    private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final Set<AsyncLogWriter> ACTIVE = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Flushes all open writers, used when a record must be visible before the build reacts on it,
+     * like when the {@code --fail-on-severity} threshold is met.
+     */
+    public static void flushAll() {
+        ACTIVE.forEach(AsyncLogWriter::flush);
+    }
+
+    /**
+     * Closes all open writers, used when the logging is shut down.
+     */
+    public static void closeAll() {
+        ACTIVE.forEach(AsyncLogWriter::close);
+    }
+
+    private final Consumer<String> delegate;
+    private final AtomicReferenceArray<String> records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicBoolean writerParked = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private final AtomicInteger producers = new AtomicInteger();
+    private final Thread writer;
+
+    private long head;
+    private volatile long written;
+    private volatile boolean closed;
+
+    public AsyncLogWriter(Consumer<String> delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param delegate the consumer receiving batches of records, called from the writer thread until closed
+     * @param capacity the buffer capacity in records, rounded up to the next power of two
+     */
+    public AsyncLogWriter(Consumer<String> delegate, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.records = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.writer = new Thread(this::drainLoop, "maven-log-writer");
+        this.writer.setDaemon(true);
+        ACTIVE.add(this);
+        this.writer.start();
+    }
+
+    @Override
+    public void accept(String record) {
+        producers.incrementAndGet();
+        try {
+            // checked after registering as a producer, so close() either sees this producer or is seen here
+            if (!closing.get()) {
+                while (!offer(record)) {
+                    // buffer is full: back off until the writer made room
+                    wakeWriter();
+                    LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+                }
+                wakeWriter();
+                return;
+            }
+        } finally {
+            producers.decrementAndGet();
+        }
+        if (Thread.currentThread() != writer) {
+            awaitWriter();
+        }
+        synchronized (delegate) {
+            delegate.accept(record);
+        }
+    }
+
+    /**
+     * Waits for the writer thread to drain the buffer and stop, which it does once {@link #close()} flushed it.
+     */
+    private void awaitWriter() {
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    boolean isClosed() {
+        return closing.get();
+    }
+
+    /**
+     * Blocks until every record enqueued before this call has been handed to the delegate.
+     */
+    public void flush() {
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+        long target = tail.get();
+        while (written < target && writer.isAlive()) {
+            wakeWriter();
+            LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        // wait for the producers which did not see the closing to publish their records
+        while (producers.get() > 0) {
+            wakeWriter();
+            LockSupport.parkNanos(this, WAIT_PARK_NANOS);
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ACTIVE.remove(this);
+    }
+
+    private boolean offer(String record) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                long witness = tail.compareAndExchange(pos, pos + 1);
+                if (witness == pos) {
+                    records.set(index, record);
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = witness;
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    private String poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        String record = records.get(index);
+        records.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return record;
+    }
+
+    private void wakeWriter() {
+        if (writerParked.get() && writerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(4096);
+        String lineSeparator = System.lineSeparator();
+        while (true) {
+            batch.setLength(0);
+            int count = 0;
+            String record;
+            while (count < MAX_BATCH && (record = poll()) != null) {
+                if (count++ > 0) {
+                    batch.append(lineSeparator);
+                }
+                batch.append(record);
+            }
+            if (count > 0) {
+                try {
+                    synchronized (delegate) {
+                        delegate.accept(batch.toString());
+                    }
+                } catch (RuntimeException e) {
+                    Reporter.error("Could not write log records", e);
+                }
+                written = head;
+            } else if (closed) {
+                return;
+            } else {
+                writerParked.set(true);
+                if (sequences.get((int) (head & mask)) != head + 1) {
+                    // a record was published while going to sleep
+                    writerParked.set(false);
+                } else {
+                    LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+                    writerParked.set(false);
+                }
+            }
+        }
+    }
+}
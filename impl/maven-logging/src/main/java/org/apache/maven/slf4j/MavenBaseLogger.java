@@ -18,6 +18,7 @@
  */
 package org.apache.maven.slf4j;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -224,6 +225,12 @@ String recursivelyComputeLevelString() {
      * @param t     The Throwable object whose stack trace should be written, may be null
      */
     protected void write(StringBuilder buf, Throwable t) {
+        AsyncLogWriter asyncWriter = CONFIG_PARAMS.getAsyncWriter();
+        if (asyncWriter != null) {
+            asyncWriter.accept(render(buf, t));
+            return;
+        }
+
         PrintStream targetStream = CONFIG_PARAMS.outputChoice.getTargetPrintStream();
 
         synchronized (CONFIG_PARAMS) {
@@ -232,6 +239,22 @@ protected void write(StringBuilder buf, Throwable t) {
         }
     }
 
+    /**
+     * Renders the message and the stack trace as a single record, so the asynchronous writer cannot
+     * intermingle them with other messages either.
+     */
+    private String render(StringBuilder buf, Throwable t) {
+        if (t == null) {
+            return buf.toString();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream stream = new PrintStream(out, false);
+        stream.println(buf);
+        writeThrowable(t, stream);
+        stream.flush();
+        return out.toString().stripTrailing();
+    }
+
     protected void writeThrowable(Throwable t, PrintStream targetStream) {
         if (t != null) {
             t.printStackTrace(targetStream);
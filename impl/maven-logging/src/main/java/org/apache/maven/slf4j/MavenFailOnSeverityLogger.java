@@ -39,7 +39,7 @@ public class MavenFailOnSeverityLogger extends MavenSimpleLogger {
     @Override
     public void warn(String msg) {
         super.warn(msg);
-        logLevelRecorder.record(Level.WARN);
+        record(Level.WARN);
     }
 
     /**
@@ -49,7 +49,7 @@ public void warn(String msg) {
     @Override
     public void warn(String format, Object arg) {
         super.warn(format, arg);
-        logLevelRecorder.record(Level.WARN);
+        record(Level.WARN);
     }
 
     /**
@@ -59,7 +59,7 @@ public void warn(String format, Object arg) {
     @Override
     public void warn(String format, Object arg1, Object arg2) {
         super.warn(format, arg1, arg2);
-        logLevelRecorder.record(Level.WARN);
+        record(Level.WARN);
     }
 
     /**
@@ -69,14 +69,14 @@ public void warn(String format, Object arg1, Object arg2) {
     @Override
     public void warn(String format, Object... argArray) {
         super.warn(format, argArray);
-        logLevelRecorder.record(Level.WARN);
+        record(Level.WARN);
     }
 
     /** Log a message of level WARN, including an exception. */
     @Override
     public void warn(String msg, Throwable t) {
         super.warn(msg, t);
-        logLevelRecorder.record(Level.WARN);
+        record(Level.WARN);
     }
 
     /**
@@ -86,7 +86,7 @@ public void warn(String msg, Throwable t) {
     @Override
     public void error(String msg) {
         super.error(msg);
-        logLevelRecorder.record(Level.ERROR);
+        record(Level.ERROR);
     }
 
     /**
@@ -96,7 +96,7 @@ public void error(String msg) {
     @Override
     public void error(String format, Object arg) {
         super.error(format, arg);
-        logLevelRecorder.record(Level.ERROR);
+        record(Level.ERROR);
     }
 
     /**
@@ -106,7 +106,7 @@ public void error(String format, Object arg) {
     @Override
     public void error(String format, Object arg1, Object arg2) {
         super.error(format, arg1, arg2);
-        logLevelRecorder.record(Level.ERROR);
+        record(Level.ERROR);
     }
 
     /**
@@ -116,13 +116,25 @@ public void error(String format, Object arg1, Object arg2) {
     @Override
     public void error(String format, Object... argArray) {
         super.error(format, argArray);
-        logLevelRecorder.record(Level.ERROR);
+        record(Level.ERROR);
     }
 
     /** Log a message of level ERROR, including an exception. */
     @Override
     public void error(String msg, Throwable t) {
         super.error(msg, t);
-        logLevelRecorder.record(Level.ERROR);
+        record(Level.ERROR);
+    }
+
+    /**
+     * Records the level and, when this message made the build hit the threshold, flushes the asynchronous
+     * writers so the offending message is visible before the build fails.
+     */
+    private void record(Level level) {
+        boolean metBefore = logLevelRecorder.metThreshold();
+        logLevelRecorder.record(level);
+        if (!metBefore && logLevelRecorder.metThreshold()) {
+            AsyncLogWriter.flushAll();
+        }
     }
 }
@@ -86,6 +86,11 @@ public class SimpleLoggerConfiguration {
     private static final boolean CACHE_OUTPUT_STREAM_DEFAULT = false;
     private boolean cacheOutputStream = CACHE_OUTPUT_STREAM_DEFAULT;
 
+    private static final boolean ASYNC_DEFAULT = false;
+    private boolean async = ASYNC_DEFAULT;
+    private int asyncBufferSize = AsyncLogWriter.DEFAULT_CAPACITY;
+    private volatile AsyncLogWriter asyncWriter;
+
     private static final String WARN_LEVELS_STRING_DEFAULT = "WARN";
     String warnLevelString = WARN_LEVELS_STRING_DEFAULT;
 
@@ -119,6 +124,19 @@ void init() {
         cacheOutputStream = getBooleanProperty(Constants.MAVEN_LOGGER_CACHE_OUTPUT_STREAM, CACHE_OUTPUT_STREAM_DEFAULT);
         outputChoice = computeOutputChoice(logFile, cacheOutputStream);
 
+        async = getBooleanProperty(Constants.MAVEN_LOGGER_ASYNC, ASYNC_DEFAULT);
+        asyncBufferSize = getIntProperty(Constants.MAVEN_LOGGER_ASYNC_BUFFER_SIZE, AsyncLogWriter.DEFAULT_CAPACITY);
+        if (asyncBufferSize <= 0) {
+            Reporter.error("Bad value for " + Constants.MAVEN_LOGGER_ASYNC_BUFFER_SIZE + ": " + asyncBufferSize
+                    + ", must be positive; using " + AsyncLogWriter.DEFAULT_CAPACITY);
+            asyncBufferSize = AsyncLogWriter.DEFAULT_CAPACITY;
+        }
+        AsyncLogWriter previous = asyncWriter;
+        asyncWriter = null;
+        if (previous != null) {
+            previous.close();
+        }
+
         if (dateTimeFormatStr != null) {
             try {
                 dateFormatter = DateTimeFormatter.ofPattern(dateTimeFormatStr);
@@ -175,6 +193,41 @@ boolean getBooleanProperty(String name, boolean defaultValue) {
         return (prop == null) ? defaultValue : "true".equalsIgnoreCase(prop);
     }
 
+    int getIntProperty(String name, int defaultValue) {
+        String prop = getStringProperty(name);
+        if (prop != null) {
+            try {
+                return Integer.parseInt(prop.trim());
+            } catch (NumberFormatException e) {
+                Reporter.error("Bad integer value for " + name + ": " + prop + "; using " + defaultValue, e);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the asynchronous writer to the output choice, created on first use and again once closed, or
+     * {@code null} if asynchronous logging is not enabled.
+     */
+    AsyncLogWriter getAsyncWriter() {
+        if (!async) {
+            return null;
+        }
+        AsyncLogWriter writer = asyncWriter;
+        if (writer == null || writer.isClosed()) {
+            synchronized (this) {
+                writer = asyncWriter;
+                if (writer == null || writer.isClosed()) {
+                    OutputChoice choice = outputChoice;
+                    writer = new AsyncLogWriter(
+                            s -> choice.getTargetPrintStream().println(s), asyncBufferSize);
+                    asyncWriter = writer;
+                }
+            }
+        }
+        return writer;
+    }
+
     String getStringProperty(String name) {
         String prop = null;
         try {
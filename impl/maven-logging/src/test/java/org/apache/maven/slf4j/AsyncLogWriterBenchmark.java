@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of logging contention with 32 threads, as with {@code -T 32}: compares the synchronized
+ * write of {@link MavenBaseLogger} with the {@link AsyncLogWriter} on an output stream that costs some
+ * work per write call, like a console does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Threads(32)
+public class AsyncLogWriterBenchmark {
+
+    private static final String RECORD = "[INFO] --- compiler:3.14.0:compile (default-compile) @ maven-core ---";
+
+    private PrintStream console;
+    private AsyncLogWriter asyncWriter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        console = new PrintStream(
+                new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                        Blackhole.consumeCPU(1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        // a write syscall has a fixed cost plus a per-byte cost
+                        Blackhole.consumeCPU(500 + len);
+                    }
+                },
+                true);
+        asyncWriter = new AsyncLogWriter(console::println);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncWriter.close();
+    }
+
+    /**
+     * The current behavior: every thread writes under a single monitor.
+     */
+    @Benchmark
+    public void synchronizedWrite() {
+        synchronized (this) {
+            console.println(RECORD);
+        }
+    }
+
+    /**
+     * Threads only enqueue, a single writer thread writes batches.
+     */
+    @Benchmark
+    public void asyncWrite() {
+        asyncWriter.accept(RECORD);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.maven.api.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLogWriterTest {
+
+    private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+    private void write(String batch) {
+        lines.addAll(Arrays.asList(batch.split(System.lineSeparator())));
+    }
+
+    @Test
+    void flushWritesAllRecordsInOrder() {
+        try (AsyncLogWriter writer = new AsyncLogWriter(this::write, 16)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.accept("line " + i);
+            }
+            writer.flush();
+
+            assertEquals(1000, lines.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("line " + i, lines.get(i));
+            }
+        }
+    }
+
+    @Test
+    void closeDrainsAndThenWritesSynchronously() {
+        AsyncLogWriter writer = new AsyncLogWriter(this::write);
+        writer.accept("before close");
+        writer.close();
+        assertEquals(List.of("before close"), lines);
+
+        writer.accept("after close");
+        assertEquals(List.of("before close", "after close"), lines);
+    }
+
+    @Test
+    void recordsWrittenWhileClosingFollowTheEnqueuedOnes() throws InterruptedException {
+        AsyncLogWriter writer = new AsyncLogWriter(
+                batch -> {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    write(batch);
+                },
+                16);
+        for (int i = 0; i < 200; i++) {
+            writer.accept("line " + i);
+        }
+        Thread closer = new Thread(writer::close);
+        closer.start();
+        while (!writer.isClosed()) {
+            Thread.onSpinWait();
+        }
+        writer.accept("after close");
+        closer.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertEquals(201, lines.size());
+        assertEquals("after close", lines.get(200));
+    }
+
+    @Test
+    void producersRacingWithCloseDoNotLoseRecords() throws InterruptedException {
+        int threads = 4;
+        int perThread = 2000;
+        AsyncLogWriter writer = new AsyncLogWriter(this::write, 16);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String prefix = "t" + t + "-";
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    writer.accept(prefix + i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        writer.close();
+        for (Thread producer : producers) {
+            producer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        assertEquals(threads * perThread, lines.size());
+    }
+
+    @Test
+    void concurrentProducersDoNotLoseRecords() throws InterruptedException {
+        int threads = 8;
+        int perThread = 5000;
+        CountDownLatch start = new CountDownLatch(1);
+        try (AsyncLogWriter writer = new AsyncLogWriter(this::write, 64)) {
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String prefix = "t" + t + "-";
+                Thread producer = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        writer.accept(prefix + i);
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+            start.countDown();
+            for (Thread producer : producers) {
+                producer.join(TimeUnit.SECONDS.toMillis(30));
+            }
+            writer.flush();
+        }
+
+        assertEquals(threads * perThread, lines.size());
+        // records of a single producer keep their order
+        for (int t = 0; t < threads; t++) {
+            String prefix = "t" + t + "-";
+            int expected = 0;
+            for (String line : lines) {
+                if (line.startsWith(prefix)) {
+                    assertEquals(prefix + expected++, line);
+                }
+            }
+            assertEquals(perThread, expected);
+        }
+    }
+
+    @Test
+    void loggerWritesMessageAndStackTraceAsOneRecord() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream originalErr = System.err;
+        System.setErr(new PrintStream(output, true));
+        System.setProperty(Constants.MAVEN_LOGGER_ASYNC, "true");
+        try {
+            MavenBaseLogger.CONFIG_PARAMS.init();
+            MavenBaseLogger logger = new MavenBaseLogger("test.async");
+            logger.error("failed", new IllegalStateException("boom"));
+            AsyncLogWriter.flushAll();
+
+            String[] written = output.toString().split(System.lineSeparator());
+            assertTrue(written[0].endsWith("ERROR test.async - failed"), written[0]);
+            assertEquals("java.lang.IllegalStateException: boom", written[1]);
+        } finally {
+            System.clearProperty(Constants.MAVEN_LOGGER_ASYNC);
+            MavenBaseLogger.CONFIG_PARAMS.init();
+            System.setErr(originalErr);
+        }
+    }
+}